@@ -4,19 +4,25 @@ import com.mg.nmlonline.api.dto.AdminMovementOrderDto;
 import com.mg.nmlonline.api.dto.MovementResolutionResultDto;
 import com.mg.nmlonline.api.dto.BoardDto;
 import com.mg.nmlonline.api.dto.PlayerDto;
+import com.mg.nmlonline.api.dto.TurnJobDto;
+import com.mg.nmlonline.api.dto.TurnReportDto;
 import com.mg.nmlonline.domain.model.board.Board;
 import com.mg.nmlonline.domain.model.movement.MovementStatus;
 import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.domain.service.AdminService;
+import com.mg.nmlonline.domain.service.BattleTraceService;
 import com.mg.nmlonline.domain.service.BoardAssetStorageService;
 import com.mg.nmlonline.domain.service.BoardService;
 import com.mg.nmlonline.domain.service.MovementAdminService;
 import com.mg.nmlonline.domain.service.PlayerService;
+import com.mg.nmlonline.domain.service.TurnJobService;
 import com.mg.nmlonline.domain.service.TurnService;
+import com.mg.nmlonline.mapper.BattleMapper;
 import com.mg.nmlonline.mapper.BoardMapper;
 import com.mg.nmlonline.mapper.PlayerMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -47,7 +53,10 @@ public class AdminController {
     private final BoardMapper boardMapper;
     private final BoardAssetStorageService boardAssetStorageService;
     private final TurnService turnService;
+    private final TurnJobService turnJobService;
     private final MovementAdminService movementAdminService;
+    private final BattleTraceService battleTraceService;
+    private final BattleMapper battleMapper;
 
     public AdminController(AdminService adminService,
                            PlayerService playerService,
@@ -56,7 +65,10 @@ public class AdminController {
                            BoardMapper boardMapper,
                            BoardAssetStorageService boardAssetStorageService,
                            TurnService turnService,
-                           MovementAdminService movementAdminService) {
+                           TurnJobService turnJobService,
+                           MovementAdminService movementAdminService,
+                           BattleTraceService battleTraceService,
+                           BattleMapper battleMapper) {
         this.adminService = adminService;
         this.playerService = playerService;
         this.playerMapper = playerMapper;
@@ -64,7 +76,10 @@ public class AdminController {
         this.boardMapper = boardMapper;
         this.boardAssetStorageService = boardAssetStorageService;
         this.turnService = turnService;
+        this.turnJobService = turnJobService;
         this.movementAdminService = movementAdminService;
+        this.battleTraceService = battleTraceService;
+        this.battleMapper = battleMapper;
     }
 
     /**
@@ -161,17 +176,38 @@ public class AdminController {
     }
 
     /**
-     * Termine le tour courant : résout les ordres de déplacement PENDING puis
-     * incrémente le compteur. Retourne le nouveau numéro de tour.
+     * Termine le tour courant dans la requête : étapes de fin de tour (déplacements,
+     * batailles, revenus, bâtiments, statistiques) puis incrément du compteur. Retourne le
+     * nouveau numéro de tour et le compte-rendu des batailles par secteur.
      *
-     * <p>ponytail: déclenchement manuel admin — remplacé plus tard par un scheduler
-     * automatique end-of-turn (avec calcul des revenus/effets de bâtiments).
+     * <p>Pour un gros tour, préférer {@link #submitTurnJob()} (pas de timeout HTTP).
      */
     @PostMapping("/turn/next")
-    public Map<String, Object> advanceTurn() {
-        int newTurn = turnService.advanceTurn();
-        logger.info("[ADMIN] Tour avancé -> {}", newTurn);
-        return Map.of("currentTurn", newTurn);
+    public TurnReportDto advanceTurn() {
+        TurnService.TurnResult result = turnService.endTurn();
+        logger.info("[ADMIN] Tour avancé -> {} ({} secteur(s) disputé(s))",
+                result.currentTurn(), result.battles().size());
+        return battleMapper.toTurnReportDto(result);
+    }
+
+    /**
+     * Soumet la fin du tour courant en tâche de fond : 202 avec l'identifiant du job, à
+     * suivre via {@link #getTurnJob(long)}. 400 si une fin de tour soumise est encore en cours.
+     */
+    @PostMapping("/turn/jobs")
+    public ResponseEntity<TurnJobDto> submitTurnJob() {
+        TurnJobDto job = battleMapper.toTurnJobDto(turnJobService.submit());
+        logger.info("[ADMIN] Fin de tour soumise (job {})", job.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Avancement d'une fin de tour soumise : étape en cours, pourcentage, étapes terminées
+     * et, une fois réussie, le compte-rendu. 404 si le job est inconnu ou n'est plus conservé.
+     */
+    @GetMapping("/turn/jobs/{id}")
+    public TurnJobDto getTurnJob(@PathVariable long id) {
+        return battleMapper.toTurnJobDto(turnJobService.get(id));
     }
 
     // ==========================================================
@@ -216,4 +252,17 @@ public class AdminController {
                 report.getResolved().size(), report.getBlocked().size(), report.getConflicts().size());
         return report;
     }
+
+    // ==========================================================
+    // === BATAILLES (admin) =====================================
+    // ==========================================================
+
+    /**
+     * Trace texte d'une bataille récente (salves, esquives, coups, destructions).
+     * 404 si la bataille est inconnue ou n'est plus conservée.
+     */
+    @GetMapping(value = "/battles/{id}/trace", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String getBattleTrace(@PathVariable long id) {
+        return battleTraceService.renderTrace(id);
+    }
 }
@@ -1,10 +1,15 @@
 package com.mg.nmlonline.api.controller;
 
 import com.mg.nmlonline.api.dto.BoardDto;
+import com.mg.nmlonline.api.dto.SectorDistanceDto;
 import com.mg.nmlonline.domain.model.board.Board;
 import com.mg.nmlonline.domain.service.BoardService;
+import com.mg.nmlonline.domain.service.BoardSnapshotService;
 import com.mg.nmlonline.mapper.BoardMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,42 +31,49 @@ public class BoardController {
 
     private final BoardService boardService;
     private final BoardMapper boardMapper;
+    private final BoardSnapshotService boardSnapshotService;
 
-    public BoardController(BoardService boardService, BoardMapper boardMapper) {
+    public BoardController(BoardService boardService, BoardMapper boardMapper,
+                           BoardSnapshotService boardSnapshotService) {
         this.boardService = boardService;
         this.boardMapper = boardMapper;
+        this.boardSnapshotService = boardSnapshotService;
     }
 
     /**
-     * Récupère toutes les boards
+     * Récupère toutes les boards (instantané publié, voir {@link BoardSnapshotService})
      */
     @GetMapping
     public ResponseEntity<List<BoardDto>> getAllBoards() {
-        List<BoardDto> boards = boardService.getAllBoards().stream()
-                .map(boardMapper::toDto)
+        List<BoardDto> boards = boardSnapshotService.getAll().stream()
+                .map(BoardSnapshotService.BoardSnapshot::board)
                 .toList();
         return ResponseEntity.ok(boards);
     }
 
     /**
-     * Récupère une board par son ID
+     * Récupère une board par son ID : JSON de l'instantané publié, sérialisé une fois par
+     * version, avec ETag fort ({@code If-None-Match} identique : 304 sans corps) et variante gzip
+     * si le client l'accepte.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BoardDto> getBoardById(@PathVariable("id") Long id) {
-        return boardService.getBoardById(id)
-                .map(boardMapper::toDto)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getBoardById(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return boardSnapshotService.getById(id)
+                .map(snapshot -> serialized(snapshot, acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Récupère une board par son nom
+     * Récupère une board par son nom (même réponse que {@link #getBoardById})
      */
     @GetMapping("/name/{name}")
-    public ResponseEntity<BoardDto> getBoardByName(@PathVariable("name") String name) {
-        return boardService.getBoardByName(name)
-                .map(boardMapper::toDto)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getBoardByName(
+            @PathVariable("name") String name,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return boardSnapshotService.getByName(name)
+                .map(snapshot -> serialized(snapshot, acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -122,5 +135,60 @@ public class BoardController {
         boolean hasConflict = boardService.hasConflict(boardId, sector1, sector2);
         return ResponseEntity.ok(hasConflict);
     }
-}
 
+    /**
+     * Distance la plus courte (en sauts) entre deux secteurs
+     */
+    @GetMapping("/{boardId}/distance")
+    public ResponseEntity<SectorDistanceDto> getHopDistance(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam("from") int from,
+            @RequestParam("to") int to) {
+        return boardService.getHopDistance(boardId, from, to)
+                .map(hops -> new SectorDistanceDto(from, to, hops >= 0 ? hops : null, hops >= 0))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Octets précalculés de l'instantané. Le 304 sur {@code If-None-Match} est rendu par Spring
+     * MVC à partir de l'ETag ; {@code no-cache} autorise le navigateur à garder la réponse tant
+     * qu'il la revalide.
+     */
+    private static ResponseEntity<byte[]> serialized(BoardSnapshotService.BoardSnapshot snapshot,
+                                                     String acceptEncoding) {
+        boolean gzip = snapshot.gzipJson() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag(gzip))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? snapshot.gzipJson() : snapshot.json());
+    }
+
+    /** {@code Accept-Encoding} accepte {@code gzip} (nommé ou via {@code *}, sans {@code q=0}). */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                refused |= parts[i].replace(" ", "").matches("(?i)q=0(\\.0{0,3})?");
+            }
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                return !refused;
+            }
+            if (name.equals("*")) {
+                wildcard = !refused;
+            }
+        }
+        return wildcard;
+    }
+}
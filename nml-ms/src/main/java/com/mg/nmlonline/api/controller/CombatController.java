@@ -0,0 +1,39 @@
+package com.mg.nmlonline.api.controller;
+
+import com.mg.nmlonline.api.dto.BattleForecastDto;
+import com.mg.nmlonline.api.dto.BattleForecastRequestDto;
+import com.mg.nmlonline.domain.service.BattleForecastService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Endpoints liés aux combats.
+ */
+@RestController
+@RequestMapping("/api/combat")
+public class CombatController {
+
+    private final BattleForecastService battleForecastService;
+
+    public CombatController(BattleForecastService battleForecastService) {
+        this.battleForecastService = battleForecastService;
+    }
+
+    /**
+     * Prévision de l'attaque du joueur authentifié contre un autre joueur : probabilités
+     * de victoire, pertes moyennes par type d'unité et survivants par centile, sur des
+     * simulations qui ne modifient aucune unité.
+     */
+    @PostMapping("/forecast")
+    public ResponseEntity<BattleForecastDto> forecast(@Valid @RequestBody BattleForecastRequestDto request,
+                                                      HttpServletRequest httpRequest) {
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(battleForecastService.forecast(
+                userId, request.getDefenderPlayerId(), request.getIterations()));
+    }
+}
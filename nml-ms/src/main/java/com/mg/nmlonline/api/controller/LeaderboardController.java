@@ -0,0 +1,38 @@
+package com.mg.nmlonline.api.controller;
+
+import com.mg.nmlonline.api.dto.LeaderboardDto;
+import com.mg.nmlonline.domain.service.LeaderboardService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Classements des joueurs.
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Classement selon {@code metric} ({@code global_power}, {@code economy_power},
+     * {@code income}, {@code territory}) : les {@code limit} premiers et les {@code radius}
+     * joueurs autour du joueur authentifié.
+     */
+    @GetMapping
+    public ResponseEntity<LeaderboardDto> leaderboard(@RequestParam(defaultValue = "global_power") String metric,
+                                                      @RequestParam(defaultValue = "10") int limit,
+                                                      @RequestParam(defaultValue = "2") int radius,
+                                                      HttpServletRequest request) {
+        Long userId = (Long) request.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(leaderboardService.leaderboard(metric, limit, radius, userId));
+    }
+}
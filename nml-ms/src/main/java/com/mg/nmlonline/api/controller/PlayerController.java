@@ -4,11 +4,13 @@ import com.mg.nmlonline.api.dto.BuyEquipmentItemDto;
 import com.mg.nmlonline.api.dto.PlayerDto;
 import com.mg.nmlonline.api.dto.ResourceBatchSaleResponseDto;
 import com.mg.nmlonline.api.dto.ResourceSaleResponseDto;
+import com.mg.nmlonline.api.dto.SectorDto;
 import com.mg.nmlonline.api.dto.SellResourceBatchRequestDto;
 import com.mg.nmlonline.domain.exception.InsufficientFundsException;
 import com.mg.nmlonline.domain.model.board.Board;
 import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.domain.service.BoardService;
+import com.mg.nmlonline.domain.service.BoardSnapshotService;
 import com.mg.nmlonline.domain.service.PlayerService;
 import com.mg.nmlonline.domain.service.ResourceService;
 import com.mg.nmlonline.mapper.PlayerMapper;
@@ -26,24 +28,34 @@ import java.util.List;
 @RequestMapping("/api/players")
 public class PlayerController {
 
+    /** Version de l'instantané du plateau dont proviennent les secteurs de la réponse. */
+    static final String BOARD_VERSION_HEADER = "X-Board-Version";
+
     private final PlayerService playerService;
     private final PlayerMapper playerMapper;
     private final BoardService boardService;
+    private final BoardSnapshotService boardSnapshotService;
     private final ResourceService resourceService;
 
     public PlayerController(PlayerService playerService, PlayerMapper playerMapper,
-                          BoardService boardService, ResourceService resourceService) {
+                          BoardService boardService, BoardSnapshotService boardSnapshotService,
+                          ResourceService resourceService) {
         this.playerService = playerService;
         this.playerMapper = playerMapper;
         this.boardService = boardService;
+        this.boardSnapshotService = boardSnapshotService;
         this.resourceService = resourceService;
     }
 
+    /**
+     * Joueurs paginés, avec leurs secteurs lus dans l'instantané publié du plateau.
+     */
     @GetMapping
-    public Page<PlayerDto> findAll(Pageable pageable) {
-        Board board = boardService.getAllBoards().stream().findFirst().orElse(null);
-        return playerService.findAll(pageable)
-                .map(player -> playerMapper.toDtoWithSectors(player, board));
+    public ResponseEntity<Page<PlayerDto>> findAll(Pageable pageable) {
+        BoardSnapshotService.BoardSnapshot snapshot = boardSnapshotService.getFirst().orElse(null);
+        Page<PlayerDto> players = playerService.findAll(pageable)
+                .map(player -> playerMapper.toDtoWithSectors(player, sectorsOf(snapshot, player)));
+        return withBoardVersion(ResponseEntity.ok(), snapshot).body(players);
     }
 
     @GetMapping("/{name}")
@@ -52,8 +64,18 @@ public class PlayerController {
         if (player == null) {
             return ResponseEntity.notFound().build();
         }
-        Board board = boardService.getAllBoards().stream().findFirst().orElse(null);
-        return ResponseEntity.ok(playerMapper.toDtoWithSectors(player, board));
+        BoardSnapshotService.BoardSnapshot snapshot = boardSnapshotService.getFirst().orElse(null);
+        return withBoardVersion(ResponseEntity.ok(), snapshot)
+                .body(playerMapper.toDtoWithSectors(player, sectorsOf(snapshot, player)));
+    }
+
+    private static List<SectorDto> sectorsOf(BoardSnapshotService.BoardSnapshot snapshot, Player player) {
+        return snapshot != null ? snapshot.sectorsOf(player.getId()) : List.of();
+    }
+
+    private static ResponseEntity.BodyBuilder withBoardVersion(ResponseEntity.BodyBuilder response,
+                                                               BoardSnapshotService.BoardSnapshot snapshot) {
+        return snapshot != null ? response.header(BOARD_VERSION_HEADER, String.valueOf(snapshot.version())) : response;
     }
 
     /**
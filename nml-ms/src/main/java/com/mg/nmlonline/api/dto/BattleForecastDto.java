@@ -0,0 +1,37 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Prévision d'une bataille par simulations répétées (voir
+ * {@link com.mg.nmlonline.domain.service.BattleForecastService}).
+ *
+ * <p>Les probabilités des quatre issues somment à 1. Les pertes moyennes sont indexées par
+ * type d'unité ; les survivants sont donnés aux centiles 10, 50 et 90.
+ */
+@Data
+public class BattleForecastDto {
+    private int attackerSectorNumber;
+    private int defenderSectorNumber;
+    private int attackerUnits;
+    private int defenderUnits;
+
+    /** Simulations demandées (après plafonnement) et simulations effectivement jouées. */
+    private int requestedIterations;
+    private int iterations;
+    /** Vrai si le budget de latence a interrompu les simulations avant leur terme. */
+    private boolean truncated;
+
+    private double attackerWinProbability;
+    private double defenderWinProbability;
+    private double mutualDestructionProbability;
+    private double stalemateProbability;
+
+    private Map<String, Double> expectedAttackerCasualties;
+    private Map<String, Double> expectedDefenderCasualties;
+
+    private SurvivorPercentilesDto attackerSurvivors;
+    private SurvivorPercentilesDto defenderSurvivors;
+}
@@ -0,0 +1,19 @@
+package com.mg.nmlonline.api.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Corps de requête d'une prévision de bataille : le joueur authentifié attaque
+ * {@code defenderPlayerId}. Sans {@code iterations}, le nombre de simulations par défaut
+ * est utilisé ; au-delà du plafond configuré, il est ramené au plafond.
+ */
+@Data
+public class BattleForecastRequestDto {
+    @NotNull
+    private Long defenderPlayerId;
+
+    @Min(1)
+    private Integer iterations;
+}
@@ -0,0 +1,20 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+/**
+ * DTO d'une bataille de fin de tour (mirror du record
+ * {@link com.mg.nmlonline.domain.model.battle.BattleReport}). {@code battleId} permet de
+ * consulter la trace via {@code GET /api/admin/battles/{id}/trace}.
+ */
+@Data
+public class BattleReportDto {
+    private long battleId;
+    private Long attackerPlayerId;
+    private Long defenderPlayerId;
+    private String outcome;
+    private int attackersBefore;
+    private int attackersAfter;
+    private int defendersBefore;
+    private int defendersAfter;
+}
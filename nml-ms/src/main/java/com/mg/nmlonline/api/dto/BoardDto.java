@@ -10,5 +10,8 @@ public class BoardDto {
     private String mapImageUrl;
     private String svgOverlayUrl;
     private Map<Integer, SectorDto> sectors;
+
+    // Version de l'instantané publié (null hors instantané, ex : réponse d'une création)
+    private Long version;
 }
 
@@ -0,0 +1,19 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classement selon un critère : les premiers, et les joueurs autour du joueur authentifié.
+ */
+@Data
+public class LeaderboardDto {
+    private String metric;
+    private int totalPlayers;
+    /** Rang du joueur authentifié (à partir de 1), 0 s'il n'est pas classé. */
+    private int myRank;
+    private List<LeaderboardEntryDto> top = new ArrayList<>();
+    private List<LeaderboardEntryDto> around = new ArrayList<>();
+}
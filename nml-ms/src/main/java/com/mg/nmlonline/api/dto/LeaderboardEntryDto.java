@@ -0,0 +1,18 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Une ligne du classement : rang (à partir de 1), joueur et score.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+    private int rank;
+    private Long playerId;
+    private String playerName;
+    private double score;
+}
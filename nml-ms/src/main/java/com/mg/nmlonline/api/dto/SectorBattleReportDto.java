@@ -0,0 +1,18 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO des batailles livrées sur un secteur disputé en fin de tour (mirror du record
+ * {@link com.mg.nmlonline.domain.model.battle.SectorBattleReport}).
+ */
+@Data
+public class SectorBattleReportDto {
+    private int sectorNumber;
+    private Long previousOwnerId;
+    private Long ownerId;
+    private boolean ownerChanged;
+    private List<BattleReportDto> battles;
+}
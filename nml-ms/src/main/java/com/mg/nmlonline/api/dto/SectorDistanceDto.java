@@ -0,0 +1,19 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Distance en nombre de sauts entre deux secteurs d'un plateau.
+ * {@code hops} est null (et {@code reachable} faux) si un secteur n'existe pas ou s'ils ne sont pas reliés.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorDistanceDto {
+    private int from;
+    private int to;
+    private Integer hops;
+    private boolean reachable;
+}
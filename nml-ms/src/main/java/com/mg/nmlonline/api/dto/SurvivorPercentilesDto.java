@@ -0,0 +1,17 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nombre de survivants d'un camp aux centiles 10, 50 et 90 d'une série de simulations.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurvivorPercentilesDto {
+    private int p10;
+    private int p50;
+    private int p90;
+}
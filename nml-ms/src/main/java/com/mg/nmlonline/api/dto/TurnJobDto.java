@@ -0,0 +1,27 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suivi d'une fin de tour asynchrone : statut, étape en cours, avancement et étapes terminées.
+ */
+@Data
+public class TurnJobDto {
+    private long id;
+    /** QUEUED, RUNNING, SUCCEEDED ou FAILED. */
+    private String status;
+    /** Étape en cours, null hors exécution. */
+    private String currentStage;
+    private int percent;
+    private List<TurnJobStageDto> completedStages = new ArrayList<>();
+    /** Compte-rendu de fin de tour, null tant que le job n'a pas réussi. */
+    private TurnReportDto result;
+    private String error;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,13 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+/**
+ * Étape terminée d'une fin de tour asynchrone.
+ */
+@Data
+public class TurnJobStageDto {
+    private String stage;
+    private int entities;
+    private long durationMs;
+}
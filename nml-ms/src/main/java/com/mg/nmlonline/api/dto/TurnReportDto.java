@@ -0,0 +1,14 @@
+package com.mg.nmlonline.api.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Compte-rendu de fin de tour renvoyé à l'admin : nouveau tour et batailles par secteur.
+ */
+@Data
+public class TurnReportDto {
+    private int currentTurn;
+    private List<SectorBattleReportDto> battles;
+}
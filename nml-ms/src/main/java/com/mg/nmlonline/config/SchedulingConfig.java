@@ -0,0 +1,16 @@
+package com.mg.nmlonline.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active les tâches planifiées ({@code TurnScheduler}) seulement si
+ * {@code app.turn.scheduler.enabled=true} : désactivé par défaut, la fin de tour reste
+ * manuelle (bouton admin « Finir le tour »).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.turn.scheduler.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
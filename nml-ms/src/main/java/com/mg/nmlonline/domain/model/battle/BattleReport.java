@@ -0,0 +1,14 @@
+package com.mg.nmlonline.domain.model.battle;
+
+/**
+ * Compte-rendu d'une bataille livrée en fin de tour : camps, phase de fin, effectifs avant et
+ * après, identifiant de la trace (voir {@code BattleTraceService}).
+ *
+ * <p>Une mêlée à plusieurs factions ({@link MultiPartyKernel}) donne un compte-rendu par
+ * attaquant, qui partagent issue, effectifs du défenseur et identifiant de trace.
+ */
+public record BattleReport(Long attackerPlayerId, Long defenderPlayerId, CombatKernel.Outcome outcome,
+                           int attackersBefore, int attackersAfter,
+                           int defendersBefore, int defendersAfter,
+                           long battleId) {
+}
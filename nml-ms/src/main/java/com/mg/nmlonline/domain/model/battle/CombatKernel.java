@@ -0,0 +1,202 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.domain.model.unit.Unit;
+
+import java.util.List;
+
+/**
+ * Noyau de calcul d'un combat classique, en tableaux primitifs (« struct of arrays »).
+ *
+ * <p>Les combattants sont copiés une fois par bataille dans des tableaux parallèles (attaque,
+ * PDF, PDC, défense, armure, évasion, réduction par type de dégâts). Les phases PDF/PDC/ATK
+ * s'exécutent ensuite sans allocation ni accès aux entités, puis {@link #writeBack()} reporte
+ * les statistiques et retire les pertes des listes d'origine.
+ *
+ * <p>La cible d'un tir étant toujours la dernière unité vivante, les survivants d'un camp
+ * forment toujours un préfixe de sa liste : une perte se réduit à décrémenter la taille.
+ *
+ * <p>Les règles reproduisent exactement l'implémentation historique de {@link Battle}, y compris
+ * ses particularités (sommes compensées de {@code DoubleStream.sum()}, second round PDC calculé
+ * sur les totaux joueurs, réaffectation partielle des points restants). À graine égale, le
+ * résultat est identique au bit près.
+ *
+ * <p>Les tirs n'écrivent aucun journal : si une {@link CombatTrace} est fournie, chaque salve,
+ * esquive, coup encaissé et destruction y est enregistré sous forme primitive.
+ *
+ * <p>Un noyau de simulation ({@link #simulation}) part d'un {@link Snapshot} et ne touche jamais
+ * aux entités : il sert à rejouer le même combat avec des aléas différents.
+ */
+public final class CombatKernel {
+
+    /** Phase après laquelle un combat s'est terminé. */
+    public enum Outcome {
+        PDF, PDF_ROUND_2, PDC, PDC_ROUND_2, ATK
+    }
+
+    private final CombatSide attackers;
+    private final CombatSide defenders;
+    private final CombatRandom random;
+    /** Journal du combat, {@code null} si non tracé. */
+    private final CombatTrace trace;
+    /** Noyau de simulation : aucune lecture ni écriture des entités après la copie. */
+    private final boolean detached;
+
+    public CombatKernel(List<Unit> attackerUnits, List<Unit> defenderUnits, CombatRandom random) {
+        this(attackerUnits, defenderUnits, random, null);
+    }
+
+    public CombatKernel(List<Unit> attackerUnits, List<Unit> defenderUnits, CombatRandom random, CombatTrace trace) {
+        this.attackers = new CombatSide(attackerUnits, CombatTrace.Camp.ATTACKERS.ordinal());
+        this.defenders = new CombatSide(defenderUnits, CombatTrace.Camp.DEFENDERS.ordinal());
+        this.random = random;
+        this.trace = trace;
+        this.detached = false;
+    }
+
+    private CombatKernel(Snapshot snapshot, CombatRandom random) {
+        this.attackers = new CombatSide(snapshot.attackers);
+        this.defenders = new CombatSide(snapshot.defenders);
+        this.random = random;
+        this.trace = null;
+        this.detached = true;
+    }
+
+    /**
+     * Noyau de simulation sur une copie des camps figés : {@link #run} peut être appelé sans
+     * effet sur les entités, {@link #writeBack()} est interdit. Les blessures de fin de phase ATK
+     * ne sont pas appliquées (elles n'interviennent qu'après le dernier tir et ne changent ni
+     * les survivants ni les pertes).
+     */
+    public static CombatKernel simulation(Snapshot snapshot, CombatRandom random) {
+        return new CombatKernel(snapshot, random);
+    }
+
+    /**
+     * Combat classique complet : PDF (et second round éventuel), PDC (idem), puis ATK non létale.
+     * Les statistiques ne sont reportées sur les entités que par {@link #writeBack()}.
+     *
+     * @param attackerPlayerPdc total PDC du joueur attaquant (utilisé par le second round PDC)
+     * @param defenderPlayerPdc total PDC du joueur défenseur (idem)
+     * @return la phase après laquelle le combat s'est terminé
+     */
+    public Outcome run(double attackerPlayerPdc, double defenderPlayerPdc) {
+        if (trace != null) {
+            trace.begin(attackers.size, defenders.size);
+        }
+        Outcome outcome = fight(attackerPlayerPdc, defenderPlayerPdc);
+        if (trace != null) {
+            trace.end(outcome, attackers.size, defenders.size);
+        }
+        return outcome;
+    }
+
+    private Outcome fight(double attackerPlayerPdc, double defenderPlayerPdc) {
+        exchange(DamageType.PDF, attackers.sum(DamageType.PDF), defenders.sum(DamageType.PDF));
+        if (isOver()) return Outcome.PDF;
+
+        if (attackers.sum(DamageType.PDF) > 0 || defenders.sum(DamageType.PDF) > 0) {
+            exchange(DamageType.PDF, attackers.sum(DamageType.PDF), defenders.sum(DamageType.PDF));
+            if (isOver()) return Outcome.PDF_ROUND_2;
+        }
+
+        exchange(DamageType.PDC, attackers.sum(DamageType.PDC), defenders.sum(DamageType.PDC));
+        if (isOver()) return Outcome.PDC;
+
+        if (attackers.sum(DamageType.PDC) > 0 || defenders.sum(DamageType.PDC) > 0) {
+            exchange(DamageType.PDC, attackerPlayerPdc, defenderPlayerPdc);
+            if (isOver()) return Outcome.PDC_ROUND_2;
+        }
+
+        // Phase ATK : les pertes et les unités entamées deviennent des blessés
+        double attackerPoints = attackers.sum(DamageType.ATK);
+        double defenderPoints = defenders.sum(DamageType.ATK);
+        int defendersBefore = defenders.size;
+        double attackerRemaining = phase(defenders, attackerPoints, DamageType.ATK);
+        int attackersBefore = attackers.size;
+        double defenderRemaining = phase(attackers, defenderPoints, DamageType.ATK);
+
+        if (!detached) {
+            defenders.injureSurvivors(defenders.size, defendersBefore);
+            attackers.injureSurvivors(attackers.size, attackersBefore);
+        }
+
+        attackers.reassign(attackerRemaining, DamageType.ATK);
+        defenders.reassign(defenderRemaining, DamageType.ATK);
+        return Outcome.ATK;
+    }
+
+    /**
+     * Une phase isolée : {@code points} de type {@code type} tirés sur les défenseurs.
+     *
+     * @return les points restants (négatifs si la dernière cible en a absorbé plus que prévu)
+     */
+    public double defenderPhase(double points, DamageType type) {
+        return phase(defenders, points, type);
+    }
+
+    /** Unités du camp défenseur détruites, dans l'ordre des destructions. */
+    public List<Unit> defenderCasualties() {
+        return defenders.casualties();
+    }
+
+    /** Nombre de survivants attaquants : ce sont les premières unités de la liste d'origine. */
+    public int attackerSurvivors() {
+        return attackers.size;
+    }
+
+    /** Nombre de survivants défenseurs : ce sont les premières unités de la liste d'origine. */
+    public int defenderSurvivors() {
+        return defenders.size;
+    }
+
+    public boolean isOver() {
+        return attackers.size == 0 || defenders.size == 0;
+    }
+
+    /**
+     * Reporte les statistiques sur les entités et retire les pertes des listes d'origine.
+     */
+    public void writeBack() {
+        if (detached) {
+            throw new IllegalStateException("Noyau de simulation : aucune entité à mettre à jour");
+        }
+        attackers.writeBack();
+        defenders.writeBack();
+    }
+
+    /** Échange de tirs symétrique : les points de chaque camp sont calculés avant les tirs. */
+    private void exchange(DamageType type, double attackerPoints, double defenderPoints) {
+        double attackerRemaining = phase(defenders, attackerPoints, type);
+        double defenderRemaining = phase(attackers, defenderPoints, type);
+        attackers.reassign(attackerRemaining, type);
+        defenders.reassign(defenderRemaining, type);
+    }
+
+    /** Tirs de {@code points} sur {@code target} (voir {@link CombatSide#absorb}). */
+    private double phase(CombatSide target, double points, DamageType type) {
+        return target.absorb(points, type, random, trace);
+    }
+
+    /**
+     * Deux camps copiés une fois depuis les entités, partagés en lecture par des simulations
+     * répétées (éventuellement concurrentes) : chaque {@link #simulation} ne copie que les
+     * statistiques modifiées par les tirs.
+     */
+    public static final class Snapshot {
+        private final CombatSide attackers;
+        private final CombatSide defenders;
+
+        public Snapshot(List<Unit> attackerUnits, List<Unit> defenderUnits) {
+            this.attackers = new CombatSide(List.copyOf(attackerUnits), CombatTrace.Camp.ATTACKERS.ordinal());
+            this.defenders = new CombatSide(List.copyOf(defenderUnits), CombatTrace.Camp.DEFENDERS.ordinal());
+        }
+
+        public int attackerCount() {
+            return attackers.capacity;
+        }
+
+        public int defenderCount() {
+            return defenders.capacity;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source d'aléa d'un combat.
+ *
+ * <p>Adossée à un {@link SplittableRandom} : chaque bataille possède son propre flux, sans
+ * contention entre combats résolus en parallèle. Une bataille de plateau est initialisée par
+ * (plateau, tour, secteur) via {@link #forBattle} : rejouer un tour redonne exactement les
+ * mêmes jets. {@link #split()} dérive des flux indépendants et reproductibles, par exemple
+ * pour des simulations répétées d'un même combat.
+ *
+ * <p>Non thread-safe : une instance par bataille (ou par thread après {@link #split()}).
+ */
+public final class CombatRandom {
+
+    private final SplittableRandom random;
+
+    private CombatRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Flux de la bataille livrée sur un secteur d'un plateau à un tour donné.
+     */
+    public static CombatRandom forBattle(long boardId, int turn, int sectorNumber) {
+        long seed = mix(mix(mix(boardId) ^ turn) ^ sectorNumber);
+        return new CombatRandom(new SplittableRandom(seed));
+    }
+
+    /** Flux déterministe à partir d'une graine explicite. */
+    public static CombatRandom seeded(long seed) {
+        return new CombatRandom(new SplittableRandom(seed));
+    }
+
+    /** Flux non reproductible, pour les combats hors plateau. */
+    public static CombatRandom unseeded() {
+        return new CombatRandom(new SplittableRandom());
+    }
+
+    /**
+     * Génère un nombre aléatoire entre 1 et 100 (inclus).
+     */
+    public int roll100() {
+        return random.nextInt(1, 101);
+    }
+
+    /**
+     * Nouveau flux indépendant, déterminé par l'état courant de celui-ci.
+     */
+    public CombatRandom split() {
+        return new CombatRandom(random.split());
+    }
+
+    /** Finaliseur 64 bits de SplitMix64 : répartit les bits de (plateau, tour, secteur). */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,234 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.domain.model.unit.Unit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Un camp d'un noyau de combat : tableaux parallèles indexés comme la liste d'origine. Les
+ * indices {@code [0, size)} sont les survivants.
+ *
+ * <p>Partagé par {@link CombatKernel} (deux camps) et {@link MultiPartyKernel} (N factions) :
+ * les règles de tir, de réaffectation et de blessure sont écrites une seule fois.
+ */
+final class CombatSide {
+
+    private static final int DAMAGE_TYPES = DamageType.values().length;
+
+    final List<Unit> list;
+    /** Index du camp dans la trace ({@link CombatTrace.Camp#ordinal()} pour deux camps). */
+    final int camp;
+    final Unit[] units;
+    /** Identifiants des unités ({@link CombatTrace#NO_ID} si nul), pour la trace. */
+    final long[] id;
+    final int capacity;
+    final double[] attack;
+    final double[] pdf;
+    final double[] pdc;
+    final double[] defense;
+    final double[] armor;
+    final double[] evasion;
+    /** Réduction de dégâts, {@code [type * capacity + i]}. */
+    final double[] reduction;
+    int size;
+
+    CombatSide(List<Unit> list, int camp) {
+        this.list = list;
+        this.camp = camp;
+        this.units = list.toArray(new Unit[0]);
+        this.capacity = units.length;
+        this.id = new long[capacity];
+        this.attack = new double[capacity];
+        this.pdf = new double[capacity];
+        this.pdc = new double[capacity];
+        this.defense = new double[capacity];
+        this.armor = new double[capacity];
+        this.evasion = new double[capacity];
+        this.reduction = new double[DAMAGE_TYPES * capacity];
+        this.size = capacity;
+        for (int i = 0; i < capacity; i++) {
+            load(i);
+            Long unitId = units[i].getId();
+            id[i] = unitId != null ? unitId : CombatTrace.NO_ID;
+            for (DamageType type : DamageType.values()) {
+                reduction[type.ordinal() * capacity + i] = units[i].getDamageReduction(type);
+            }
+        }
+    }
+
+    /**
+     * Copie pour simulation : les statistiques modifiées par les tirs sont dupliquées,
+     * le reste (entités, identifiants, évasion, réductions) est partagé.
+     */
+    CombatSide(CombatSide prototype) {
+        this.list = prototype.list;
+        this.camp = prototype.camp;
+        this.units = prototype.units;
+        this.id = prototype.id;
+        this.capacity = prototype.capacity;
+        this.attack = prototype.attack.clone();
+        this.pdf = prototype.pdf.clone();
+        this.pdc = prototype.pdc.clone();
+        this.defense = prototype.defense.clone();
+        this.armor = prototype.armor.clone();
+        this.evasion = prototype.evasion;
+        this.reduction = prototype.reduction;
+        this.size = prototype.size;
+    }
+
+    private void load(int i) {
+        Unit unit = units[i];
+        attack[i] = unit.getAttack();
+        pdf[i] = unit.getPdf();
+        pdc[i] = unit.getPdc();
+        defense[i] = unit.getDefense();
+        armor[i] = unit.getArmor();
+        evasion[i] = unit.getEvasion();
+    }
+
+    private void store(int i) {
+        Unit unit = units[i];
+        unit.setAttack(attack[i]);
+        unit.setPdf(pdf[i]);
+        unit.setPdc(pdc[i]);
+        unit.setDefense(defense[i]);
+        unit.setArmor(armor[i]);
+    }
+
+    double[] points(DamageType type) {
+        return switch (type) {
+            case PDF -> pdf;
+            case PDC -> pdc;
+            case ATK -> attack;
+        };
+    }
+
+    /** Somme des points des survivants (même sommation compensée que {@code DoubleStream.sum()}). */
+    double sum(DamageType type) {
+        return Arrays.stream(points(type), 0, size).sum();
+    }
+
+    /** Défense + armure restantes des survivants : poids du camp comme cible d'une mêlée. */
+    double durability() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += defense[i] + armor[i];
+        }
+        return total;
+    }
+
+    /**
+     * Boucle de tir : la dernière unité vivante encaisse jusqu'à épuisement des points.
+     * Esquive : les points correspondant à sa défense + armure sont perdus et elle reste la cible.
+     *
+     * @param trace journal du combat, {@code null} si non tracé
+     * @return les points restants (négatifs si la dernière cible en a absorbé plus que prévu)
+     */
+    double absorb(double points, DamageType type, CombatRandom random, CombatTrace trace) {
+        int t = type.ordinal();
+        if (trace != null) {
+            trace.record(CombatTrace.Event.VOLLEY, type, camp, CombatTrace.NO_ID, points);
+        }
+        while (points > 0 && size > 0) {
+            int i = size - 1;
+            double unitEvasion = evasion[i];
+            double unitArmor = armor[i];
+            double unitDefense = defense[i];
+            double resistance = reduction[t * capacity + i];
+
+            if (unitEvasion > 0 && random.roll100() <= unitEvasion) {
+                points -= (unitDefense + unitArmor);
+                if (trace != null) {
+                    trace.record(CombatTrace.Event.EVADE, type, camp, id[i], unitDefense + unitArmor);
+                }
+                continue;
+            }
+
+            double effectivePoints = points * (1 - resistance);
+            if ((unitArmor + unitDefense) <= effectivePoints) {
+                double consumed = (unitDefense + unitArmor) / (1 - resistance);
+                points -= consumed;
+                size--;
+                if (trace != null) {
+                    trace.record(CombatTrace.Event.KILL, type, camp, id[i], consumed);
+                }
+                continue;
+            }
+            if (effectivePoints <= unitArmor) {
+                armor[i] = unitArmor - effectivePoints;
+            } else {
+                armor[i] = 0;
+                defense[i] = unitDefense - (effectivePoints - unitArmor);
+            }
+            points = 0;
+            if (trace != null) {
+                trace.record(CombatTrace.Event.HIT, type, camp, id[i], effectivePoints);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Réaffecte les points restants d'un type aux survivants : tout à zéro si plus rien,
+     * inchangé si le reste couvre le total, sinon distribution dans l'ordre de la liste
+     * jusqu'à épuisement (les unités suivantes conservent leur valeur).
+     */
+    void reassign(double remaining, DamageType type) {
+        if (size == 0) return;
+        double[] values = points(type);
+        double totalMax = sum(type);
+        if (remaining <= 0) {
+            Arrays.fill(values, 0, size, 0);
+        } else if (remaining < totalMax) {
+            for (int i = 0; i < size; i++) {
+                double toAssign = Math.min(remaining, values[i]);
+                values[i] = toAssign;
+                remaining -= toAssign;
+                if (remaining <= 0) break;
+            }
+        }
+    }
+
+    /**
+     * Fin de phase ATK : un survivant devient blessé si son identifiant figure parmi les
+     * pertes de la phase ou si sa défense est entamée. Les statistiques de l'entité sont
+     * recalculées puis rechargées.
+     */
+    void injureSurvivors(int casualtiesFrom, int casualtiesTo) {
+        Set<Long> casualtyIds = new HashSet<>();
+        for (int i = casualtiesFrom; i < casualtiesTo; i++) {
+            casualtyIds.add(units[i].getId());
+        }
+        for (int i = 0; i < size; i++) {
+            Unit unit = units[i];
+            if (casualtyIds.contains(unit.getId())
+                    || (!unit.isInjured() && defense[i] < unit.getBaseDefense())) {
+                store(i);
+                unit.setInjured(true);
+                unit.recalculateBaseStats();
+                load(i);
+            }
+        }
+    }
+
+    List<Unit> casualties() {
+        List<Unit> casualties = new ArrayList<>(capacity - size);
+        for (int i = capacity - 1; i >= size; i--) {
+            casualties.add(units[i]);
+        }
+        return casualties;
+    }
+
+    void writeBack() {
+        for (int i = 0; i < capacity; i++) {
+            store(i);
+        }
+        while (list.size() > size) {
+            list.removeLast();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Journal structuré d'un combat.
+ *
+ * <p>Chaque événement est une ligne de tableaux primitifs parallèles (type d'événement, phase,
+ * camp visé, identifiant de la cible, montant) : l'enregistrement pendant les tirs ne formate
+ * aucune chaîne et n'alloue qu'à l'agrandissement des tableaux. Le texte n'est produit qu'à la
+ * demande, par {@link #render()}.
+ *
+ * <p>Un combat à deux camps ({@link CombatKernel}) enregistre le camp visé ({@link Camp}) ; une
+ * mêlée à N factions ({@link MultiPartyKernel}) enregistre l'index de la faction visée
+ * ({@link #faction(int)}).
+ *
+ * <p>Non thread-safe : une instance par bataille.
+ */
+public final class CombatTrace {
+
+    /** Identifiant enregistré pour une unité sans identifiant. */
+    static final long NO_ID = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Nature d'un événement. */
+    public enum Event {
+        /** Début d'une série de tirs : {@code amount} = points disponibles. */
+        VOLLEY,
+        /** La cible esquive : {@code amount} = points perdus par le tireur. */
+        EVADE,
+        /** La cible encaisse sans être détruite : {@code amount} = dégâts effectifs. */
+        HIT,
+        /** La cible est détruite : {@code amount} = points consommés. */
+        KILL
+    }
+
+    /** Camp visé par un événement d'un combat à deux camps. */
+    public enum Camp {
+        ATTACKERS, DEFENDERS
+    }
+
+    private static final Event[] EVENTS = Event.values();
+    private static final DamageType[] TYPES = DamageType.values();
+    private static final Camp[] CAMPS = Camp.values();
+
+    private byte[] events = new byte[INITIAL_CAPACITY];
+    private byte[] phases = new byte[INITIAL_CAPACITY];
+    private byte[] camps = new byte[INITIAL_CAPACITY];
+    private long[] targets = new long[INITIAL_CAPACITY];
+    private double[] amounts = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /** Effectifs par camp (ou faction) au début et à la fin, {@code null} pour une phase isolée. */
+    private int[] atStart;
+    private int[] left;
+    private CombatKernel.Outcome outcome;
+
+    void record(Event event, DamageType phase, int camp, long targetId, double amount) {
+        if (size == events.length) {
+            grow();
+        }
+        events[size] = (byte) event.ordinal();
+        phases[size] = (byte) phase.ordinal();
+        camps[size] = (byte) camp;
+        targets[size] = targetId;
+        amounts[size] = amount;
+        size++;
+    }
+
+    /** Effectifs de départ, dans l'ordre des camps (attaquants, défenseurs) ou des factions. */
+    void begin(int... counts) {
+        this.atStart = counts.clone();
+    }
+
+    void end(CombatKernel.Outcome outcome, int... counts) {
+        this.outcome = outcome;
+        this.left = counts.clone();
+    }
+
+    private void grow() {
+        int capacity = events.length * 2;
+        events = Arrays.copyOf(events, capacity);
+        phases = Arrays.copyOf(phases, capacity);
+        camps = Arrays.copyOf(camps, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Event event(int index) {
+        return EVENTS[events[checkIndex(index)]];
+    }
+
+    public DamageType phase(int index) {
+        return TYPES[phases[checkIndex(index)]];
+    }
+
+    /** Camp visé, pour un combat à deux camps. */
+    public Camp camp(int index) {
+        int faction = faction(index);
+        if (faction >= CAMPS.length) {
+            throw new IllegalStateException("Mêlée à plusieurs factions : utiliser faction(index)");
+        }
+        return CAMPS[faction];
+    }
+
+    /** Index du camp ou de la faction visé (0 = attaquants, 1 = défenseurs pour deux camps). */
+    public int faction(int index) {
+        return camps[checkIndex(index)];
+    }
+
+    /** Identifiant de la cible, {@code null} pour une unité sans identifiant ou une salve. */
+    public Long targetId(int index) {
+        long id = targets[checkIndex(index)];
+        return id == NO_ID ? null : id;
+    }
+
+    public double amount(int index) {
+        return amounts[checkIndex(index)];
+    }
+
+    /** Phase après laquelle le combat s'est terminé, {@code null} pour une phase isolée. */
+    public CombatKernel.Outcome getOutcome() {
+        return outcome;
+    }
+
+    /** Nombre d'événements d'un type donné. */
+    public int count(Event event) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (events[i] == event.ordinal()) count++;
+        }
+        return count;
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Rendu texte du combat, une ligne par événement.
+     */
+    public String render() {
+        boolean twoCamps = atStart == null || atStart.length == 2;
+        StringBuilder out = new StringBuilder(64 + size * 48);
+        if (atStart != null) {
+            out.append("Début : ").append(counts(atStart)).append('\n');
+        }
+        for (int i = 0; i < size; i++) {
+            Event event = EVENTS[events[i]];
+            if (event == Event.VOLLEY) {
+                out.append("[").append(TYPES[phases[i]]).append("] ");
+                if (!twoCamps) {
+                    out.append("tirs sur la faction ").append(camps[i] + 1);
+                } else {
+                    out.append(CAMPS[camps[i]] == Camp.DEFENDERS ? "attaquants → défenseurs" : "défenseurs → attaquants");
+                }
+                out.append(" : ").append(format(amounts[i])).append(" points\n");
+                continue;
+            }
+            out.append("  unité ");
+            if (targets[i] == NO_ID) {
+                out.append('?');
+            } else {
+                out.append('#').append(targets[i]);
+            }
+            switch (event) {
+                case EVADE -> out.append(" esquive (").append(format(amounts[i])).append(" points perdus)");
+                case HIT -> out.append(" encaisse ").append(format(amounts[i])).append(" dégâts");
+                case KILL -> out.append(" détruite (").append(format(amounts[i])).append(" points)");
+                default -> throw new IllegalStateException("Événement inattendu : " + event);
+            }
+            out.append('\n');
+        }
+        if (outcome != null) {
+            out.append("Fin après la phase ").append(outcome).append(" : ")
+                    .append(counts(left)).append(" restants\n");
+        }
+        return out.toString();
+    }
+
+    /** « X attaquant(s), Y défenseur(s) » pour deux camps, « faction 1 : X, faction 2 : Y… » sinon. */
+    private static String counts(int[] counts) {
+        if (counts.length == 2) {
+            return counts[0] + " attaquant(s), " + counts[1] + " défenseur(s)";
+        }
+        StringBuilder out = new StringBuilder();
+        for (int f = 0; f < counts.length; f++) {
+            if (f > 0) out.append(", ");
+            out.append("faction ").append(f + 1).append(" : ").append(counts[f]);
+        }
+        return out.toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+
+/**
+ * Types de dégâts d'une phase de combat, dans l'ordre où les phases se déroulent.
+ */
+public enum DamageType {
+
+    /** Puissance de feu (armes à distance). */
+    PDF,
+
+    /** Puissance de corps à corps. */
+    PDC,
+
+    /** Attaque de base (phase finale, non létale : les pertes deviennent des blessés). */
+    ATK;
+
+    /**
+     * Réduction de dégâts par type et par masque de classes ({@link UnitClass#maskOf}) : le
+     * maximum des réductions des classes du masque, précalculé pour les {@link UnitClass#MASK_COUNT}
+     * masques possibles.
+     */
+    private static final double[][] REDUCTIONS = new double[values().length][UnitClass.MASK_COUNT];
+
+    static {
+        for (DamageType type : values()) {
+            for (int mask = 0; mask < UnitClass.MASK_COUNT; mask++) {
+                double reduction = 0.0;
+                for (UnitClass unitClass : UnitClass.values()) {
+                    if ((mask & unitClass.bit()) != 0) {
+                        reduction = Math.max(reduction, unitClass.getDamageReduction(type.name()));
+                    }
+                }
+                REDUCTIONS[type.ordinal()][mask] = reduction;
+            }
+        }
+    }
+
+    /** Réduction de dégâts d'une unité dont les classes forment {@code classMask}. */
+    public double reduction(int classMask) {
+        return REDUCTIONS[ordinal()][classMask];
+    }
+
+    /**
+     * Conversion depuis le libellé historique ("PDF", "PDC", "ATK").
+     *
+     * @throws IllegalArgumentException si le libellé est inconnu
+     */
+    public static DamageType of(String label) {
+        try {
+            return valueOf(label);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Type de points inconnu : " + label);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.domain.model.unit.Unit;
+
+import java.util.List;
+
+/**
+ * Mêlée à N factions sur un même secteur, résolue en une seule passe.
+ *
+ * <p>Mêmes phases que {@link CombatKernel} (PDF et second round, PDC et second round sur les
+ * totaux joueurs, ATK non létale avec blessures), mais chaque phase oppose toutes les factions
+ * à la fois : la réserve de points de chaque faction est calculée avant les tirs, puis répartie
+ * entre les factions ennemies encore debout au prorata de leur défense + armure restantes. Les
+ * points non consommés sur chaque cible reviennent à la réserve du tireur et sont réaffectés à
+ * ses survivants comme dans un combat à deux camps. Le coût d'une phase est donc linéaire en
+ * nombre d'unités, au lieu d'un combat par paire de factions.
+ *
+ * <p>Les factions tirent dans l'ordre de la liste (cela ne change que l'ordre des jets
+ * d'esquive). Avec deux factions, la répartition donne toute la réserve à l'unique ennemi : le
+ * résultat est identique au bit près à {@link CombatKernel} (faction 0 attaquante, faction 1
+ * défenseuse), trace comprise.
+ *
+ * <p>ponytail: ceiling = pas d'alliances ni de cible prioritaire, chaque faction tire sur toutes
+ * les autres ; upgrade path = matrice d'hostilité par paire de factions pour pondérer la répartition.
+ */
+public final class MultiPartyKernel {
+
+    private final CombatSide[] factions;
+    private final CombatRandom random;
+    /** Journal du combat, {@code null} si non tracé. */
+    private final CombatTrace trace;
+
+    public MultiPartyKernel(List<List<Unit>> factionUnits, CombatRandom random) {
+        this(factionUnits, random, null);
+    }
+
+    public MultiPartyKernel(List<List<Unit>> factionUnits, CombatRandom random, CombatTrace trace) {
+        if (factionUnits.size() < 2) {
+            throw new IllegalArgumentException("Une mêlée oppose au moins deux factions");
+        }
+        this.factions = new CombatSide[factionUnits.size()];
+        for (int f = 0; f < factions.length; f++) {
+            factions[f] = new CombatSide(factionUnits.get(f), f);
+        }
+        this.random = random;
+        this.trace = trace;
+    }
+
+    /**
+     * Mêlée complète. Les statistiques ne sont reportées sur les entités que par {@link #writeBack()}.
+     *
+     * @param playerPdc total PDC du joueur de chaque faction, dans l'ordre des factions
+     *                  (utilisé par le second round PDC)
+     * @return la phase après laquelle la mêlée s'est terminée
+     */
+    public CombatKernel.Outcome run(double[] playerPdc) {
+        if (playerPdc.length != factions.length) {
+            throw new IllegalArgumentException("Un total PDC par faction est attendu");
+        }
+        if (trace != null) {
+            trace.begin(survivorCounts());
+        }
+        CombatKernel.Outcome outcome = fight(playerPdc);
+        if (trace != null) {
+            trace.end(outcome, survivorCounts());
+        }
+        return outcome;
+    }
+
+    private CombatKernel.Outcome fight(double[] playerPdc) {
+        melee(DamageType.PDF, pools(DamageType.PDF));
+        if (isOver()) return CombatKernel.Outcome.PDF;
+
+        if (anyPoints(DamageType.PDF)) {
+            melee(DamageType.PDF, pools(DamageType.PDF));
+            if (isOver()) return CombatKernel.Outcome.PDF_ROUND_2;
+        }
+
+        melee(DamageType.PDC, pools(DamageType.PDC));
+        if (isOver()) return CombatKernel.Outcome.PDC;
+
+        if (anyPoints(DamageType.PDC)) {
+            melee(DamageType.PDC, playerPdc.clone());
+            if (isOver()) return CombatKernel.Outcome.PDC_ROUND_2;
+        }
+
+        // Phase ATK : les pertes et les unités entamées deviennent des blessés
+        int[] before = survivorCounts();
+        double[] remaining = fire(DamageType.ATK, pools(DamageType.ATK));
+        for (int f = 0; f < factions.length; f++) {
+            factions[f].injureSurvivors(factions[f].size, before[f]);
+        }
+        for (int f = 0; f < factions.length; f++) {
+            factions[f].reassign(remaining[f], DamageType.ATK);
+        }
+        return CombatKernel.Outcome.ATK;
+    }
+
+    /** Échange simultané : réserves calculées avant les tirs, restes réaffectés ensuite. */
+    private void melee(DamageType type, double[] pools) {
+        double[] remaining = fire(type, pools);
+        for (int f = 0; f < factions.length; f++) {
+            factions[f].reassign(remaining[f], type);
+        }
+    }
+
+    /**
+     * Tirs de chaque faction sur ses ennemis encore debout en début de phase, au prorata de
+     * leur défense + armure (à parts égales si elles sont toutes nulles).
+     *
+     * @return les points restants de chaque faction
+     */
+    private double[] fire(DamageType type, double[] pools) {
+        int n = factions.length;
+        boolean[] standing = new boolean[n];
+        double[] durability = new double[n];
+        double totalDurability = 0;
+        int standingCount = 0;
+        for (int f = 0; f < n; f++) {
+            standing[f] = factions[f].size > 0;
+            if (standing[f]) {
+                durability[f] = factions[f].durability();
+                totalDurability += durability[f];
+                standingCount++;
+            }
+        }
+
+        double[] remaining = new double[n];
+        for (int shooter = 0; shooter < n; shooter++) {
+            if (!standing[shooter]) continue;
+            int enemies = standingCount - 1;
+            double enemyDurability = totalDurability - durability[shooter];
+            if (enemies == 0) {
+                remaining[shooter] = pools[shooter];
+                continue;
+            }
+            if (enemies == 1) {
+                // Un seul ennemi : toute la réserve, comme un combat à deux camps
+                int target = shooter;
+                for (int f = 0; f < n; f++) {
+                    if (f != shooter && standing[f]) target = f;
+                }
+                remaining[shooter] = factions[target].absorb(pools[shooter], type, random, trace);
+                continue;
+            }
+            double left = 0;
+            for (int target = 0; target < n; target++) {
+                if (target == shooter || !standing[target]) continue;
+                double share = enemyDurability > 0
+                        ? durability[target] / enemyDurability
+                        : 1.0 / enemies;
+                left += factions[target].absorb(pools[shooter] * share, type, random, trace);
+            }
+            remaining[shooter] = left;
+        }
+        return remaining;
+    }
+
+    private double[] pools(DamageType type) {
+        double[] pools = new double[factions.length];
+        for (int f = 0; f < factions.length; f++) {
+            pools[f] = factions[f].sum(type);
+        }
+        return pools;
+    }
+
+    private boolean anyPoints(DamageType type) {
+        for (CombatSide faction : factions) {
+            if (faction.sum(type) > 0) return true;
+        }
+        return false;
+    }
+
+    private int[] survivorCounts() {
+        int[] counts = new int[factions.length];
+        for (int f = 0; f < factions.length; f++) {
+            counts[f] = factions[f].size;
+        }
+        return counts;
+    }
+
+    public int factionCount() {
+        return factions.length;
+    }
+
+    /** Nombre de survivants d'une faction : ce sont les premières unités de sa liste d'origine. */
+    public int survivors(int faction) {
+        return factions[faction].size;
+    }
+
+    /** Terminée quand au plus une faction garde des unités. */
+    public boolean isOver() {
+        int standing = 0;
+        for (CombatSide faction : factions) {
+            if (faction.size > 0) standing++;
+        }
+        return standing <= 1;
+    }
+
+    /**
+     * Reporte les statistiques sur les entités et retire les pertes des listes d'origine.
+     */
+    public void writeBack() {
+        for (CombatSide faction : factions) {
+            faction.writeBack();
+        }
+    }
+}
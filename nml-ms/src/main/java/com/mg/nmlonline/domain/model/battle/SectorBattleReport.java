@@ -0,0 +1,15 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Batailles livrées sur un secteur disputé en fin de tour, dans l'ordre, et propriétaire du
+ * secteur avant et après.
+ */
+public record SectorBattleReport(int sectorNumber, Long previousOwnerId, Long ownerId, List<BattleReport> battles) {
+
+    public boolean isOwnerChanged() {
+        return !Objects.equals(previousOwnerId, ownerId);
+    }
+}
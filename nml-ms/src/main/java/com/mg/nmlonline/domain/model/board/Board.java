@@ -2,11 +2,13 @@ package com.mg.nmlonline.domain.model.board;
 
 import com.mg.nmlonline.domain.model.sector.Sector;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.util.*;
 
 /**
@@ -15,6 +17,7 @@ import java.util.*;
  */
 @Entity
 @Table(name = "BOARDS")
+@EntityListeners(BoardSnapshotEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,14 +41,20 @@ public class Board {
 
     /**
      * Tour de jeu courant — source unique de vérité pour tout le plateau.
-     * Initialisé à 1 ; incrémenté par {@code TurnService.advanceTurn} via
-     * le bouton admin « Finir le tour » (résolution des mouvements puis +1).
-     * ponytail: ceiling = déclenchement manuel par l'admin ; upgrade path = scheduler
-     * automatique end-of-turn + calcul des revenus à l'advanceTurn.
+     * Initialisé à 1 ; incrémenté par {@code TurnService} (bouton admin « Finir le tour » ou
+     * {@code TurnScheduler}) après les étapes de fin de tour.
      */
     @Column(name = "current_turn", nullable = false)
     private int currentTurn = 1;
 
+    /**
+     * Échéance de la prochaine fin de tour automatique ({@code TurnScheduler}), {@code null}
+     * tant que le scheduler ne l'a pas planifiée. Lue et avancée sous verrou pessimiste sur
+     * la ligne du plateau : une seule instance résout chaque échéance.
+     */
+    @Column(name = "next_turn_at")
+    private Instant nextTurnAt;
+
     /**
      * Valide que l'URL de l'overlay SVG est same-origin (chemin relatif commençant par "/" mais
      * pas par "//" qui serait protocol-relative). Refuse tout host/schéma externe pour éviter
@@ -70,20 +79,106 @@ public class Board {
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Sector> sectorsList = new ArrayList<>();
 
+    /**
+     * Index transient numéro → secteur, reconstruit paresseusement depuis {@link #sectorsList}.
+     * Évite les parcours linéaires de {@link #getSector} appelés en boucle par le pathfinding
+     * et la résolution des mouvements.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SectorIndex sectorIndex;
+
+    /**
+     * Graphe des voisinages (CSR + matrice de bits), reconstruit paresseusement quand la
+     * topologie change. Utilisé par {@link #areNeighbors}, {@link #hasConflict} et la
+     * validation des routes.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SectorGraph sectorGraph;
+
+    /**
+     * Index transient propriétaire → secteurs possédés, construit paresseusement puis tenu à jour
+     * par les changements de propriétaire des secteurs ({@link #onSectorOwnerChanged}).
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private OwnershipIndex ownershipIndex;
+
+    /**
+     * Totaux des joueurs, calculés en un seul balayage ({@link #playerStats()}) et valables tant
+     * que {@link #contentVersion} vaut {@link #playerStatsVersion}.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PlayerStatsAggregator playerStats;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long playerStatsVersion;
+
+    /**
+     * Version du contenu des secteurs, incrémentée par {@link #onContentChanged()} (statistiques,
+     * revenus, propriétaires, liste des secteurs).
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long contentVersion;
+
+    public void setSectorsList(List<Sector> sectorsList) {
+        this.sectorsList = sectorsList;
+        invalidateSectorIndex();
+        invalidateTopology();
+    }
+
     // === GESTION DES SECTEURS ===
 
     /**
-     * Construit une map numéro -> secteur à partir de la liste persistante.
-     * Utilisé en interne pour les accès rapides sans maintenir de double source.
+     * Retourne l'index des secteurs, reconstruit si la liste a été remplacée ou modifiée
+     * en dehors de {@link #addSector}/{@link #removeSector}.
      */
-    private Map<Integer, Sector> sectorMap() {
-        Map<Integer, Sector> map = new LinkedHashMap<>();
-        if (sectorsList != null) {
-            for (Sector sector : sectorsList) {
-                map.put(sector.getNumber(), sector);
-            }
+    private SectorIndex sectorIndex() {
+        if (sectorIndex == null || !sectorIndex.isBuiltFrom(sectorsList)) {
+            sectorIndex = SectorIndex.of(sectorsList);
+        }
+        return sectorIndex;
+    }
+
+    /**
+     * Invalide les index des secteurs (numéro, propriété). À appeler après une modification directe de
+     * {@link #getSectorsList()} (ex : fusion dans {@code BoardService.saveBoard}).
+     */
+    public void invalidateSectorIndex() {
+        sectorIndex = null;
+        ownershipIndex = null;
+        onContentChanged();
+    }
+
+    /**
+     * Retourne l'instantané courant du graphe des voisinages, reconstruit si la topologie
+     * a changé depuis le dernier appel.
+     */
+    public SectorGraph sectorGraph() {
+        SectorGraph graph = sectorGraph;
+        if (graph == null || !graph.isBuiltFrom(sectorsList)) {
+            graph = SectorGraph.of(sectorsList);
+            sectorGraph = graph;
         }
-        return map;
+        return graph;
+    }
+
+    /**
+     * Invalide le graphe des voisinages. Appelé par {@link Sector} quand ses voisins changent,
+     * par {@link #removeSector} et par {@code BoardService.saveBoard} après fusion.
+     */
+    public void invalidateTopology() {
+        sectorGraph = null;
     }
 
     /**
@@ -96,11 +191,18 @@ public class Board {
         if (sector.getNumber() < 1) {
             throw new IllegalArgumentException("Sector number must be >= 1");
         }
-        if (sectorMap().containsKey(sector.getNumber())) {
+        SectorIndex index = sectorIndex();
+        if (index.get(sector.getNumber()) != null) {
             throw new IllegalStateException("Sector " + sector.getNumber() + " already exists");
         }
+        OwnershipIndex ownership = ownershipIndex != null && ownershipIndex.isBuiltFrom(sectorsList)
+                ? ownershipIndex : null;
         sector.setBoard(this);
         sectorsList.add(sector);
+        index.append(sector);
+        if (ownership != null) {
+            ownership.append(sector);
+        }
     }
 
     /**
@@ -108,12 +210,7 @@ public class Board {
      */
     public Sector getSector(int number) {
         if (sectorsList == null) return null;
-        for (Sector sector : sectorsList) {
-            if (sector.getNumber() == number) {
-                return sector;
-            }
-        }
-        return null;
+        return sectorIndex().get(number);
     }
 
     /**
@@ -145,15 +242,80 @@ public class Board {
         Sector removed = getSector(number);
         if (removed != null) {
             sectorsList.remove(removed);
+            invalidateSectorIndex();
             // Nettoyer les références dans les voisins
             for (Sector s : sectorsList) {
                 s.removeNeighbor(number);
             }
+            invalidateTopology();
         }
     }
 
     // === GESTION DES PROPRIÉTAIRES ===
 
+    private OwnershipIndex ownershipIndex() {
+        if (ownershipIndex == null || !ownershipIndex.isBuiltFrom(sectorsList)) {
+            ownershipIndex = OwnershipIndex.of(sectorsList);
+        }
+        return ownershipIndex;
+    }
+
+    /**
+     * Notifié par {@link Sector} quand son propriétaire change : met à jour l'index de propriété
+     * s'il est à jour, sinon le laisse se reconstruire au prochain accès.
+     */
+    public void onSectorOwnerChanged(Sector sector, Long previousOwner) {
+        onContentChanged();
+        if (ownershipIndex == null) {
+            return;
+        }
+        if (ownershipIndex.isBuiltFrom(sectorsList)) {
+            ownershipIndex.move(sector.getNumber(), previousOwner, sector.getOwnerId());
+        } else {
+            ownershipIndex = null;
+        }
+    }
+
+    // === STATISTIQUES DES JOUEURS ===
+
+    /**
+     * Notifié par {@link Sector} quand ses statistiques ou ses revenus changent, et par le
+     * plateau quand un propriétaire ou la liste des secteurs change : invalide les totaux des
+     * joueurs en cache.
+     */
+    public void onContentChanged() {
+        contentVersion++;
+    }
+
+    /**
+     * Totaux de tous les joueurs, recalculés en un seul balayage du plateau si le contenu a
+     * changé depuis le dernier appel. Les secteurs ne sont pas modifiés.
+     *
+     * <p>ponytail: ceiling = une entité modifiée sans passer par son secteur (liste mutée
+     * directement, statistiques écrites à la main) n'invalide pas le cache ; upgrade path =
+     * {@link #refreshPlayerStats()} après ce genre de mutation.
+     */
+    public PlayerStatsAggregator playerStats() {
+        PlayerStatsAggregator stats = playerStats;
+        if (stats == null || playerStatsVersion != contentVersion || !stats.isBuiltFrom(sectorsList)) {
+            stats = PlayerStatsAggregator.of(sectorsList, false);
+            playerStats = stats;
+            playerStatsVersion = contentVersion;
+        }
+        return stats;
+    }
+
+    /**
+     * Recalcul forcé : statistiques de chaque secteur possédé puis totaux des joueurs, dans le
+     * même balayage. Le résultat remplace le cache de {@link #playerStats()}.
+     */
+    public PlayerStatsAggregator refreshPlayerStats() {
+        PlayerStatsAggregator stats = PlayerStatsAggregator.of(sectorsList, true);
+        playerStats = stats;
+        playerStatsVersion = contentVersion;
+        return stats;
+    }
+
     /**
      * Assigne un propriétaire à un secteur et met à jour sa couleur.
      */
@@ -170,9 +332,12 @@ public class Board {
      */
     public List<Sector> getSectorsByOwner(Long playerId) {
         if (sectorsList == null) return Collections.emptyList();
-        return sectorsList.stream()
-                .filter(s -> s.isOwnedBy(playerId))
-                .toList();
+        BitSet owned = ownershipIndex().owned(playerId);
+        List<Sector> sectors = new ArrayList<>(owned.cardinality());
+        for (int number = owned.nextSetBit(0); number >= 0; number = owned.nextSetBit(number + 1)) {
+            sectors.add(getSector(number));
+        }
+        return Collections.unmodifiableList(sectors);
     }
 
     /**
@@ -189,8 +354,7 @@ public class Board {
      * Vérifie si deux secteurs sont voisins (utile pour valider les déplacements).
      */
     public boolean areNeighbors(int sector1, int sector2) {
-        Sector s1 = getSector(sector1);
-        return s1 != null && s1.isNeighbor(sector2);
+        return sectorGraph().areNeighbors(sector1, sector2);
     }
 
     /**
@@ -221,8 +385,9 @@ public class Board {
      */
     public boolean isInvalidRoute(List<Integer> route) {
         if (route == null || route.size() < 2) return true;
+        SectorGraph graph = sectorGraph();
         for (int i = 0; i < route.size() - 1; i++) {
-            if (!areNeighbors(route.get(i), route.get(i + 1))) {
+            if (!graph.areNeighbors(route.get(i), route.get(i + 1))) {
                 return true;
             }
         }
@@ -239,15 +404,48 @@ public class Board {
      */
     public boolean isAlliedRoute(List<Integer> route, Long ownerId) {
         if (isInvalidRoute(route)) return false;
+        OwnershipIndex ownership = ownershipIndex();
         for (int sectorNumber : route) {
-            Sector sector = getSector(sectorNumber);
-            if (sector == null || !sector.isOwnedBy(ownerId)) {
+            if (!ownership.isOwnedBy(sectorNumber, ownerId)) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Recherche un plus court chemin entre deux secteurs qui ne traverse que des secteurs
+     * possédés par {@code ownerId} (arrivée comprise). Le secteur de départ est exempté : un
+     * bâtiment ou une troupe resté dans un secteur capturé peut en sortir vers son territoire.
+     * La BFS ne parcourt que le territoire du joueur.
+     *
+     * @param from    Numéro du secteur de départ
+     * @param to      Numéro du secteur d'arrivée
+     * @param ownerId ID du joueur propriétaire
+     * @param maxHops Nombre maximum de sauts autorisés
+     * @return La route alliée ou liste vide si aucune n'existe dans la limite de hops
+     */
+    public List<Integer> findAlliedRoute(int from, int to, Long ownerId, int maxHops) {
+        BitSet owned = ownershipIndex().owned(ownerId);
+        return sectorGraph().shortestPath(from, to, maxHops, n -> n == from || (n >= 0 && owned.get(n)));
+    }
+
+    /**
+     * Distance la plus courte en nombre de sauts entre deux secteurs (mise en cache par source).
+     *
+     * @return le nombre de sauts, ou -1 si l'un des secteurs n'existe pas ou s'ils ne sont pas reliés
+     */
+    public int hopDistance(int from, int to) {
+        return sectorGraph().distances().distance(from, to);
+    }
+
+    /**
+     * Vrai si {@code to} est atteignable depuis {@code from} en au plus {@code maxHops} sauts.
+     */
+    public boolean isWithinHops(int from, int to, int maxHops) {
+        return sectorGraph().distances().isWithinHops(from, to, maxHops);
+    }
+
     /**
      * Recherche un chemin le plus court entre deux secteurs via BFS.
      * Retourne une liste vide si aucun chemin n'existe dans la limite de hops.
@@ -259,37 +457,16 @@ public class Board {
      */
     public List<Integer> findRoute(int from, int to, int maxHops) {
         if (from == to) return List.of(from);
-        if (!hasSector(from) || !hasSector(to)) return Collections.emptyList();
-
-        // BFS
-        Queue<List<Integer>> queue = new LinkedList<>();
-        Set<Integer> visited = new HashSet<>();
-        queue.add(List.of(from));
-        visited.add(from);
-
-        while (!queue.isEmpty()) {
-            List<Integer> path = queue.poll();
-            if (path.size() > maxHops + 1) break; // +1, car le départ compte
-
-            int current = path.getLast();
-            Sector currentSector = getSector(current);
-            if (currentSector == null) continue;
-
-            for (int neighbor : currentSector.getNeighbors()) {
-                if (neighbor == to) {
-                    List<Integer> fullPath = new ArrayList<>(path);
-                    fullPath.add(to);
-                    return fullPath;
-                }
-                if (!visited.contains(neighbor) && path.size() < maxHops + 1) {
-                    visited.add(neighbor);
-                    List<Integer> newPath = new ArrayList<>(path);
-                    newPath.add(neighbor);
-                    queue.add(newPath);
-                }
-            }
-        }
-        return Collections.emptyList(); // Aucun chemin trouvé dans la limite de hops
+        return sectorGraph().shortestPath(from, to, maxHops);
+    }
+
+    /**
+     * Recherche un chemin le plus court entre deux secteurs, sans limite de hops.
+     *
+     * @return La route (liste de secteurs de départ à arrivée) ou liste vide si les secteurs ne sont pas reliés
+     */
+    public List<Integer> findRoute(int from, int to) {
+        return findRoute(from, to, Integer.MAX_VALUE);
     }
 
     @Override
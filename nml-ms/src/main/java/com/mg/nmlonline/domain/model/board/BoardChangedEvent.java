@@ -0,0 +1,8 @@
+package com.mg.nmlonline.domain.model.board;
+
+/**
+ * Contenu d'un plateau écrit en base (plateau, secteur, entité combattante ou équipement
+ * d'unité) : l'instantané servi aux lectures est périmé.
+ */
+public record BoardChangedEvent() {
+}
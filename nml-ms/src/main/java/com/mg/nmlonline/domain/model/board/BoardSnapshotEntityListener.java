@@ -0,0 +1,65 @@
+package com.mg.nmlonline.domain.model.board;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA des entités affichées sur la carte ({@link Board}, secteurs, entités
+ * combattantes, équipements d'unité) : une écriture en base publie un
+ * {@link BoardChangedEvent}, quel que soit le service qui a sauvegardé l'entité.
+ *
+ * <p>Instancié par Hibernate via le conteneur de beans Spring (injection du publisher). Les
+ * événements sont publiés pendant le flush ; le {@code BoardSnapshotService} ne les applique
+ * qu'après le commit. Un seul événement par transaction : une fin de tour qui écrit des
+ * milliers d'entités n'enregistre qu'une synchronisation après commit.
+ */
+public class BoardSnapshotEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onWrite(Object entity) {
+        if (events == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(PublishedInTransaction.class)) {
+                return;
+            }
+            PublishedInTransaction published = new PublishedInTransaction();
+            TransactionSynchronizationManager.bindResource(PublishedInTransaction.class, published);
+            TransactionSynchronizationManager.registerSynchronization(published);
+        }
+        events.publishEvent(new BoardChangedEvent());
+    }
+
+    /**
+     * Marque la transaction courante comme déjà signalée. Délié pendant une suspension
+     * ({@code REQUIRES_NEW}) pour que la transaction interne publie son propre événement.
+     */
+    private static final class PublishedInTransaction implements TransactionSynchronization {
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(PublishedInTransaction.class);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PublishedInTransaction.class, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PublishedInTransaction.class);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.domain.model.sector.Sector;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index propriétaire → ensemble des numéros de secteurs possédés (un {@link BitSet} par joueur).
+ *
+ * <p>Construit paresseusement par {@link Board} depuis {@link Board#getSectorsList()}, puis tenu à
+ * jour incrémentalement quand un secteur change de propriétaire
+ * ({@link Sector#setOwnerAndColor}, {@link Sector#setOwnerId}). Comme {@link SectorIndex}, il
+ * mémorise la liste source et sa taille pour détecter une liste remplacée ou modifiée directement.
+ */
+final class OwnershipIndex {
+
+    private static final BitSet NONE = new BitSet(0);
+
+    private final List<Sector> source;
+    private int size;
+    private final Map<Long, BitSet> byOwner = new HashMap<>();
+
+    private OwnershipIndex(List<Sector> source) {
+        this.source = source;
+    }
+
+    static OwnershipIndex of(List<Sector> sectors) {
+        OwnershipIndex index = new OwnershipIndex(sectors);
+        if (sectors != null) {
+            for (Sector sector : sectors) {
+                index.append(sector);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Vrai si l'index reflète encore la liste donnée (même instance, même taille).
+     */
+    boolean isBuiltFrom(List<Sector> sectors) {
+        return sectors == source && (sectors == null || sectors.size() == size);
+    }
+
+    /** Enregistre un secteur qui vient d'être ajouté à la liste source. */
+    void append(Sector sector) {
+        set(sector.getOwnerId(), sector.getNumber());
+        size++;
+    }
+
+    /** Déplace un secteur d'un propriétaire à l'autre ({@code null} = neutre). */
+    void move(int number, Long previousOwner, Long newOwner) {
+        if (previousOwner != null) {
+            BitSet owned = byOwner.get(previousOwner);
+            if (owned != null) {
+                owned.clear(number);
+                if (owned.isEmpty()) {
+                    byOwner.remove(previousOwner);
+                }
+            }
+        }
+        set(newOwner, number);
+    }
+
+    private void set(Long ownerId, int number) {
+        if (ownerId != null && number >= 0) {
+            byOwner.computeIfAbsent(ownerId, k -> new BitSet()).set(number);
+        }
+    }
+
+    /** Numéros des secteurs possédés par ce joueur (vue en lecture seule : ne pas modifier). */
+    BitSet owned(Long ownerId) {
+        if (ownerId == null) {
+            return NONE;
+        }
+        BitSet owned = byOwner.get(ownerId);
+        return owned == null ? NONE : owned;
+    }
+
+    boolean isOwnedBy(int number, Long ownerId) {
+        return number >= 0 && owned(ownerId).get(number);
+    }
+}
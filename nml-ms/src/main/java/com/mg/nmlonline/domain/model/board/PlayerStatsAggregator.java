@@ -0,0 +1,130 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.sector.SectorStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Totaux de tous les joueurs (statistiques de combat, revenus, secteurs occupés), calculés en
+ * un seul balayage des secteurs du plateau : chaque entité combattante n'est lue qu'une fois.
+ *
+ * <p>Instantané immuable mis en cache par {@link Board#playerStats()} et reconstruit quand le
+ * contenu du plateau change (statistiques ou revenus d'un secteur, propriétaire, liste des
+ * secteurs). Comme {@link OwnershipIndex}, il mémorise la liste source et sa taille pour
+ * détecter une liste remplacée ou modifiée directement.
+ */
+public final class PlayerStatsAggregator {
+
+    /**
+     * Totaux d'un joueur sur ses secteurs : toutes les entités présentes comptent (unités,
+     * bâtiments, personnages, véhicules), comme dans les statistiques des secteurs.
+     *
+     * @param sectorsWithEntities secteurs possédés contenant au moins une entité, par numéro croissant
+     */
+    public record PlayerTotals(double totalAtk, double totalPdf, double totalPdc, double totalDef,
+                               double totalArmor, double totalIncome, List<Sector> sectorsWithEntities) {
+
+        static final PlayerTotals EMPTY = new PlayerTotals(0, 0, 0, 0, 0, 0, List.of());
+
+        /** ATK + PDF + PDC. */
+        public double totalOffensive() {
+            return totalAtk + totalPdf + totalPdc;
+        }
+
+        /** DEF + armure. */
+        public double totalDefensive() {
+            return totalDef + totalArmor;
+        }
+    }
+
+    private final List<Sector> source;
+    private final int size;
+    private final Map<Long, PlayerTotals> byPlayer;
+
+    private PlayerStatsAggregator(List<Sector> source, Map<Long, PlayerTotals> byPlayer) {
+        this.source = source;
+        this.size = source == null ? 0 : source.size();
+        this.byPlayer = byPlayer;
+    }
+
+    /**
+     * Balayage unique des secteurs possédés.
+     *
+     * @param resyncSectors vrai pour recalculer au passage les statistiques de chaque secteur
+     *                      possédé ({@link Sector#recalculateMilitaryPower()}) ; sinon les
+     *                      secteurs ne sont pas modifiés
+     */
+    static PlayerStatsAggregator of(List<Sector> sectors, boolean resyncSectors) {
+        Map<Long, Accumulator> accumulators = new HashMap<>();
+        SectorStats scratch = new SectorStats();
+        if (sectors != null) {
+            for (Sector sector : sectors) {
+                Long owner = sector.getOwnerId();
+                if (owner == null) continue;
+                SectorStats stats;
+                if (resyncSectors) {
+                    sector.recalculateMilitaryPower();
+                    stats = sector.getStats();
+                } else {
+                    scratch.recompute(sector.getArmy(), sector.getBuildings(), sector.getCharacters(),
+                            sector.getVehicles());
+                    stats = scratch;
+                }
+                accumulators.computeIfAbsent(owner, k -> new Accumulator()).add(sector, stats);
+            }
+        }
+        Map<Long, PlayerTotals> byPlayer = new HashMap<>(accumulators.size() * 2);
+        accumulators.forEach((owner, accumulator) -> byPlayer.put(owner, accumulator.freeze()));
+        return new PlayerStatsAggregator(sectors, byPlayer);
+    }
+
+    /** Vrai si l'instantané a été calculé sur cette liste (même instance, même taille). */
+    boolean isBuiltFrom(List<Sector> sectors) {
+        return sectors == source && (sectors == null || sectors.size() == size);
+    }
+
+    /** Totaux d'un joueur (tous nuls s'il ne possède aucun secteur). */
+    public PlayerTotals of(Long playerId) {
+        PlayerTotals totals = playerId != null ? byPlayer.get(playerId) : null;
+        return totals != null ? totals : PlayerTotals.EMPTY;
+    }
+
+    private static final class Accumulator {
+        private double atk;
+        private double pdf;
+        private double pdc;
+        private double def;
+        private double armor;
+        private double income;
+        private final List<Sector> sectorsWithEntities = new ArrayList<>();
+
+        void add(Sector sector, SectorStats stats) {
+            atk += stats.getTotalAtk();
+            pdf += stats.getTotalPdf();
+            pdc += stats.getTotalPdc();
+            def += stats.getTotalDef();
+            armor += stats.getTotalArmor();
+            income += sector.getIncome();
+            if (hasEntities(sector)) {
+                sectorsWithEntities.add(sector);
+            }
+        }
+
+        PlayerTotals freeze() {
+            sectorsWithEntities.sort(Comparator.comparingInt(Sector::getNumber));
+            return new PlayerTotals(atk, pdf, pdc, def, armor, income, List.copyOf(sectorsWithEntities));
+        }
+
+        private static boolean hasEntities(Sector sector) {
+            return !sector.getArmy().isEmpty()
+                    || (sector.getBuildings() != null && !sector.getBuildings().isEmpty())
+                    || (sector.getCharacters() != null && !sector.getCharacters().isEmpty())
+                    || (sector.getVehicles() != null && !sector.getVehicles().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mg.nmlonline.domain.model.board;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Oracle de distances en nombre de sauts pour un {@link SectorGraph} donné.
+ *
+ * <p>Chaque ligne (toutes les distances depuis un secteur source) est calculée par une BFS
+ * complète au premier besoin, puis stockée en {@code char[]} (entier non signé 16 bits,
+ * {@link #UNREACHABLE} pour « non relié »). Les lignes sont gardées dans un cache LRU dont la
+ * capacité dépend de la taille du plateau : sur la carte réelle toutes les lignes tiennent,
+ * ce qui revient à une matrice complète ; sur un très grand plateau seules les sources
+ * récemment interrogées restent en mémoire.
+ *
+ * <p>L'oracle est rattaché au graphe : une modification de topologie produit un nouveau graphe,
+ * donc un nouvel oracle vide. Pour un plateau persisté, {@code SectorDistanceCache} garde un oracle
+ * détaché ({@link SectorGraph#detachedDistances()}) d'une requête à l'autre.
+ */
+public final class SectorDistanceOracle {
+
+    /** Valeur stockée pour un secteur non atteignable depuis la source. */
+    static final char UNREACHABLE = Character.MAX_VALUE;
+
+    /** Budget mémoire des lignes en cache (~8 Mo). */
+    private static final long ROW_BUDGET_BYTES = 8L * 1024 * 1024;
+    private static final int MIN_ROWS = 16;
+
+    private final SectorGraph graph;
+    private final int capacity;
+    private final Map<Integer, char[]> rows;
+
+    SectorDistanceOracle(SectorGraph graph) {
+        this.graph = graph;
+        int n = Math.max(1, graph.size());
+        this.capacity = (int) Math.min(n, Math.max(MIN_ROWS, ROW_BUDGET_BYTES / (2L * n)));
+        this.rows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, char[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** Version de la topologie sur laquelle portent les distances ({@link SectorGraph#topologyVersion()}). */
+    public long topologyVersion() {
+        return graph.topologyVersion();
+    }
+
+    /**
+     * Distance la plus courte en nombre de sauts entre deux secteurs.
+     *
+     * @return le nombre de sauts, {@code 0} si {@code from == to}, ou {@code -1} si l'un des
+     *         secteurs n'existe pas ou s'ils ne sont pas reliés
+     */
+    public int distance(int from, int to) {
+        int source = graph.indexOf(from);
+        int target = graph.indexOf(to);
+        if (source < 0 || target < 0) {
+            return -1;
+        }
+        if (source == target) {
+            return 0;
+        }
+        if (graph.size() >= UNREACHABLE) {
+            // Trop de secteurs pour l'encodage 16 bits : BFS directe, sans cache
+            int hops = graph.shortestPath(from, to, Integer.MAX_VALUE).size() - 1;
+            return hops < 0 ? -1 : hops;
+        }
+        char d = row(source)[target];
+        return d == UNREACHABLE ? -1 : d;
+    }
+
+    /**
+     * Vrai si {@code to} est atteignable depuis {@code from} en au plus {@code maxHops} sauts.
+     */
+    public boolean isWithinHops(int from, int to, int maxHops) {
+        int d = distance(from, to);
+        return d >= 0 && d <= maxHops;
+    }
+
+    /** Nombre de lignes actuellement en cache (tests). */
+    synchronized int cachedRows() {
+        return rows.size();
+    }
+
+    private synchronized char[] row(int source) {
+        char[] row = rows.get(source);
+        if (row == null) {
+            row = computeRow(source);
+            rows.put(source, row);
+        }
+        return row;
+    }
+
+    private char[] computeRow(int source) {
+        int n = graph.size();
+        char[] dist = new char[n];
+        Arrays.fill(dist, UNREACHABLE);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        dist[source] = 0;
+        while (head < tail) {
+            int node = queue[head++];
+            char next = (char) (dist[node] + 1);
+            for (int e = graph.rowStart(node); e < graph.rowEnd(node); e++) {
+                int j = graph.targetIndex(e);
+                if (j >= 0 && dist[j] == UNREACHABLE) {
+                    dist[j] = next;
+                    queue[tail++] = j;
+                }
+            }
+        }
+        return dist;
+    }
+}
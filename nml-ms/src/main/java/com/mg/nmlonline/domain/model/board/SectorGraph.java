@@ -0,0 +1,412 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.domain.model.sector.Sector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Instantané immuable de la topologie d'un {@link Board} (graphe orienté des voisinages).
+ *
+ * <p>Les secteurs reçoivent un indice dense {@code 0..n-1} dans l'ordre de
+ * {@link Board#getSectorsList()}. Les voisins sont stockés au format CSR (compressed sparse
+ * row) : la ligne du secteur d'indice {@code i} occupe {@code targets[offsets[i] .. offsets[i+1])},
+ * triée par numéro de secteur et sans doublon. {@code targetIndex} donne l'indice dense de
+ * chaque voisin, ou {@code -1} si le voisin déclaré n'existe pas sur le plateau.
+ *
+ * <p>Pour les plateaux de taille raisonnable, une matrice de bits {@code n × n} répond à
+ * {@link #areNeighbors} en O(1) ; au-delà on se rabat sur une recherche dichotomique dans la ligne.
+ *
+ * <p>Le graphe est construit par {@link Board} et reconstruit paresseusement quand la
+ * topologie change (ajout/suppression de secteur, modification des voisins).
+ */
+public final class SectorGraph {
+
+    /**
+     * ponytail: ceiling = matrice de bits limitée à 4096 secteurs (2 Mo) ; au-delà, adjacence
+     * en O(log degré) par dichotomie. Upgrade path = bitsets creux par ligne si de très grandes
+     * cartes deviennent un cas réel.
+     */
+    static final int MAX_BITSET_NODES = 4096;
+
+    /** Même règle de densité que {@link SectorIndex}. */
+    private static final int SLACK_FACTOR = 4;
+    private static final int SLACK_MIN = 64;
+
+    private final List<Sector> source;
+    private final int sourceSize;
+
+    private final int[] numbers;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] targetIndex;
+
+    /** Numéro → indice dense (mode dense), {@code -1} si absent ; null en mode creux. */
+    private final int[] indexByNumber;
+    private final Map<Integer, Integer> sparseIndex;
+
+    /** Matrice d'adjacence aplatie ({@code words} longs par ligne), null si trop de secteurs. */
+    private final long[] adjacency;
+    private final int words;
+
+    /** Empreinte 64 bits de la topologie (secteurs dans l'ordre, voisins) : voir {@link #topologyVersion()}. */
+    private final long topologyVersion;
+
+    /** Oracle de distances, créé au premier besoin et jeté avec le graphe. */
+    private volatile SectorDistanceOracle distances;
+
+    /**
+     * Tampons de BFS réutilisés d'un appel à l'autre (par thread, le graphe pouvant être partagé).
+     * ponytail: ceiling = les tampons gardent la taille du plus grand plateau parcouru par le thread ;
+     * upgrade path = les libérer explicitement si on charge un jour des plateaux géants ponctuels.
+     */
+    private static final ThreadLocal<BfsScratch> BFS_SCRATCH = ThreadLocal.withInitial(BfsScratch::new);
+
+    private SectorGraph(List<Sector> source, int[] numbers, int[] offsets, int[] targets,
+                        int[] indexByNumber, Map<Integer, Integer> sparseIndex) {
+        this.source = source;
+        this.topologyVersion = fingerprint(numbers, offsets, targets);
+        this.sourceSize = source == null ? 0 : source.size();
+        this.numbers = numbers;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.indexByNumber = indexByNumber;
+        this.sparseIndex = sparseIndex;
+
+        int n = numbers.length;
+        this.targetIndex = new int[targets.length];
+        for (int e = 0; e < targets.length; e++) {
+            targetIndex[e] = indexOf(targets[e]);
+        }
+
+        if (n > 0 && n <= MAX_BITSET_NODES) {
+            this.words = (n + 63) >>> 6;
+            this.adjacency = new long[n * words];
+            for (int i = 0; i < n; i++) {
+                for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                    int j = targetIndex[e];
+                    if (j >= 0) {
+                        adjacency[i * words + (j >>> 6)] |= 1L << j;
+                    }
+                }
+            }
+        } else {
+            this.words = 0;
+            this.adjacency = null;
+        }
+    }
+
+    /**
+     * Construit le graphe à partir de la liste des secteurs d'un plateau.
+     * En cas de numéros dupliqués, le premier secteur de la liste gagne (comme {@link SectorIndex}).
+     */
+    static SectorGraph of(List<Sector> sectors) {
+        int n = sectors == null ? 0 : sectors.size();
+        int[] numbers = new int[n];
+        int maxNumber = 0;
+        int edgeCount = 0;
+        for (int i = 0; i < n; i++) {
+            Sector sector = sectors.get(i);
+            numbers[i] = sector.getNumber();
+            maxNumber = Math.max(maxNumber, numbers[i]);
+            edgeCount += sector.getNeighbors().size();
+        }
+
+        int[] indexByNumber = null;
+        Map<Integer, Integer> sparseIndex = null;
+        if (maxNumber <= SLACK_FACTOR * n + SLACK_MIN) {
+            indexByNumber = new int[maxNumber + 1];
+            Arrays.fill(indexByNumber, -1);
+            for (int i = 0; i < n; i++) {
+                if (numbers[i] >= 0 && indexByNumber[numbers[i]] < 0) {
+                    indexByNumber[numbers[i]] = i;
+                }
+            }
+        } else {
+            sparseIndex = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                sparseIndex.putIfAbsent(numbers[i], i);
+            }
+        }
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[edgeCount];
+        int cursor = 0;
+        for (int i = 0; i < n; i++) {
+            offsets[i] = cursor;
+            int rowStart = cursor;
+            for (Integer neighbor : sectors.get(i).getNeighbors()) {
+                if (neighbor != null) {
+                    targets[cursor++] = neighbor;
+                }
+            }
+            Arrays.sort(targets, rowStart, cursor);
+            cursor = dedupe(targets, rowStart, cursor);
+        }
+        offsets[n] = cursor;
+
+        return new SectorGraph(sectors, numbers, offsets, Arrays.copyOf(targets, cursor),
+                indexByNumber, sparseIndex);
+    }
+
+    /** Retire les doublons d'une plage triée et retourne la nouvelle borne de fin. */
+    private static int dedupe(int[] values, int from, int to) {
+        if (to - from < 2) {
+            return to;
+        }
+        int write = from + 1;
+        for (int read = from + 1; read < to; read++) {
+            if (values[read] != values[write - 1]) {
+                values[write++] = values[read];
+            }
+        }
+        return write;
+    }
+
+    /**
+     * Vrai si le graphe a été construit à partir de cette liste (même instance, même taille).
+     */
+    boolean isBuiltFrom(List<Sector> sectors) {
+        return sectors == source && (sectors == null || sectors.size() == sourceSize);
+    }
+
+    // === ACCÈS ===
+
+    /** Nombre de secteurs (nœuds) du graphe. */
+    public int size() {
+        return numbers.length;
+    }
+
+    /** Nombre d'arêtes orientées (voisinages déclarés, doublons retirés). */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /** Indice dense d'un numéro de secteur, ou {@code -1} s'il n'existe pas. */
+    public int indexOf(int sectorNumber) {
+        if (indexByNumber != null) {
+            return sectorNumber >= 0 && sectorNumber < indexByNumber.length ? indexByNumber[sectorNumber] : -1;
+        }
+        Integer index = sparseIndex.get(sectorNumber);
+        return index == null ? -1 : index;
+    }
+
+    /** Numéro du secteur d'indice dense {@code index}. */
+    public int numberAt(int index) {
+        return numbers[index];
+    }
+
+    /** Début (inclus) de la ligne CSR du secteur d'indice {@code index}. */
+    public int rowStart(int index) {
+        return offsets[index];
+    }
+
+    /** Fin (exclue) de la ligne CSR du secteur d'indice {@code index}. */
+    public int rowEnd(int index) {
+        return offsets[index + 1];
+    }
+
+    /** Numéro du voisin stocké à la position {@code edge} de {@code targets}. */
+    public int targetNumber(int edge) {
+        return targets[edge];
+    }
+
+    /** Indice dense du voisin stocké à la position {@code edge}, {@code -1} s'il n'existe pas. */
+    public int targetIndex(int edge) {
+        return targetIndex[edge];
+    }
+
+    /**
+     * Vrai si {@code sector2} est déclaré voisin de {@code sector1}.
+     * Même sémantique que {@link Sector#isNeighbor} : l'adjacence est orientée et un voisin
+     * déclaré mais absent du plateau compte.
+     */
+    public boolean areNeighbors(int sector1, int sector2) {
+        int i = indexOf(sector1);
+        if (i < 0) {
+            return false;
+        }
+        if (adjacency != null) {
+            int j = indexOf(sector2);
+            if (j >= 0) {
+                return (adjacency[i * words + (j >>> 6)] & (1L << j)) != 0;
+            }
+        }
+        return Arrays.binarySearch(targets, offsets[i], offsets[i + 1], sector2) >= 0;
+    }
+
+    /**
+     * Oracle de distances en sauts associé à ce graphe (lignes calculées paresseusement).
+     */
+    public SectorDistanceOracle distances() {
+        SectorDistanceOracle oracle = distances;
+        if (oracle == null) {
+            synchronized (this) {
+                oracle = distances;
+                if (oracle == null) {
+                    oracle = new SectorDistanceOracle(this);
+                    distances = oracle;
+                }
+            }
+        }
+        return oracle;
+    }
+
+    /**
+     * Nouvel oracle vide sur une copie de ce graphe qui ne référence pas les entités secteur :
+     * il peut survivre au contexte de persistance (cache applicatif).
+     */
+    public SectorDistanceOracle detachedDistances() {
+        return new SectorDistanceOracle(new SectorGraph(null, numbers, offsets, targets, indexByNumber, sparseIndex));
+    }
+
+    /**
+     * Version de la topologie : empreinte calculée à la construction, égale pour deux graphes
+     * aux mêmes secteurs (dans le même ordre) et aux mêmes voisins, quel que soit le contexte de
+     * persistance qui les a chargés.
+     */
+    public long topologyVersion() {
+        return topologyVersion;
+    }
+
+    private static long fingerprint(int[] numbers, int[] offsets, int[] targets) {
+        long h = mix(numbers.length);
+        for (int number : numbers) {
+            h = mix(h ^ number);
+        }
+        for (int offset : offsets) {
+            h = mix(h ^ offset);
+        }
+        for (int target : targets) {
+            h = mix(h ^ target);
+        }
+        return h;
+    }
+
+    /** Finaliseur de SplitMix64 : chaque valeur avalanche sur les 64 bits. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // === PLUS COURT CHEMIN ===
+
+    /**
+     * Plus court chemin en nombre de sauts entre deux secteurs (BFS).
+     *
+     * <p>BFS par niveaux sur des files d'entiers primitifs avec un tableau de parents : aucune
+     * allocation par nœud visité, le chemin n'est reconstruit qu'une fois la cible atteinte.
+     * Les voisins déclarés mais absents du plateau sont ignorés.
+     *
+     * @param from    numéro du secteur de départ
+     * @param to      numéro du secteur d'arrivée
+     * @param maxHops nombre maximum de sauts ({@link Integer#MAX_VALUE} pour ne pas borner)
+     * @return les numéros de secteurs de départ à arrivée inclus, ou une liste vide si aucun
+     *         chemin d'au plus {@code maxHops} sauts n'existe
+     */
+    public List<Integer> shortestPath(int from, int to, int maxHops) {
+        return shortestPath(from, to, maxHops, null);
+    }
+
+    /**
+     * Plus court chemin restreint aux secteurs acceptés par {@code allowed} (départ et arrivée
+     * compris). Seuls les secteurs autorisés sont mis en file : le coût est proportionnel à la
+     * zone autorisée (ex : le territoire d'un joueur), pas à tout le plateau.
+     *
+     * @param allowed filtre sur les numéros de secteurs, ou {@code null} pour ne pas filtrer
+     */
+    public List<Integer> shortestPath(int from, int to, int maxHops, IntPredicate allowed) {
+        int source = indexOf(from);
+        int target = indexOf(to);
+        if (source < 0 || target < 0) {
+            return Collections.emptyList();
+        }
+        if (allowed != null && (!allowed.test(from) || !allowed.test(to))) {
+            return Collections.emptyList();
+        }
+        if (source == target) {
+            return List.of(from);
+        }
+
+        BfsScratch scratch = BFS_SCRATCH.get();
+        scratch.ensureCapacity(numbers.length);
+        int generation = scratch.nextGeneration();
+        int[] queue = scratch.queue;
+        int[] parent = scratch.parent;
+        int[] mark = scratch.mark;
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        mark[source] = generation;
+        int depth = 0;
+        while (head < tail && depth < maxHops) {
+            int levelEnd = tail;
+            depth++;
+            while (head < levelEnd) {
+                int node = queue[head++];
+                for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                    int next = targetIndex[e];
+                    if (next < 0 || mark[next] == generation) {
+                        continue;
+                    }
+                    if (allowed != null && !allowed.test(numbers[next])) {
+                        continue;
+                    }
+                    mark[next] = generation;
+                    parent[next] = node;
+                    if (next == target) {
+                        return buildPath(parent, source, target, depth);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private List<Integer> buildPath(int[] parent, int source, int target, int hops) {
+        Integer[] path = new Integer[hops + 1];
+        int node = target;
+        for (int i = hops; i > 0; i--) {
+            path[i] = numbers[node];
+            node = parent[node];
+        }
+        path[0] = numbers[source];
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Tampons de BFS : le tableau {@code mark} est estampillé par génération pour éviter de le
+     * remettre à zéro à chaque recherche (coût O(chemin exploré) au lieu de O(n)).
+     */
+    private static final class BfsScratch {
+        int[] queue = new int[0];
+        int[] parent = new int[0];
+        int[] mark = new int[0];
+        int generation;
+
+        void ensureCapacity(int n) {
+            if (queue.length < n) {
+                queue = new int[n];
+                parent = new int[n];
+                mark = new int[n];
+                generation = 0;
+            }
+        }
+
+        int nextGeneration() {
+            if (++generation == 0) {
+                Arrays.fill(mark, 0);
+                generation = 1;
+            }
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.domain.model.sector.Sector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index numéro de secteur → {@link Sector}, construit à partir de {@link Board#getSectorsList()}.
+ *
+ * <p>Les numéros de secteurs sont denses en pratique (1..N) : l'index est alors un simple
+ * tableau indexé par le numéro (accès O(1) sans boxing). Si la numérotation est trop creuse
+ * (numéro max très supérieur au nombre de secteurs) ou contient un numéro négatif, on se
+ * replie sur une {@link HashMap}.
+ *
+ * <p>L'index mémorise la liste source (par identité) et sa taille : {@link #isBuiltFrom}
+ * permet à {@link Board} de détecter une liste remplacée (chargement Hibernate, setter) ou
+ * modifiée directement et de reconstruire l'index paresseusement.
+ */
+final class SectorIndex {
+
+    /** Au-delà de {@code SLACK_FACTOR * taille + SLACK_MIN} pour le numéro max, on passe en mode creux. */
+    private static final int SLACK_FACTOR = 4;
+    private static final int SLACK_MIN = 64;
+
+    private final List<Sector> source;
+    private int size;
+    private Sector[] byNumber;
+    private Map<Integer, Sector> sparse;
+
+    private SectorIndex(List<Sector> source) {
+        this.source = source;
+    }
+
+    static SectorIndex of(List<Sector> sectors) {
+        SectorIndex index = new SectorIndex(sectors);
+        if (sectors == null) {
+            index.byNumber = new Sector[0];
+            return index;
+        }
+        int minNumber = 0;
+        int maxNumber = 0;
+        for (Sector sector : sectors) {
+            minNumber = Math.min(minNumber, sector.getNumber());
+            maxNumber = Math.max(maxNumber, sector.getNumber());
+        }
+        if (minNumber >= 0 && isDense(maxNumber, sectors.size())) {
+            index.byNumber = new Sector[maxNumber + 1];
+        } else {
+            index.sparse = new HashMap<>(sectors.size() * 2);
+        }
+        for (Sector sector : sectors) {
+            index.store(sector);
+        }
+        index.size = sectors.size();
+        return index;
+    }
+
+    private static boolean isDense(int maxNumber, int count) {
+        return maxNumber <= SLACK_FACTOR * count + SLACK_MIN;
+    }
+
+    /**
+     * Vrai si l'index reflète encore la liste donnée (même instance, même taille).
+     */
+    boolean isBuiltFrom(List<Sector> sectors) {
+        return sectors == source && (sectors == null || sectors.size() == size);
+    }
+
+    Sector get(int number) {
+        if (sparse != null) {
+            return sparse.get(number);
+        }
+        return number >= 0 && number < byNumber.length ? byNumber[number] : null;
+    }
+
+    /**
+     * Enregistre un secteur qui vient d'être ajouté à la liste source (ajout incrémental,
+     * évite une reconstruction complète à chaque {@link Board#addSector}).
+     */
+    void append(Sector sector) {
+        store(sector);
+        size++;
+    }
+
+    private void store(Sector sector) {
+        int number = sector.getNumber();
+        if (sparse != null) {
+            sparse.putIfAbsent(number, sector);
+            return;
+        }
+        if (number < 0 || number >= byNumber.length) {
+            if (number < 0 || !isDense(number, size + 1)) {
+                switchToSparse();
+                sparse.putIfAbsent(number, sector);
+                return;
+            }
+            byNumber = Arrays.copyOf(byNumber, Math.max(number + 1, byNumber.length * 2));
+        }
+        if (byNumber[number] == null) {
+            byNumber[number] = sector;
+        }
+    }
+
+    private void switchToSparse() {
+        sparse = new HashMap<>(Math.max(16, size * 2));
+        for (Sector sector : byNumber) {
+            if (sector != null) {
+                sparse.put(sector.getNumber(), sector);
+            }
+        }
+        byNumber = null;
+    }
+}
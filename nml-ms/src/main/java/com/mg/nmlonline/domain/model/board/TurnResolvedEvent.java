@@ -0,0 +1,7 @@
+package com.mg.nmlonline.domain.model.board;
+
+/**
+ * Fin de tour résolue sur un plateau ; {@code currentTurn} est le nouveau tour courant.
+ */
+public record TurnResolvedEvent(Long boardId, int currentTurn) {
+}
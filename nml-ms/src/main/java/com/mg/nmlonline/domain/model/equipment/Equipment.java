@@ -2,6 +2,7 @@ package com.mg.nmlonline.domain.model.equipment;
 
 import com.mg.nmlonline.domain.model.unit.UnitClass;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -47,6 +48,12 @@ public class Equipment {
     @Column(name = "unit_class")
     private Set<UnitClass> compatibleClasses = new HashSet<>();
 
+    /** Masque de {@link #compatibleClasses} ({@link UnitClass#maskOf}), calculé à la demande ; -1 = à recalculer. */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int compatibleMask = -1;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private EquipmentCategory category;
@@ -65,6 +72,23 @@ public class Equipment {
         this.category = category;
     }
 
+    public void setCompatibleClasses(Set<UnitClass> compatibleClasses) {
+        this.compatibleClasses = compatibleClasses;
+        this.compatibleMask = -1;
+    }
+
+    /**
+     * Masque des classes compatibles : une unité peut porter l'équipement si ce masque et le
+     * sien ont un bit commun. Calcul idempotent, sans synchronisation.
+     */
+    public int getCompatibleMask() {
+        int mask = compatibleMask;
+        if (mask < 0) {
+            mask = UnitClass.maskOf(compatibleClasses);
+            compatibleMask = mask;
+        }
+        return mask;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,214 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Classements en mémoire des joueurs, un {@link RankingTree} par {@link RankingMetric}.
+ *
+ * <p>Chaque changement (statistiques d'un joueur, secteur qui change de main) ne retire et ne
+ * réinsère que le joueur concerné dans les classements dont le score a bougé : O(log n). Les
+ * requêtes (top K, joueurs autour d'un rang) coûtent O(log n + K).
+ *
+ * <p>Thread-safe : lectures concurrentes, écritures exclusives.
+ */
+public final class Leaderboard {
+
+    private static final RankingMetric[] METRICS = RankingMetric.values();
+
+    /** Un joueur classé : rang à partir de 1. */
+    public record RankedPlayer(int rank, long playerId, String name, double score) {
+    }
+
+    /** État initial d'un joueur, pour {@link #replaceAll}. */
+    public record Standing(long playerId, String name, double globalPower, double economyPower,
+                           double income, int territory) {
+    }
+
+    private static final class Entry {
+        String name;
+        final double[] scores = new double[METRICS.length];
+
+        Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Map<RankingMetric, RankingTree> trees = new EnumMap<>(RankingMetric.class);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Leaderboard() {
+        for (RankingMetric metric : METRICS) {
+            trees.put(metric, new RankingTree());
+        }
+    }
+
+    /** Remplace tous les classements par l'état donné. */
+    public void replaceAll(Collection<Standing> standings) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            for (RankingMetric metric : METRICS) {
+                trees.put(metric, new RankingTree());
+            }
+            for (Standing standing : standings) {
+                Entry entry = new Entry(standing.name());
+                entry.scores[RankingMetric.GLOBAL_POWER.ordinal()] = standing.globalPower();
+                entry.scores[RankingMetric.ECONOMY_POWER.ordinal()] = standing.economyPower();
+                entry.scores[RankingMetric.INCOME.ordinal()] = standing.income();
+                entry.scores[RankingMetric.TERRITORY.ordinal()] = standing.territory();
+                entries.put(standing.playerId(), entry);
+                for (RankingMetric metric : METRICS) {
+                    trees.get(metric).insert(standing.playerId(), entry.scores[metric.ordinal()]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Nouvelles statistiques d'un joueur (ajouté s'il est inconnu) ; son territoire est conservé. */
+    public void updatePlayer(long playerId, String name, double globalPower, double economyPower, double income) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entryOf(playerId);
+            if (name != null) {
+                entry.name = name;
+            }
+            setScore(playerId, entry, RankingMetric.GLOBAL_POWER, globalPower);
+            setScore(playerId, entry, RankingMetric.ECONOMY_POWER, economyPower);
+            setScore(playerId, entry, RankingMetric.INCOME, income);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Un secteur passe de {@code previousOwner} à {@code newOwner} ({@code null} = neutre). */
+    public void moveTerritory(Long previousOwner, Long newOwner) {
+        if (previousOwner != null && previousOwner.equals(newOwner)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (previousOwner != null) {
+                addTerritory(previousOwner, -1);
+            }
+            if (newOwner != null) {
+                addTerritory(newOwner, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePlayer(long playerId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(playerId);
+            if (entry == null) {
+                return;
+            }
+            for (RankingMetric metric : METRICS) {
+                trees.get(metric).remove(playerId, entry.scores[metric.ordinal()]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Les {@code limit} premiers du classement. */
+    public List<RankedPlayer> top(RankingMetric metric, int limit) {
+        lock.readLock().lock();
+        try {
+            return slice(metric, 0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Le joueur et jusqu'à {@code radius} joueurs de part et d'autre dans le classement ; vide
+     * si le joueur n'est pas classé.
+     */
+    public List<RankedPlayer> around(RankingMetric metric, long playerId, int radius) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(playerId);
+            if (entry == null) {
+                return List.of();
+            }
+            int rank = trees.get(metric).rank(playerId, entry.scores[metric.ordinal()]);
+            int from = Math.max(0, rank - radius);
+            return slice(metric, from, rank + radius + 1 - from);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Rang (à partir de 1) du joueur, 0 s'il n'est pas classé. */
+    public int rankOf(RankingMetric metric, long playerId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(playerId);
+            return entry == null ? 0 : trees.get(metric).rank(playerId, entry.scores[metric.ordinal()]) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<RankedPlayer> slice(RankingMetric metric, int from, int count) {
+        RankingTree tree = trees.get(metric);
+        int to = Math.min(tree.size(), from + Math.max(0, count));
+        List<RankedPlayer> players = new ArrayList<>(Math.max(0, to - from));
+        for (int rank = from; rank < to; rank++) {
+            long id = tree.idAt(rank);
+            players.add(new RankedPlayer(rank + 1, id, entries.get(id).name, tree.scoreAt(rank)));
+        }
+        return players;
+    }
+
+    private void addTerritory(long playerId, int delta) {
+        Entry entry = entryOf(playerId);
+        double territory = entry.scores[RankingMetric.TERRITORY.ordinal()];
+        setScore(playerId, entry, RankingMetric.TERRITORY, Math.max(0, territory + delta));
+    }
+
+    private Entry entryOf(long playerId) {
+        Entry entry = entries.get(playerId);
+        if (entry == null) {
+            entry = new Entry(null);
+            entries.put(playerId, entry);
+            for (RankingMetric metric : METRICS) {
+                trees.get(metric).insert(playerId, 0);
+            }
+        }
+        return entry;
+    }
+
+    private void setScore(long playerId, Entry entry, RankingMetric metric, double score) {
+        double current = entry.scores[metric.ordinal()];
+        if (Double.compare(current, score) == 0) {
+            return;
+        }
+        RankingTree tree = trees.get(metric);
+        tree.remove(playerId, current);
+        tree.insert(playerId, score);
+        entry.scores[metric.ordinal()] = score;
+    }
+}
@@ -0,0 +1,66 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Listener JPA de {@link Player} et {@link Sector} : traduit chaque écriture en base en
+ * événement de classement, quel que soit le service qui a sauvegardé l'entité.
+ *
+ * <p>Instancié par Hibernate via le conteneur de beans Spring (injection du publisher). Les
+ * événements sont publiés pendant le flush ; le {@code LeaderboardService} ne les applique
+ * qu'après le commit.
+ */
+public class LeaderboardEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @PostLoad
+    void onLoad(Object entity) {
+        if (entity instanceof Sector sector) {
+            sector.markOwnerPersisted();
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onWrite(Object entity) {
+        if (entity instanceof Player player) {
+            if (player.getId() != null) {
+                publish(new PlayerStatsChangedEvent(player.getId(), player.getName(),
+                        player.getStats().getGlobalPower(), player.getStats().getTotalEconomyPower(),
+                        player.getStats().getTotalIncome()));
+            }
+        } else if (entity instanceof Sector sector) {
+            Long previousOwner = sector.getPersistedOwnerId();
+            if (previousOwner == null ? sector.getOwnerId() != null : !previousOwner.equals(sector.getOwnerId())) {
+                publish(new SectorOwnerChangedEvent(previousOwner, sector.getOwnerId()));
+            }
+            sector.markOwnerPersisted();
+        }
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        if (entity instanceof Player player) {
+            if (player.getId() != null) {
+                publish(new PlayerRemovedEvent(player.getId()));
+            }
+        } else if (entity instanceof Sector sector && sector.getPersistedOwnerId() != null) {
+            publish(new SectorOwnerChangedEvent(sector.getPersistedOwnerId(), null));
+        }
+    }
+
+    private void publish(Object event) {
+        if (events != null) {
+            events.publishEvent(event);
+        }
+    }
+}
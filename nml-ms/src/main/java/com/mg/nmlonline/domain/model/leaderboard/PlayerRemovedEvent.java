@@ -0,0 +1,7 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+/**
+ * Joueur supprimé de la base.
+ */
+public record PlayerRemovedEvent(long playerId) {
+}
@@ -0,0 +1,8 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+/**
+ * Statistiques d'un joueur écrites en base (création ou mise à jour), telles que flushées.
+ */
+public record PlayerStatsChangedEvent(long playerId, String name, double globalPower,
+                                      double economyPower, double income) {
+}
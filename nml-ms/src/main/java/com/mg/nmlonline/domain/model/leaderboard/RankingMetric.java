@@ -0,0 +1,15 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+/**
+ * Critères de classement du {@link Leaderboard}.
+ */
+public enum RankingMetric {
+    /** Puissance globale : (offensive + défensive) / 2. */
+    GLOBAL_POWER,
+    /** Puissance économique : revenus + équipements + argent + véhicules. */
+    ECONOMY_POWER,
+    /** Revenu par tour (somme des revenus des secteurs possédés). */
+    INCOME,
+    /** Nombre de secteurs possédés. */
+    TERRITORY
+}
@@ -0,0 +1,162 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Classement ordonné (score décroissant, puis identifiant croissant) : treap augmenté de la
+ * taille des sous-arbres, donc insertion, retrait, rang d'un joueur et joueur d'un rang en
+ * O(log n) attendu.
+ *
+ * <p>Un joueur est désigné par son couple (score, identifiant) : l'appelant ({@link Leaderboard})
+ * garde le score courant de chaque joueur pour pouvoir le retirer avant de le réinsérer.
+ *
+ * <p>Non thread-safe.
+ */
+final class RankingTree {
+
+    private static final class Node {
+        final long id;
+        final double score;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(long id, double score, int priority) {
+            this.id = id;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+
+    /** Graine fixe : la forme de l'arbre (et donc les performances) est reproductible. */
+    private final SplittableRandom priorities = new SplittableRandom(0x5EEDL);
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(long id, double score) {
+        Node[] parts = split(root, score, id);
+        root = merge(merge(parts[0], new Node(id, score, priorities.nextInt())), parts[1]);
+    }
+
+    /** @return faux si le couple (score, identifiant) n'est pas dans le classement */
+    boolean remove(long id, double score) {
+        int before = size(root);
+        root = remove(root, id, score);
+        return size(root) < before;
+    }
+
+    /** Rang (à partir de 0) du couple (score, identifiant), -1 s'il est absent. */
+    int rank(long id, double score) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, id, node);
+            if (cmp == 0) {
+                return rank + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /** Identifiant du joueur au rang {@code rank} (à partir de 0). */
+    long idAt(int rank) {
+        return nodeAt(rank).id;
+    }
+
+    /** Score du joueur au rang {@code rank} (à partir de 0). */
+    double scoreAt(int rank) {
+        return nodeAt(rank).score;
+    }
+
+    private Node nodeAt(int rank) {
+        if (rank < 0 || rank >= size(root)) {
+            throw new IndexOutOfBoundsException("Rang " + rank + " hors du classement (" + size(root) + ")");
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank == leftSize) {
+                return node;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /** Négatif si (score, id) se classe avant le nœud : score décroissant puis id croissant. */
+    private static int compare(double score, long id, Node node) {
+        int cmp = Double.compare(node.score, score);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    /** Sépare en (avant (score, id), à partir de (score, id)). */
+    private static Node[] split(Node node, double score, long id) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(score, id, node) <= 0) {
+            Node[] parts = split(node.left, score, id);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+            return parts;
+        }
+        Node[] parts = split(node.right, score, id);
+        node.right = parts[0];
+        update(node);
+        parts[0] = node;
+        return parts;
+    }
+
+    /** Fusionne deux arbres dont toutes les clés de {@code a} précèdent celles de {@code b}. */
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static Node remove(Node node, long id, double score) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, id, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, id, score);
+        } else {
+            node.right = remove(node.right, id, score);
+        }
+        update(node);
+        return node;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,7 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+/**
+ * Propriétaire d'un secteur changé en base ({@code null} = neutre, ou secteur créé / supprimé).
+ */
+public record SectorOwnerChangedEvent(Long previousOwner, Long newOwner) {
+}
@@ -0,0 +1,321 @@
+package com.mg.nmlonline.domain.model.movement;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.CombatEntity;
+import com.mg.nmlonline.domain.model.unit.GameCharacter;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.vehicle.Vehicle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * État de travail détaché d'une résolution de mouvements.
+ *
+ * <p>Pendant la résolution, les déplacements ne touchent pas les collections JPA des secteurs :
+ * ils sont simulés sur des copies en mémoire (listes d'entités par secteur et compteurs de
+ * présence par joueur). Un secteur n'est copié qu'au premier accès. {@link #apply()} reporte
+ * ensuite le diff net sur les entités gérées en une seule passe : une entité qui traverse
+ * 1 → 2 → 3 ne produit qu'un retrait de 1 et un ajout en 3, et la puissance militaire de chaque
+ * secteur touché n'est mise à jour que par les deltas de ce diff net.
+ *
+ * <p>Les règles de déplacement reproduisent celles de l'ancienne mutation directe, y compris
+ * les cas particuliers (un bâtiment désigné par un ordre à pied change de secteur mais reste
+ * dans la liste de son secteur d'origine). Les départs d'un step sont planifiés sur l'état de
+ * début de step ({@link #planDepartures}) puis appliqués ({@link #arrive}) : une entité arrivée
+ * pendant un step ne repart pas au cours du même step.
+ *
+ * <p>Une instance par résolution. Les lectures sur des secteurs préparés peuvent être
+ * concurrentes ; les mutations sont réservées à un seul thread.
+ */
+public final class ResolutionWorkingSet {
+
+    private final Board board;
+    private final Map<Integer, SectorState> states = new LinkedHashMap<>();
+    /** Dernier secteur assigné à chaque entité déplacée (reporté par {@code setSector}). */
+    private final Map<CombatEntity, Sector> relocated = new IdentityHashMap<>();
+
+    public ResolutionWorkingSet(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Copie le secteur dans l'état de travail s'il ne l'est pas déjà. Les méthodes de lecture
+     * ({@link #playersPresent}, {@link #planDepartures}) ne voient que les secteurs préparés,
+     * ce qui permet de les appeler depuis plusieurs threads tant qu'aucune mutation n'a lieu.
+     */
+    public void prepare(int sectorNumber) {
+        state(sectorNumber);
+    }
+
+    /**
+     * Joueurs ayant au moins une entité dans le secteur, selon l'état simulé, une fois retirées
+     * les entités des départs indiqués (ordres déjà avancés plus tôt dans le step).
+     */
+    public Set<Long> playersPresent(int sectorNumber, List<Departure> departed) {
+        SectorState state = states.get(sectorNumber);
+        if (state == null) {
+            return new HashSet<>();
+        }
+        Map<Long, Integer> presence = new HashMap<>(state.presence);
+        for (Departure departure : departed) {
+            for (CombatEntity entity : departure.removed) {
+                if (entity.getPlayerId() != null) {
+                    presence.merge(entity.getPlayerId(), -1, Integer::sum);
+                }
+            }
+        }
+        Set<Long> players = new HashSet<>();
+        presence.forEach((playerId, count) -> {
+            if (count > 0) players.add(playerId);
+        });
+        return players;
+    }
+
+    /**
+     * Détermine, sans rien modifier, les entités emportées par chaque ordre quittant le secteur,
+     * dans l'ordre donné : une entité déjà emportée par un ordre précédent ne l'est pas une
+     * seconde fois.
+     *
+     * <ul>
+     *   <li>Ordre à pied : entités du secteur désignées par l'ordre. Unités et personnages
+     *       changent de liste ; bâtiments et véhicules ne changent que de secteur.</li>
+     *   <li>Ordre véhicule : le véhicule, s'il existe et n'est pas détruit ; il rejoint la cible
+     *       même s'il n'était pas listé dans le secteur de départ.</li>
+     * </ul>
+     */
+    public List<Departure> planDepartures(int fromNumber, List<MovementOrder> orders, Map<Long, Vehicle> vehicles) {
+        SectorState from = states.get(fromNumber);
+        Set<CombatEntity> claimed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<CombatEntity> entities = from != null ? from.combatEntities() : List.of();
+        List<Departure> departures = new ArrayList<>(orders.size());
+
+        for (MovementOrder order : orders) {
+            Departure departure = new Departure(order, fromNumber);
+            if (order.isVehicleMovement()) {
+                Vehicle vehicle = vehicles.get(order.getVehicleId());
+                if (vehicle != null && !vehicle.isDestroyed()) {
+                    if (from != null && from.vehicles.contains(vehicle) && claimed.add(vehicle)) {
+                        departure.removed.add(vehicle);
+                    }
+                    departure.added.add(vehicle);
+                    departure.relocated.add(vehicle);
+                }
+            } else {
+                List<Long> entityIds = order.getEntityIds();
+                for (CombatEntity entity : entities) {
+                    if (!entityIds.contains(entity.getId()) || claimed.contains(entity)) continue;
+                    if (entity instanceof Unit || entity instanceof GameCharacter) {
+                        claimed.add(entity);
+                        departure.removed.add(entity);
+                        departure.added.add(entity);
+                    }
+                    departure.relocated.add(entity);
+                }
+            }
+            departures.add(departure);
+        }
+        return departures;
+    }
+
+    /**
+     * Applique un départ planifié : les entités quittent leur secteur et rejoignent la cible.
+     */
+    public void arrive(int toNumber, Departure departure) {
+        SectorState to = state(toNumber);
+        if (to == null) {
+            return;
+        }
+        to.touched = true;
+        SectorState from = state(departure.fromNumber);
+        if (from != null) {
+            from.touched = true;
+            for (CombatEntity entity : departure.removed) {
+                if (from.listOf(entity).remove(entity)) from.leave(entity);
+            }
+        }
+        for (CombatEntity entity : departure.added) {
+            to.listOf(entity).add(entity);
+            to.enter(entity);
+        }
+        for (CombatEntity entity : departure.relocated) {
+            relocated.put(entity, to.sector);
+        }
+    }
+
+    /**
+     * Dépose les occupants débarqués d'un véhicule dans le secteur.
+     */
+    public void disembark(int sectorNumber, List<CombatEntity> occupants) {
+        SectorState state = state(sectorNumber);
+        if (state == null) {
+            return;
+        }
+        state.touched = true;
+        for (CombatEntity occupant : occupants) {
+            relocated.put(occupant, state.sector);
+            if (occupant instanceof Unit || occupant instanceof GameCharacter) {
+                state.listOf(occupant).add(occupant);
+                state.enter(occupant);
+            }
+        }
+    }
+
+    /**
+     * Reporte le diff net sur les collections gérées des secteurs et sur le secteur des
+     * entités déplacées, puis met à jour la puissance militaire de chaque secteur touché par
+     * deltas (entités sorties et entrées).
+     *
+     * @return les secteurs touchés
+     */
+    public List<Sector> apply() {
+        List<Sector> touched = new ArrayList<>();
+        for (SectorState state : states.values()) {
+            if (!state.touched) continue;
+            List<CombatEntity> left = new ArrayList<>();
+            List<CombatEntity> entered = new ArrayList<>();
+            applyDiff(state.sector.getArmy(), state.army, Unit.class, left, entered);
+            applyDiff(state.sector.getCharacters(), state.characters, GameCharacter.class, left, entered);
+            applyDiff(state.sector.getVehicles(), state.vehicles, Vehicle.class, left, entered);
+            state.sector.applyStatsDelta(left, entered);
+            // Les arrivées sont ajoutées en fin de liste, dans l'ordre de résolution
+            state.sector.invalidateArmyOrder();
+            touched.add(state.sector);
+        }
+        relocated.forEach(CombatEntity::setSector);
+        return touched;
+    }
+
+    private SectorState state(int sectorNumber) {
+        SectorState state = states.get(sectorNumber);
+        if (state == null) {
+            Sector sector = board.getSector(sectorNumber);
+            if (sector == null) {
+                return null;
+            }
+            state = new SectorState(sector);
+            states.put(sectorNumber, state);
+        }
+        return state;
+    }
+
+    /**
+     * Retire de la liste gérée les entités absentes de la copie de travail et ajoute les
+     * nouvelles, dans l'ordre de la copie. Les entités restées en place ne sont pas touchées ;
+     * les entités retirées et ajoutées sont reportées dans {@code left} et {@code entered}.
+     */
+    private static <T extends CombatEntity> void applyDiff(List<T> managed, List<CombatEntity> working,
+                                                           Class<T> type,
+                                                           List<CombatEntity> left, List<CombatEntity> entered) {
+        if (managed == null) {
+            return;
+        }
+        Set<CombatEntity> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(working);
+        managed.removeIf(e -> {
+            if (kept.contains(e)) return false;
+            left.add(e);
+            return true;
+        });
+
+        Set<CombatEntity> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        present.addAll(managed);
+        for (CombatEntity entity : working) {
+            if (present.add(entity)) {
+                managed.add(type.cast(entity));
+                entered.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Départ planifié d'un ordre pendant un step (voir {@link #planDepartures}).
+     */
+    public static final class Departure {
+        private final MovementOrder order;
+        private final int fromNumber;
+        /** Entités retirées des listes du secteur de départ. */
+        private final List<CombatEntity> removed = new ArrayList<>();
+        /** Entités ajoutées aux listes du secteur cible. */
+        private final List<CombatEntity> added = new ArrayList<>();
+        /** Entités dont le secteur est réassigné à la cible. */
+        private final List<CombatEntity> relocated = new ArrayList<>();
+
+        private Departure(MovementOrder order, int fromNumber) {
+            this.order = order;
+            this.fromNumber = fromNumber;
+        }
+
+        public MovementOrder getOrder() {
+            return order;
+        }
+    }
+
+    /**
+     * Copie de travail d'un secteur : listes d'entités et nombre d'entités par joueur.
+     * Les bâtiments ne changent pas de liste pendant une résolution.
+     */
+    private static final class SectorState {
+        final Sector sector;
+        final List<CombatEntity> army;
+        final List<CombatEntity> buildings;
+        final List<CombatEntity> characters;
+        final List<CombatEntity> vehicles;
+        final Map<Long, Integer> presence = new HashMap<>();
+        boolean touched;
+
+        SectorState(Sector sector) {
+            this.sector = sector;
+            this.army = copy(sector.getArmy());
+            this.buildings = copy(sector.getBuildings());
+            this.characters = copy(sector.getCharacters());
+            this.vehicles = copy(sector.getVehicles());
+            for (CombatEntity entity : combatEntities()) {
+                enter(entity);
+            }
+        }
+
+        private static List<CombatEntity> copy(List<? extends CombatEntity> list) {
+            return list != null ? new ArrayList<>(list) : new ArrayList<>();
+        }
+
+        /** Liste de travail à laquelle appartient l'entité selon son type. */
+        List<CombatEntity> listOf(CombatEntity entity) {
+            if (entity instanceof Unit) return army;
+            if (entity instanceof GameCharacter) return characters;
+            if (entity instanceof Vehicle) return vehicles;
+            return buildings;
+        }
+
+        /** Même ordre que {@link Sector#getCombatEntities()}. */
+        List<CombatEntity> combatEntities() {
+            List<CombatEntity> all = new ArrayList<>(army.size() + buildings.size()
+                    + characters.size() + vehicles.size());
+            all.addAll(army);
+            all.addAll(buildings);
+            all.addAll(characters);
+            all.addAll(vehicles);
+            return all;
+        }
+
+        void enter(CombatEntity entity) {
+            if (entity.getPlayerId() != null) {
+                presence.merge(entity.getPlayerId(), 1, Integer::sum);
+            }
+        }
+
+        void leave(CombatEntity entity) {
+            if (entity.getPlayerId() != null) {
+                presence.merge(entity.getPlayerId(), -1, Integer::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.mg.nmlonline.domain.model.player;
+
+import com.mg.nmlonline.domain.model.board.PlayerStatsAggregator;
+import com.mg.nmlonline.domain.model.building.Bank;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Revenus de fin de tour de tous les joueurs, calculés en un seul passage : revenus des
+ * secteurs (lus sur {@link PlayerStatsAggregator}, un seul balayage du plateau), puis part
+ * vampirisée de chaque banque capturée ({@link Bank#calculateVampirizedAmount}), retirée au
+ * propriétaire de la banque et versée à son capteur.
+ *
+ * <p>Chaque joueur reçoit ensuite son solde net en un seul crédit ({@link #applyTo}) : une
+ * seule mise à jour par joueur, regroupée au flush de fin de tour.
+ */
+public final class IncomeLedger {
+
+    /**
+     * Revenus d'un joueur pour le tour.
+     *
+     * @param sectorIncome   revenus de ses secteurs
+     * @param vampirizedOut  part vampirisée par le capteur de sa banque
+     * @param vampirizedIn   parts vampirisées sur les banques qu'il a capturées
+     */
+    public record PlayerIncome(double sectorIncome, double vampirizedOut, double vampirizedIn) {
+
+        static final PlayerIncome NONE = new PlayerIncome(0, 0, 0);
+
+        /** Montant crédité : jamais négatif, la vampirisation plafonne à 75 % des revenus. */
+        public double net() {
+            return sectorIncome - vampirizedOut + vampirizedIn;
+        }
+    }
+
+    private final Map<Long, PlayerIncome> byPlayer;
+
+    private IncomeLedger(Map<Long, PlayerIncome> byPlayer) {
+        this.byPlayer = byPlayer;
+    }
+
+    /**
+     * @param playerIds     joueurs du tour ; une banque dont le propriétaire ou le capteur n'en
+     *                      fait pas partie est ignorée
+     * @param totals        totaux des joueurs sur le plateau
+     * @param capturedBanks banques capturées
+     * @param turn          tour qui se termine (taux de vampirisation)
+     */
+    public static IncomeLedger compute(Collection<Long> playerIds, PlayerStatsAggregator totals,
+                                       Collection<Bank> capturedBanks, int turn) {
+        Map<Long, double[]> accumulators = new HashMap<>(playerIds.size() * 2);
+        for (Long playerId : playerIds) {
+            accumulators.put(playerId, new double[]{totals.of(playerId).totalIncome(), 0, 0});
+        }
+        for (Bank bank : capturedBanks) {
+            double[] victim = accumulators.get(bank.getPlayerId());
+            double[] captor = accumulators.get(bank.getCapturedByPlayerId());
+            if (victim == null || captor == null) continue;
+            double amount = bank.calculateVampirizedAmount(victim[0], turn);
+            if (amount > 0) {
+                victim[1] += amount;
+                captor[2] += amount;
+            }
+        }
+        Map<Long, PlayerIncome> byPlayer = new HashMap<>(accumulators.size() * 2);
+        accumulators.forEach((id, a) -> byPlayer.put(id, new PlayerIncome(a[0], a[1], a[2])));
+        return new IncomeLedger(byPlayer);
+    }
+
+    /** Revenus du joueur (tous nuls s'il n'est pas du tour). */
+    public PlayerIncome of(Long playerId) {
+        PlayerIncome income = playerId != null ? byPlayer.get(playerId) : null;
+        return income != null ? income : PlayerIncome.NONE;
+    }
+
+    /**
+     * Crédite à chaque joueur son solde net.
+     *
+     * @return le nombre de joueurs crédités
+     */
+    public int applyTo(Collection<Player> players) {
+        int credited = 0;
+        for (Player player : players) {
+            double net = of(player.getId()).net();
+            if (net > 0) {
+                player.incrementMoney(net);
+                credited++;
+            }
+        }
+        return credited;
+    }
+}
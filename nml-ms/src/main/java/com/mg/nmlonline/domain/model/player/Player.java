@@ -4,6 +4,7 @@ import com.mg.nmlonline.domain.model.building.Building;
 import com.mg.nmlonline.domain.model.equipment.Equipment;
 import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
 import com.mg.nmlonline.domain.model.equipment.EquipmentStack;
+import com.mg.nmlonline.domain.model.leaderboard.LeaderboardEntityListener;
 import com.mg.nmlonline.domain.model.resource.PlayerResource;
 import com.mg.nmlonline.domain.model.unit.GameCharacter;
 import com.mg.nmlonline.domain.model.unit.Unit;
@@ -27,6 +28,7 @@ import java.util.*;
  */
 @Entity
 @Table(name = "PLAYERS")
+@EntityListeners(LeaderboardEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
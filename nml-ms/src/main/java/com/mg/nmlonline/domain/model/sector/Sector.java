@@ -2,12 +2,16 @@ package com.mg.nmlonline.domain.model.sector;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.BoardSnapshotEntityListener;
 import com.mg.nmlonline.domain.model.building.Building;
+import com.mg.nmlonline.domain.model.leaderboard.LeaderboardEntityListener;
 import com.mg.nmlonline.domain.model.unit.CombatEntity;
 import com.mg.nmlonline.domain.model.unit.GameCharacter;
 import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitType;
 import com.mg.nmlonline.domain.model.vehicle.Vehicle;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -15,10 +19,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Représente un secteur de la carte - Entité JPA avec clé composite
@@ -31,10 +37,33 @@ import java.util.*;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(exclude = {"board", "army"})
 @IdClass(Sector.SectorId.class)
+@EntityListeners({LeaderboardEntityListener.class, BoardSnapshotEntityListener.class})
 public class Sector {
 
     private static final Logger logger = LoggerFactory.getLogger(Sector.class);
 
+    /**
+     * Mode vérification (tests) : chaque mise à jour incrémentale des statistiques est comparée
+     * à un recalcul complet, {@link IllegalStateException} en cas d'écart. Activé par
+     * {@code -Dnml.sector.verify-stats=true} (configuration Surefire du module).
+     */
+    private static volatile boolean statsVerification = Boolean.getBoolean("nml.sector.verify-stats");
+
+    private static final int UNIT_TYPES = UnitType.values().length;
+
+    /** Rang d'une unité dans l'armée : expérience, puis défense et attaque totales décroissantes. */
+    private static final Comparator<Unit> ARMY_RANK = Comparator
+            .comparingDouble(Unit::getExperience).reversed()
+            .thenComparing(Unit::getTotalDefense, Comparator.reverseOrder())
+            .thenComparing(Unit::getTotalAttack, Comparator.reverseOrder());
+
+    /**
+     * Ordre de l'armée : rang, puis identifiant (nuls en dernier). Le tri étant stable, des
+     * unités sans identifiant de même rang gardent leur ordre d'ajout.
+     */
+    private static final Comparator<Unit> ARMY_ORDER = ARMY_RANK
+            .thenComparing(Unit::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     @Id
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
@@ -56,6 +85,12 @@ public class Sector {
     @Column(name = "owner_id")
     private Long ownerId; // null si secteur neutre
 
+    /** Propriétaire tel qu'en base (chargement ou dernier flush), suivi par {@link LeaderboardEntityListener}. */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long persistedOwnerId;
+
     @Column(nullable = false)
     private String color = "#ffffff";
 
@@ -82,6 +117,32 @@ public class Sector {
     @Embedded
     private SectorStats stats = new SectorStats();
 
+    /**
+     * Vrai quand {@link #stats} part d'un recalcul complet fait dans cette session : les
+     * listes inverses (bâtiments, personnages, véhicules) d'un secteur chargé ou construit ne
+     * sont pas forcément reflétées dans les totaux persistés. Le premier delta recalcule donc
+     * tout, les suivants sont incrémentaux.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean statsSynced;
+
+    /**
+     * Armée triée et numérotée par le dernier tri complet, et sa taille : tant que
+     * {@link #army} est cette liste à cette taille, ajouts et retraits unitaires la maintiennent
+     * par insertion dichotomique au lieu de la retrier.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<Unit> orderedArmy;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int orderedArmySize;
+
     // Unités dans ce secteur
     @OneToMany(mappedBy = "sector", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Unit> army = new ArrayList<>();
@@ -119,11 +180,29 @@ public class Sector {
     public void addNeighbor(int neighborNumber) {
         if (!neighbors.contains(neighborNumber) && neighborNumber != this.number) {
             neighbors.add(neighborNumber);
+            notifyTopologyChanged();
         }
     }
 
     public void removeNeighbor(int neighborNumber) {
-        neighbors.remove((Integer) neighborNumber);
+        if (neighbors.remove((Integer) neighborNumber)) {
+            notifyTopologyChanged();
+        }
+    }
+
+    public void setNeighbors(List<Integer> neighbors) {
+        this.neighbors = neighbors;
+        notifyTopologyChanged();
+    }
+
+    /**
+     * Invalide le graphe des voisinages du plateau. Un proxy Hibernate non initialisé n'a pas
+     * encore de graphe en cache : inutile (et coûteux) de le charger pour l'invalider.
+     */
+    private void notifyTopologyChanged() {
+        if (board != null && Hibernate.isInitialized(board)) {
+            board.invalidateTopology();
+        }
     }
 
     public boolean isNeighbor(int sectorNumber) {
@@ -137,8 +216,44 @@ public class Sector {
     // === GESTION OWNER ET COULEUR ===
 
     public void setOwnerAndColor(Long playerId, String colorHex) {
+        Long previousOwner = this.ownerId;
         this.ownerId = playerId;
         this.color = colorHex != null ? colorHex : "#ffffff";
+        notifyOwnerChanged(previousOwner);
+    }
+
+    public void setOwnerId(Long ownerId) {
+        Long previousOwner = this.ownerId;
+        this.ownerId = ownerId;
+        notifyOwnerChanged(previousOwner);
+    }
+
+    /**
+     * Tient à jour l'index de propriété du plateau (même garde que {@link #notifyTopologyChanged}).
+     */
+    private void notifyOwnerChanged(Long previousOwner) {
+        if (!Objects.equals(previousOwner, ownerId) && board != null && Hibernate.isInitialized(board)) {
+            board.onSectorOwnerChanged(this, previousOwner);
+        }
+    }
+
+    /**
+     * Invalide les totaux des joueurs en cache sur le plateau (même garde que
+     * {@link #notifyTopologyChanged}).
+     */
+    private void notifyContentChanged() {
+        if (board != null && Hibernate.isInitialized(board)) {
+            board.onContentChanged();
+        }
+    }
+
+    public Long getPersistedOwnerId() {
+        return persistedOwnerId;
+    }
+
+    /** Le propriétaire courant est désormais celui en base. */
+    public void markOwnerPersisted() {
+        persistedOwnerId = ownerId;
     }
 
     public boolean isOwnedBy(Long playerId) {
@@ -151,72 +266,164 @@ public class Sector {
 
     // === GESTION DES STATISTIQUES DU SECTEUR ===
 
-    public void recalculateMilitaryPower(){
-        List<CombatEntity> allEntities = getCombatEntities();
-
-        stats.setTotalAtk(allEntities.stream()
-                .mapToDouble(CombatEntity::getAttack)
-                .sum());
-        stats.setTotalPdf(allEntities.stream()
-                .mapToDouble(CombatEntity::getPdf)
-                .sum());
-        stats.setTotalPdc(allEntities.stream()
-                .mapToDouble(CombatEntity::getPdc)
-                .sum());
-        stats.setTotalDef(allEntities.stream()
-                .mapToDouble(CombatEntity::getDefense)
-                .sum());
-        stats.setTotalArmor(allEntities.stream()
-                .mapToDouble(CombatEntity::getArmor)
-                .sum());
-
-        stats.setTotalOffensive(stats.getTotalAtk() + stats.getTotalPdf() + stats.getTotalPdc());
-        stats.setTotalDefensive(stats.getTotalDef() + stats.getTotalArmor());
-        stats.setGlobalStats((stats.getTotalOffensive() + stats.getTotalDefensive()) / 2);
+    /**
+     * Recalcul complet des statistiques, à réserver aux changements en masse (fin de bataille,
+     * recalcul des joueurs). Les entrées, sorties et changements d'une entité passent par
+     * des deltas : {@link #applyStatsDelta}, {@link #updateEntityStats}.
+     */
+    public void recalculateMilitaryPower() {
+        stats.recompute(army, buildings, characters, vehicles);
+        statsSynced = true;
+        notifyContentChanged();
+    }
+
+    public void setStats(SectorStats stats) {
+        this.stats = stats;
+        this.statsSynced = false;
+        notifyContentChanged();
+    }
+
+    public void setIncome(double income) {
+        this.income = income;
+        notifyContentChanged();
+    }
+
+    /**
+     * Met à jour les statistiques par deltas après un changement des listes du secteur :
+     * {@code left} en sont sorties, {@code entered} y sont entrées. Recalcul complet si les
+     * totaux ne sont pas encore synchronisés dans cette session.
+     */
+    public void applyStatsDelta(Collection<? extends CombatEntity> left, Collection<? extends CombatEntity> entered) {
+        if (!statsSynced) {
+            recalculateMilitaryPower();
+            return;
+        }
+        left.forEach(stats::subtract);
+        entered.forEach(stats::add);
+        notifyContentChanged();
+        verifyStats();
+    }
+
+    /**
+     * Applique {@code change} aux statistiques d'une entité du secteur (équipement, blessure…)
+     * en tenant les totaux du secteur à jour.
+     *
+     * @return le résultat de {@code change}
+     */
+    public <T> T updateEntityStats(CombatEntity entity, Supplier<T> change) {
+        if (entity instanceof Unit) {
+            invalidateArmyOrder();
+        }
+        if (!statsSynced) {
+            T result = change.get();
+            recalculateMilitaryPower();
+            return result;
+        }
+        stats.subtract(entity);
+        T result = change.get();
+        stats.add(entity);
+        notifyContentChanged();
+        verifyStats();
+        return result;
+    }
+
+    public static boolean isStatsVerification() {
+        return statsVerification;
+    }
+
+    public static void setStatsVerification(boolean enabled) {
+        statsVerification = enabled;
+    }
+
+    /** En mode vérification, compare les totaux incrémentaux à un recalcul complet. */
+    private void verifyStats() {
+        if (!statsVerification) return;
+        SectorStats expected = new SectorStats();
+        expected.recompute(army, buildings, characters, vehicles);
+        if (!stats.matches(expected)) {
+            throw new IllegalStateException("Statistiques du secteur " + number + " divergentes : "
+                    + stats + " au lieu de " + expected);
+        }
     }
 
     // === GESTION DE L'ARMÉE DU SECTEUR ===
 
+    /**
+     * Ajoute une unité. Armée déjà ordonnée : insertion dichotomique et renumérotation des
+     * seules unités du même type qui suivent ; sinon tri complet.
+     */
     public void addUnit(Unit unit) {
         if (unit != null) {
             unit.setSector(this); // Important: définir la relation bidirectionnelle
-            army.add(unit);
-            sortArmy();
-            reassignUnitIds();
-            recalculateMilitaryPower();
+            if (isArmyOrdered()) {
+                int index = upperBound(unit);
+                army.add(index, unit);
+                unit.setNumber(previousNumberOfType(index, unit.getType()) + 1);
+                shiftNumbersAfter(index, unit.getType(), 1);
+                orderedArmySize = army.size();
+                verifyArmyOrder();
+            } else {
+                army.add(unit);
+                orderArmy();
+            }
+            applyStatsDelta(List.of(), List.of(unit));
         }
     }
 
     public void addUnits(List<Unit> units) {
         if (units != null && !units.isEmpty()) {
-            for (Unit unit : units) {
-                unit.setSector(this); // Important: définir la relation bidirectionnelle
-            }
-            army.addAll(units);
-            sortArmy();
-            reassignUnitIds();
-            recalculateMilitaryPower();
+            updateArmy(List.of(), units);
         }
     }
 
     public boolean removeUnit(Unit unit) {
-        boolean removed = army.remove(unit);
-        if (removed) {
-            sortArmy();
-            reassignUnitIds();
-            recalculateMilitaryPower();
+        int index = indexInArmy(unit);
+        if (index < 0) {
+            return false;
+        }
+        Unit removed = army.remove(index);
+        if (isArmyOrdered()) {
+            shiftNumbersAfter(index - 1, removed.getType(), -1);
+            orderedArmySize = army.size();
+            verifyArmyOrder();
+        } else {
+            orderArmy();
         }
-        return removed;
+        applyStatsDelta(List.of(removed), List.of());
+        return true;
     }
 
     public boolean removeUnit(int unitId) {
-        boolean removed = army.removeIf(unit -> unit.getId() == unitId);
-        if (removed) {
-            sortArmy();
-            reassignUnitIds();
-            recalculateMilitaryPower();
+        List<Unit> removed = army.stream()
+                .filter(unit -> unit.getId() == unitId)
+                .toList();
+        if (!removed.isEmpty()) {
+            updateArmy(removed, List.of());
         }
-        return removed;
+        return !removed.isEmpty();
+    }
+
+    /**
+     * Mutation en masse de l'armée (déplacements, imports) : retrait de {@code leaving} (par
+     * identité), ajout de {@code entering}, puis un seul tri, une seule renumérotation et un
+     * seul delta de statistiques. Sur une armée déjà ordonnée, le tri fusionne les deux suites
+     * triées (TimSort) : O(n + k log k) pour k unités entrantes.
+     */
+    public void updateArmy(Collection<Unit> leaving, Collection<Unit> entering) {
+        if (leaving.isEmpty() && entering.isEmpty()) {
+            return;
+        }
+        if (!leaving.isEmpty()) {
+            Set<Unit> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+            toRemove.addAll(leaving);
+            army.removeIf(toRemove::contains);
+        }
+        for (Unit unit : entering) {
+            unit.setSector(this); // Important: définir la relation bidirectionnelle
+        }
+        army.addAll(entering);
+        orderArmy();
+        applyStatsDelta(leaving, entering);
     }
 
     public int getArmySize() {
@@ -261,23 +468,119 @@ public class Sector {
     // === TRI ET RÉASSIGNATION DES IDS ===
 
     public void sortArmy() {
-        army.sort(Comparator
-                .comparingDouble(Unit::getExperience).reversed()
-                .thenComparing(Unit::getTotalDefense, Comparator.reverseOrder())
-                .thenComparing(Unit::getTotalAttack, Comparator.reverseOrder())
-                .thenComparing(Unit::getId, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparingInt(System::identityHashCode)
-        );
+        army.sort(ARMY_ORDER);
     }
 
     public void reassignUnitIds() {
         // Déplacer cette méthode plutôt côté Player pr garder une uniformité : larbin n°1 dans un quartier, si larbin n°1 dans un autre quartier, ce sont 2 unités différentes, donc larbin n°2.
-        Map<String, Integer> typeCounters = new HashMap<>();
+        int[] typeCounters = new int[UNIT_TYPES];
         for (Unit unit : army) {
-            String unitType = unit.getType().name();
-            int currentCount = typeCounters.getOrDefault(unitType, 0) + 1;
-            typeCounters.put(unitType, currentCount);
-            unit.setNumber(currentCount);
+            unit.setNumber(++typeCounters[unit.getType().ordinal()]);
+        }
+    }
+
+    /**
+     * L'ordre et la numérotation de l'armée ne sont plus garantis (statistiques d'unités
+     * modifiées, listes remaniées directement) : le prochain ajout ou retrait refera un tri
+     * complet.
+     */
+    public void invalidateArmyOrder() {
+        orderedArmy = null;
+    }
+
+    /** Tri complet + renumérotation ; l'armée est ensuite maintenue par insertion dichotomique. */
+    private void orderArmy() {
+        sortArmy();
+        reassignUnitIds();
+        orderedArmy = army;
+        orderedArmySize = army.size();
+        verifyArmyOrder();
+    }
+
+    /**
+     * Vrai si l'armée est triée et numérotée depuis le dernier {@link #orderArmy()} : même
+     * liste, même taille (une liste remplacée ou modifiée directement est détectée, comme
+     * pour les index du plateau).
+     */
+    private boolean isArmyOrdered() {
+        return orderedArmy == army && army.size() == orderedArmySize;
+    }
+
+    /**
+     * Position d'insertion selon {@link #ARMY_ORDER}, après les unités équivalentes : même place
+     * qu'un ajout en fin de liste suivi d'un tri complet (stable).
+     */
+    private int upperBound(Unit unit) {
+        int low = 0;
+        int high = army.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ARMY_ORDER.compare(army.get(mid), unit) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Index de l'unité (identité, sinon égalité comme {@link List#remove(Object)}), -1 si absente. */
+    private int indexInArmy(Unit unit) {
+        if (unit == null) {
+            return -1;
+        }
+        if (isArmyOrdered()) {
+            int low = 0;
+            int high = army.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ARMY_ORDER.compare(army.get(mid), unit) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < army.size() && ARMY_ORDER.compare(army.get(i), unit) == 0; i++) {
+                if (army.get(i) == unit) {
+                    return i;
+                }
+            }
+        }
+        return army.indexOf(unit);
+    }
+
+    /** Numéro de la dernière unité de ce type avant {@code index}, 0 s'il n'y en a pas. */
+    private int previousNumberOfType(int index, UnitType type) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (army.get(i).getType() == type) {
+                return army.get(i).getNumber();
+            }
+        }
+        return 0;
+    }
+
+    private void shiftNumbersAfter(int index, UnitType type, int delta) {
+        for (int i = index + 1; i < army.size(); i++) {
+            Unit unit = army.get(i);
+            if (unit.getType() == type) {
+                unit.setNumber(unit.getNumber() + delta);
+            }
+        }
+    }
+
+    /** En mode vérification, contrôle l'ordre et la numérotation maintenus incrémentalement. */
+    private void verifyArmyOrder() {
+        if (!statsVerification) return;
+        int[] typeCounters = new int[UNIT_TYPES];
+        for (int i = 0; i < army.size(); i++) {
+            Unit unit = army.get(i);
+            if (i > 0 && ARMY_ORDER.compare(army.get(i - 1), unit) > 0) {
+                throw new IllegalStateException("Armée du secteur " + number + " mal ordonnée à l'index " + i);
+            }
+            if (unit.getNumber() != ++typeCounters[unit.getType().ordinal()]) {
+                throw new IllegalStateException("Numérotation de l'armée du secteur " + number
+                        + " divergente à l'index " + i);
+            }
         }
     }
 
@@ -1,13 +1,22 @@
 package com.mg.nmlonline.domain.model.sector;
 
+import com.mg.nmlonline.domain.model.unit.CombatEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.Collection;
+import java.util.Locale;
+
 /**
  * Statistiques d'un secteur - Classe Embeddable pour JPA
+ *
+ * <p>Les cinq totaux sont tenus à jour par deltas ({@link #add}, {@link #subtract}) quand une
+ * entité entre dans le secteur, en sort ou change de statistiques ; les trois totaux dérivés
+ * (offensif, défensif, global) sont recalculés en O(1) après chaque delta.
+ * {@link #recompute} repart de zéro en une seule passe sur les entités.
  */
 @Embeddable
 @Getter
@@ -37,4 +46,69 @@ public class SectorStats {
 
     @Column(name = "sector_global_stats")
     private double globalStats = 0.0;
+
+    /** Tolérance de {@link #matches} : les deltas successifs accumulent des erreurs d'arrondi. */
+    private static final double TOLERANCE = 1e-6;
+
+    /** Ajoute les statistiques d'une entité entrée dans le secteur. */
+    public void add(CombatEntity entity) {
+        accumulate(entity, 1);
+        refreshDerived();
+    }
+
+    /** Retire les statistiques d'une entité sortie du secteur. */
+    public void subtract(CombatEntity entity) {
+        accumulate(entity, -1);
+        refreshDerived();
+    }
+
+    /** Recalcul complet : totaux de toutes les entités des groupes ({@code null} ignoré), en une seule passe. */
+    @SafeVarargs
+    public final void recompute(Collection<? extends CombatEntity>... groups) {
+        totalAtk = 0;
+        totalPdf = 0;
+        totalPdc = 0;
+        totalDef = 0;
+        totalArmor = 0;
+        for (Collection<? extends CombatEntity> group : groups) {
+            if (group == null) continue;
+            for (CombatEntity entity : group) {
+                accumulate(entity, 1);
+            }
+        }
+        refreshDerived();
+    }
+
+    private void accumulate(CombatEntity entity, int sign) {
+        totalAtk += sign * entity.getAttack();
+        totalPdf += sign * entity.getPdf();
+        totalPdc += sign * entity.getPdc();
+        totalDef += sign * entity.getDefense();
+        totalArmor += sign * entity.getArmor();
+    }
+
+    private void refreshDerived() {
+        totalOffensive = totalAtk + totalPdf + totalPdc;
+        totalDefensive = totalDef + totalArmor;
+        globalStats = (totalOffensive + totalDefensive) / 2;
+    }
+
+    /** Mêmes totaux que {@code other}, à l'erreur d'arrondi près. */
+    public boolean matches(SectorStats other) {
+        return close(totalAtk, other.totalAtk)
+                && close(totalPdf, other.totalPdf)
+                && close(totalPdc, other.totalPdc)
+                && close(totalDef, other.totalDef)
+                && close(totalArmor, other.totalArmor);
+    }
+
+    private static boolean close(double a, double b) {
+        return Math.abs(a - b) <= TOLERANCE * Math.max(1.0, Math.max(Math.abs(a), Math.abs(b)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "atk=%.2f pdf=%.2f pdc=%.2f def=%.2f arm=%.2f",
+                totalAtk, totalPdf, totalPdc, totalDef, totalArmor);
+    }
 }
@@ -1,6 +1,7 @@
 package com.mg.nmlonline.domain.model.unit;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.mg.nmlonline.domain.model.board.BoardSnapshotEntityListener;
 import com.mg.nmlonline.domain.model.sector.Sector;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -15,6 +16,7 @@ import lombok.Setter;
 @Table(name = "COMBAT_ENTITIES")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "entity_type", discriminatorType = DiscriminatorType.STRING)
+@EntityListeners(BoardSnapshotEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,8 +1,10 @@
 package com.mg.nmlonline.domain.model.unit;
 
+import com.mg.nmlonline.domain.model.battle.DamageType;
 import com.mg.nmlonline.domain.model.equipment.Equipment;
 import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -56,6 +58,13 @@ public class Unit extends CombatEntity {
     @Enumerated(EnumType.STRING)
     private Set<UnitClass> classesSet = new HashSet<>();
 
+    /** Masque de {@link #classesSet} ({@link UnitClass#maskOf}), calculé à la demande ; -1 = à recalculer. */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int classMask = -1;
+
     // ===== ÉTAT DE L'UNITÉ =====
     @Column(name = "is_injured", nullable = true)
     private boolean isInjured = false;
@@ -90,7 +99,25 @@ public class Unit extends CombatEntity {
     }
 
     public void setClasses(List<UnitClass> classes) {
-        this.classesSet = new HashSet<>(classes);
+        setClassesSet(new HashSet<>(classes));
+    }
+
+    public void setClassesSet(Set<UnitClass> classesSet) {
+        this.classesSet = classesSet;
+        this.classMask = -1;
+    }
+
+    /**
+     * Masque des classes de l'unité, recalculé au premier appel après un changement de classes
+     * (les classes ne changent que par les méthodes de l'unité).
+     */
+    public int getClassMask() {
+        int mask = classMask;
+        if (mask < 0) {
+            mask = UnitClass.maskOf(classesSet);
+            classMask = mask;
+        }
+        return mask;
     }
 
     // ===== IMPLÉMENTATION DES MÉTHODES ABSTRAITES =====
@@ -190,8 +217,7 @@ public class Unit extends CombatEntity {
     }
 
     private boolean isEquipmentCompatible(Equipment equipment) {
-        return classesSet.stream()
-                .anyMatch(unitClass -> equipment.getCompatibleClasses().contains(unitClass));
+        return (equipment.getCompatibleMask() & getClassMask()) != 0;
     }
 
     // ===== GESTION DE L'EXPÉRIENCE ET DE L'ÉVOLUTION =====
@@ -239,6 +265,7 @@ public class Unit extends CombatEntity {
     public void addSecondClass(UnitClass secondClass) {
         if (canAddSecondClass() && !classesSet.contains(secondClass)) {
             classesSet.add(secondClass);
+            classMask = -1;
             recalculateBaseStats();
         } else {
             logger.warn("Impossible d'ajouter la classe : {}", secondClass);
@@ -359,11 +386,20 @@ public class Unit extends CombatEntity {
         if (evasion > 0) sb.append(". Esquive : ").append(formatEvasion(evasion)).append(" %");
     }
 
+    /**
+     * Réduction par libellé historique ("PDF", "PDC", "ATK") : un libellé inconnu ne réduit rien,
+     * comme avant la table par masque.
+     */
     public double getDamageReduction(String damageType) {
-        return classesSet.stream()
-                .mapToDouble(c -> c.getDamageReduction(damageType))
-                .max()
-                .orElse(0.0);
+        for (DamageType type : DamageType.values()) {
+            if (type.name().equals(damageType)) return getDamageReduction(type);
+        }
+        return 0.0;
+    }
+
+    /** Réduction de dégâts = max parmi les classes de l'unité (table précalculée par masque). */
+    public double getDamageReduction(DamageType damageType) {
+        return damageType.reduction(getClassMask());
     }
 
     public double getBaseDefense() {
@@ -2,6 +2,8 @@ package com.mg.nmlonline.domain.model.unit;
 
 import lombok.Getter;
 
+import java.util.Collection;
+
 // Énumération pour les classes de spécialisation
 @Getter
 public enum UnitClass {
@@ -42,12 +44,31 @@ public enum UnitClass {
 
     SNIPER("S") {};
 
+    /** Nombre d'ensembles de classes possibles : un masque par sous-ensemble (voir {@link #maskOf}). */
+    public static final int MASK_COUNT = 1 << values().length;
+
     private final String code;
 
     UnitClass(String code) {
         this.code = code;
     }
 
+    /** Bit de la classe dans un masque de classes. */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /** Masque des classes : un bit par classe présente, 0 pour aucune. */
+    public static int maskOf(Collection<UnitClass> classes) {
+        int mask = 0;
+        if (classes != null) {
+            for (UnitClass unitClass : classes) {
+                mask |= unitClass.bit();
+            }
+        }
+        return mask;
+    }
+
     // Méthodes par défaut
     public double getDamageReduction(String damageType) {
         return 0;
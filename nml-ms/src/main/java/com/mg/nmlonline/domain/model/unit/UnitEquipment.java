@@ -1,5 +1,6 @@
 package com.mg.nmlonline.domain.model.unit;
 
+import com.mg.nmlonline.domain.model.board.BoardSnapshotEntityListener;
 import com.mg.nmlonline.domain.model.equipment.Equipment;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
@@ -14,6 +15,7 @@ import lombok.ToString;
  */
 @Entity
 @Table(name = "UNIT_EQUIPMENTS")
+@EntityListeners(BoardSnapshotEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,263 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.api.dto.BattleForecastDto;
+import com.mg.nmlonline.api.dto.SurvivorPercentilesDto;
+import com.mg.nmlonline.domain.model.battle.CombatKernel;
+import com.mg.nmlonline.domain.model.battle.CombatRandom;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitType;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Prévision d'une bataille par simulations répétées (Monte-Carlo).
+ *
+ * <p>Les deux camps que {@link CombatService#simulateBattle} opposerait sont copiés une fois
+ * dans un {@link CombatKernel.Snapshot}, puis rejoués en noyaux de simulation : aucune entité
+ * n'est modifiée. Les simulations sont réparties sur {@link #STREAMS} flux d'aléa dérivés de
+ * la graine de la bataille (plateau, tour, secteur) et exécutés en parallèle ; chaque flux
+ * tient l'histogramme des survivants de chaque camp, fusionné dans l'ordre des flux. Sans
+ * interruption par le budget de latence, le résultat est donc identique d'un appel à l'autre,
+ * quel que soit le nombre de cœurs.
+ *
+ * <p>ponytail: ceiling = les simulations occupent le pool commun ForkJoin pendant au plus
+ * {@code app.combat.forecast.time-budget-ms} ; upgrade path = exécuteur dédié borné si les
+ * prévisions concurrentes gênent les autres traitements parallèles.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BattleForecastService {
+
+    /** Nombre fixe de flux d'aléa : le résultat ne dépend pas du nombre de cœurs. */
+    static final int STREAMS = 64;
+
+    private static final UnitType[] TYPES = UnitType.values();
+
+    private final BoardRepository boardRepository;
+    private final PlayerRepository playerRepository;
+    private final CombatService combatService;
+    private final PlayerStatsService playerStatsService;
+    private final int defaultIterations;
+    private final int maxIterations;
+    private final long timeBudgetMs;
+
+    public BattleForecastService(BoardRepository boardRepository,
+                                 PlayerRepository playerRepository,
+                                 CombatService combatService,
+                                 PlayerStatsService playerStatsService,
+                                 @Value("${app.combat.forecast.default-iterations:1000}") int defaultIterations,
+                                 @Value("${app.combat.forecast.max-iterations:10000}") int maxIterations,
+                                 @Value("${app.combat.forecast.time-budget-ms:500}") long timeBudgetMs) {
+        this.boardRepository = boardRepository;
+        this.playerRepository = playerRepository;
+        this.combatService = combatService;
+        this.playerStatsService = playerStatsService;
+        this.maxIterations = Math.max(1, maxIterations);
+        this.defaultIterations = Math.min(Math.max(1, defaultIterations), this.maxIterations);
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    /**
+     * Prévision de l'attaque du joueur authentifié contre {@code defenderPlayerId}.
+     *
+     * @param userId l'id de l'utilisateur authentifié (extrait du JWT)
+     * @param defenderPlayerId le joueur attaqué
+     * @param iterations nombre de simulations souhaité, {@code null} pour la valeur par défaut
+     */
+    public BattleForecastDto forecast(Long userId, Long defenderPlayerId, Integer iterations) {
+        Player attacker = playerRepository.findByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Joueur introuvable pour userId : " + userId));
+        Player defender = playerRepository.findById(defenderPlayerId)
+                .orElseThrow(() -> new EntityNotFoundException("Joueur introuvable : " + defenderPlayerId));
+        if (attacker.getId().equals(defender.getId())) {
+            throw new IllegalArgumentException("Un joueur ne peut pas s'attaquer lui-même");
+        }
+        Board board = boardRepository.findAll().stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Aucun plateau n'existe"));
+        return forecast(attacker, defender, board, iterations);
+    }
+
+    /**
+     * Prévision de la bataille que {@link CombatService#simulateBattle} livrerait entre ces
+     * deux joueurs sur ce plateau.
+     *
+     * @throws IllegalStateException si l'un des joueurs n'a pas d'armée disponible
+     */
+    public BattleForecastDto forecast(Player attacker, Player defender, Board board, Integer iterations) {
+        if (iterations != null && iterations < 1) {
+            throw new IllegalArgumentException("Le nombre de simulations doit être positif");
+        }
+        int requested = Math.min(iterations != null ? iterations : defaultIterations, maxIterations);
+
+        Sector defenderSector = combatService.findSectorWithArmy(defender, board)
+                .orElseThrow(() -> new IllegalStateException("Le défenseur n'a pas d'armée disponible pour le combat."));
+        Sector attackerSector = combatService.findSectorWithArmy(attacker, board)
+                .orElseThrow(() -> new IllegalStateException("L'attaquant n'a pas d'armée disponible pour le combat."));
+
+        List<Unit> attackerUnits = attackerSector.getUnits();
+        List<Unit> defenderUnits = defenderSector.getUnits();
+        CombatKernel.Snapshot snapshot = new CombatKernel.Snapshot(attackerUnits, defenderUnits);
+        double attackerPdc = playerStatsService.calculateTotalPdc(attacker, board);
+        double defenderPdc = playerStatsService.calculateTotalPdc(defender, board);
+
+        long boardId = board.getId() != null ? board.getId() : 0L;
+        CombatRandom root = CombatRandom.forBattle(boardId, board.getCurrentTurn(), defenderSector.getNumber());
+        CombatRandom[] streams = new CombatRandom[STREAMS];
+        for (int s = 0; s < STREAMS; s++) {
+            streams[s] = root.split();
+        }
+
+        long deadline = System.nanoTime() + timeBudgetMs * 1_000_000L;
+        List<Tally> tallies = IntStream.range(0, STREAMS)
+                .parallel()
+                .mapToObj(s -> simulate(snapshot, streams[s], share(requested, s), attackerPdc, defenderPdc, deadline))
+                .toList();
+
+        Tally total = new Tally(snapshot);
+        tallies.forEach(total::merge);
+
+        BattleForecastDto dto = new BattleForecastDto();
+        dto.setAttackerSectorNumber(attackerSector.getNumber());
+        dto.setDefenderSectorNumber(defenderSector.getNumber());
+        dto.setAttackerUnits(snapshot.attackerCount());
+        dto.setDefenderUnits(snapshot.defenderCount());
+        dto.setRequestedIterations(requested);
+        dto.setIterations(total.runs);
+        dto.setTruncated(total.runs < requested);
+        dto.setAttackerWinProbability(total.probability(total.attackerWins));
+        dto.setDefenderWinProbability(total.probability(total.defenderWins));
+        dto.setMutualDestructionProbability(total.probability(total.mutualDestructions));
+        dto.setStalemateProbability(total.probability(total.stalemates));
+        dto.setExpectedAttackerCasualties(expectedCasualties(attackerUnits, total.attackerSurvivors, total.runs));
+        dto.setExpectedDefenderCasualties(expectedCasualties(defenderUnits, total.defenderSurvivors, total.runs));
+        dto.setAttackerSurvivors(percentiles(total.attackerSurvivors, total.runs));
+        dto.setDefenderSurvivors(percentiles(total.defenderSurvivors, total.runs));
+        return dto;
+    }
+
+    /** Part des simulations confiée au flux {@code stream} (répartition la plus égale possible). */
+    private static int share(int iterations, int stream) {
+        return iterations / STREAMS + (stream < iterations % STREAMS ? 1 : 0);
+    }
+
+    /**
+     * Joue jusqu'à {@code iterations} simulations sur un flux. Le budget de latence n'est
+     * vérifié qu'après la première : chaque flux non vide contribue au moins une fois.
+     */
+    private static Tally simulate(CombatKernel.Snapshot snapshot, CombatRandom random, int iterations,
+                                  double attackerPdc, double defenderPdc, long deadline) {
+        Tally tally = new Tally(snapshot);
+        for (int i = 0; i < iterations; i++) {
+            if (i > 0 && System.nanoTime() > deadline) break;
+            CombatKernel kernel = CombatKernel.simulation(snapshot, random);
+            kernel.run(attackerPdc, defenderPdc);
+            tally.add(kernel.attackerSurvivors(), kernel.defenderSurvivors());
+        }
+        return tally;
+    }
+
+    /**
+     * Pertes moyennes par type d'unité. Les survivants étant toujours les premières unités de
+     * la liste, une simulation à {@code k} survivants a perdu exactement les unités {@code [k, n)}.
+     */
+    private static Map<String, Double> expectedCasualties(List<Unit> units, long[] survivorHistogram, int runs) {
+        int n = units.size();
+        // lostFrom[t] : unités de type t parmi [k, n), mis à jour en remontant k de n à 0
+        long[] lostFrom = new long[TYPES.length];
+        double[] totals = new double[TYPES.length];
+        boolean[] present = new boolean[TYPES.length];
+        for (int k = n; k >= 0; k--) {
+            if (k < n) {
+                UnitType type = units.get(k).getType();
+                if (type != null) {
+                    lostFrom[type.ordinal()]++;
+                    present[type.ordinal()] = true;
+                }
+            }
+            long count = survivorHistogram[k];
+            if (count == 0) continue;
+            for (int t = 0; t < TYPES.length; t++) {
+                totals[t] += (double) count * lostFrom[t];
+            }
+        }
+        Map<String, Double> casualties = new LinkedHashMap<>();
+        for (int t = 0; t < TYPES.length; t++) {
+            if (present[t]) {
+                casualties.put(TYPES[t].name(), runs > 0 ? totals[t] / runs : 0.0);
+            }
+        }
+        return casualties;
+    }
+
+    /** Centiles 10/50/90 par rang le plus proche. */
+    private static SurvivorPercentilesDto percentiles(long[] histogram, int runs) {
+        return new SurvivorPercentilesDto(
+                percentile(histogram, runs, 0.10),
+                percentile(histogram, runs, 0.50),
+                percentile(histogram, runs, 0.90));
+    }
+
+    private static int percentile(long[] histogram, int runs, double p) {
+        if (runs == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(p * runs));
+        long cumulative = 0;
+        for (int k = 0; k < histogram.length; k++) {
+            cumulative += histogram[k];
+            if (cumulative >= rank) return k;
+        }
+        return histogram.length - 1;
+    }
+
+    /** Issues et histogrammes des survivants d'un flux de simulations. */
+    private static final class Tally {
+        int runs;
+        int attackerWins;
+        int defenderWins;
+        int mutualDestructions;
+        int stalemates;
+        final long[] attackerSurvivors;
+        final long[] defenderSurvivors;
+
+        Tally(CombatKernel.Snapshot snapshot) {
+            this.attackerSurvivors = new long[snapshot.attackerCount() + 1];
+            this.defenderSurvivors = new long[snapshot.defenderCount() + 1];
+        }
+
+        void add(int attackersLeft, int defendersLeft) {
+            runs++;
+            if (attackersLeft > 0 && defendersLeft == 0) attackerWins++;
+            else if (attackersLeft == 0 && defendersLeft > 0) defenderWins++;
+            else if (attackersLeft == 0) mutualDestructions++;
+            else stalemates++;
+            attackerSurvivors[attackersLeft]++;
+            defenderSurvivors[defendersLeft]++;
+        }
+
+        void merge(Tally other) {
+            runs += other.runs;
+            attackerWins += other.attackerWins;
+            defenderWins += other.defenderWins;
+            mutualDestructions += other.mutualDestructions;
+            stalemates += other.stalemates;
+            for (int k = 0; k < attackerSurvivors.length; k++) attackerSurvivors[k] += other.attackerSurvivors[k];
+            for (int k = 0; k < defenderSurvivors.length; k++) defenderSurvivors[k] += other.defenderSurvivors[k];
+        }
+
+        double probability(int count) {
+            return runs > 0 ? (double) count / runs : 0.0;
+        }
+    }
+}
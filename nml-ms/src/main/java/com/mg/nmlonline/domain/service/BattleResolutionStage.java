@@ -0,0 +1,354 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.battle.BattleReport;
+import com.mg.nmlonline.domain.model.battle.CombatKernel;
+import com.mg.nmlonline.domain.model.battle.CombatRandom;
+import com.mg.nmlonline.domain.model.battle.CombatTrace;
+import com.mg.nmlonline.domain.model.battle.MultiPartyKernel;
+import com.mg.nmlonline.domain.model.battle.SectorBattleReport;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.movement.DestinationConflict;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitEquipment;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Étape de fin de tour : livre les batailles des secteurs disputés.
+ *
+ * <p>Un secteur est disputé quand des unités d'au moins deux joueurs s'y trouvent après la
+ * résolution des mouvements. Les conflits enregistrés par {@link MovementService} fixent les
+ * rôles (défenseur, puis attaquants dans l'ordre des conflits) ; à défaut, le propriétaire
+ * défend, sinon le joueur présent de plus petit id. À deux joueurs, l'attaquant affronte le
+ * défenseur. À trois joueurs ou plus, toutes les factions s'affrontent en une seule mêlée
+ * simultanée ({@link MultiPartyKernel}) ; si {@code app.combat.multi-party} est désactivé, chaque
+ * attaquant affronte à son tour le détenteur du secteur, et un attaquant qui anéantit le détenteur
+ * le devient pour les suivants. Le dernier joueur à garder des unités sur le secteur en prend
+ * possession.
+ *
+ * <p>Trois temps, comme la résolution des mouvements : préparation séquentielle (camps, PDC
+ * des joueurs), combats par secteur (indépendants, en parallèle si
+ * {@code app.combat.parallel-resolution}), puis application groupée dans l'ordre des
+ * secteurs (retrait des pertes, changements de propriétaire, recalcul de la puissance
+ * militaire, enregistrement des traces). Chaque secteur tire son aléa de (plateau, tour,
+ * secteur) : les deux modes donnent le même résultat.
+ *
+ * <p>ponytail: ceiling = seules les unités combattent (comme {@link CombatService#simulateBattle}) ;
+ * bâtiments, personnages et véhicules restent en place et ne comptent pas pour la prise du
+ * secteur. Upgrade path = les faire entrer dans le noyau quand leurs règles de combat existeront.
+ */
+@Service
+public class BattleResolutionStage implements TurnStage {
+
+    private static final Logger logger = LoggerFactory.getLogger(BattleResolutionStage.class);
+
+    private static final String DEFAULT_COLOR = "#ffffff";
+
+    private final PlayerRepository playerRepository;
+    private final PlayerStatsService playerStatsService;
+    private final BattleTraceService battleTraceService;
+
+    /** Combats des secteurs en parallèle (résultat identique au mode séquentiel). */
+    @Value("${app.combat.parallel-resolution:false}")
+    private boolean parallelResolution;
+
+    /** Secteurs à trois joueurs ou plus : une mêlée simultanée plutôt que des combats successifs. */
+    @Value("${app.combat.multi-party:true}")
+    private boolean multiParty = true;
+
+    public BattleResolutionStage(PlayerRepository playerRepository,
+                                 PlayerStatsService playerStatsService,
+                                 BattleTraceService battleTraceService) {
+        this.playerRepository = playerRepository;
+        this.playerStatsService = playerStatsService;
+        this.battleTraceService = battleTraceService;
+    }
+
+    void setParallelResolution(boolean parallelResolution) {
+        this.parallelResolution = parallelResolution;
+    }
+
+    void setMultiParty(boolean multiParty) {
+        this.multiParty = multiParty;
+    }
+
+    @Override
+    public String name() {
+        return "battles";
+    }
+
+    @Override
+    public int order() {
+        return 200;
+    }
+
+    @Override
+    public Set<TurnArtifact> requires() {
+        return Set.of(TurnArtifact.BOARD, TurnArtifact.MOVEMENTS);
+    }
+
+    @Override
+    public Set<TurnArtifact> produces() {
+        return Set.of(TurnArtifact.BATTLES);
+    }
+
+    /** @return le nombre de secteurs disputés */
+    @Override
+    public int run(TurnContext context) {
+        List<SectorBattleReport> battles =
+                resolve(context.getBoard(), context.getTurn(), context.getMovements().getConflicts());
+        context.setBattles(battles);
+        return battles.size();
+    }
+
+    /**
+     * Livre les batailles de tous les secteurs disputés du plateau.
+     *
+     * @param turn tour qui se termine (graine des combats)
+     * @param recorded conflits enregistrés par la résolution des mouvements du tour
+     * @return un compte-rendu par secteur disputé, dans l'ordre des secteurs
+     */
+    public List<SectorBattleReport> resolve(Board board, int turn, List<DestinationConflict> recorded) {
+        Map<Integer, List<DestinationConflict>> recordedBySector = new HashMap<>();
+        for (DestinationConflict conflict : recorded) {
+            recordedBySector.computeIfAbsent(conflict.sectorNumber(), n -> new ArrayList<>()).add(conflict);
+        }
+
+        // === Préparation (séquentielle) ===
+        List<Contest> contests = new ArrayList<>();
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (Sector sector : board.getAllSectors()) {
+            Map<Long, List<Unit>> armies = armiesByPlayer(sector);
+            if (armies.size() < 2) continue;
+            List<Long> order = combatOrder(sector, armies,
+                    recordedBySector.getOrDefault(sector.getNumber(), List.of()));
+            contests.add(new Contest(sector, armies, order));
+            playerIds.addAll(armies.keySet());
+        }
+        if (contests.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        Map<Long, Double> pdc = new HashMap<>();
+        for (Player player : playerRepository.findAllById(playerIds)) {
+            names.put(player.getId(), player.getName());
+        }
+        for (Long playerId : playerIds) {
+            pdc.put(playerId, playerStatsService.calculateTotalPdc(playerId, board));
+        }
+        if (parallelResolution) {
+            // Les combats lisent classes et équipements : chargés ici, dans le thread de la session
+            contests.forEach(contest -> contest.armies.values().forEach(BattleResolutionStage::initializeForCombat));
+        }
+
+        // === Combats (indépendants par secteur) ===
+        long boardId = board.getId() != null ? board.getId() : 0L;
+        List<List<FoughtBattle>> fought = mapPartitions(contests, contest -> {
+            CombatRandom random = CombatRandom.forBattle(boardId, turn, contest.sector.getNumber());
+            return multiParty && contest.order.size() > 2
+                    ? List.of(melee(contest, random, pdc))
+                    : fight(contest, random, pdc);
+        });
+
+        // === Application groupée, dans l'ordre des secteurs ===
+        List<SectorBattleReport> reports = new ArrayList<>(contests.size());
+        for (int c = 0; c < contests.size(); c++) {
+            Contest contest = contests.get(c);
+            Sector sector = contest.sector;
+            Long previousOwner = sector.getOwnerId();
+
+            Set<Unit> survivors = Collections.newSetFromMap(new IdentityHashMap<>());
+            contest.armies.values().forEach(survivors::addAll);
+            sector.getArmy().removeIf(unit -> unit.getPlayerId() != null && !survivors.contains(unit));
+
+            List<Long> holders = contest.armies.entrySet().stream()
+                    .filter(e -> !e.getValue().isEmpty())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (holders.size() == 1 && !holders.getFirst().equals(previousOwner)) {
+                Long winner = holders.getFirst();
+                board.assignOwner(sector.getNumber(), winner, colorOf(board, winner));
+            }
+            // Survivants blessés : leurs statistiques, donc leur rang dans l'armée, ont changé
+            sector.invalidateArmyOrder();
+            sector.recalculateMilitaryPower();
+
+            List<BattleReport> battles = new ArrayList<>();
+            for (FoughtBattle battle : fought.get(c)) {
+                long battleId = battleTraceService.record(
+                        battle.attackers.stream()
+                                .map(id -> nameOf(names, id))
+                                .collect(Collectors.joining(", ")),
+                        nameOf(names, battle.defender),
+                        turn, sector.getNumber(), battle.trace);
+                for (int a = 0; a < battle.attackers.size(); a++) {
+                    battles.add(new BattleReport(battle.attackers.get(a), battle.defender, battle.outcome,
+                            battle.attackersBefore[a], battle.attackersAfter[a],
+                            battle.defendersBefore, battle.defendersAfter, battleId));
+                }
+            }
+            reports.add(new SectorBattleReport(sector.getNumber(), previousOwner, sector.getOwnerId(), battles));
+        }
+        logger.info("Tour {} : {} secteur(s) disputé(s), {} bataille(s)", turn, reports.size(),
+                reports.stream().mapToInt(r -> r.battles().size()).sum());
+        return reports;
+    }
+
+    /**
+     * Combats successifs d'un secteur. Seules les listes de travail du secteur et ses unités
+     * sont modifiées : les pertes sont retirées des listes, les statistiques reportées.
+     */
+    private static List<FoughtBattle> fight(Contest contest, CombatRandom random, Map<Long, Double> pdc) {
+        List<FoughtBattle> battles = new ArrayList<>();
+        Long holder = contest.order.getFirst();
+        for (Long attacker : contest.order.subList(1, contest.order.size())) {
+            List<Unit> attackerUnits = contest.armies.get(attacker);
+            List<Unit> holderUnits = contest.armies.get(holder);
+            if (attackerUnits.isEmpty()) continue;
+            if (holderUnits.isEmpty()) {
+                holder = attacker;
+                continue;
+            }
+
+            int attackersBefore = attackerUnits.size();
+            int defendersBefore = holderUnits.size();
+            CombatTrace trace = new CombatTrace();
+            CombatKernel kernel = new CombatKernel(attackerUnits, holderUnits, random, trace);
+            CombatKernel.Outcome outcome = kernel.run(pdc.get(attacker), pdc.get(holder));
+            kernel.writeBack();
+            battles.add(new FoughtBattle(holder, List.of(attacker), outcome,
+                    new int[]{attackersBefore}, new int[]{attackerUnits.size()},
+                    defendersBefore, holderUnits.size(), trace));
+
+            if (holderUnits.isEmpty() && !attackerUnits.isEmpty()) {
+                holder = attacker;
+            }
+        }
+        return battles;
+    }
+
+    /**
+     * Mêlée simultanée de toutes les factions d'un secteur, dans l'ordre d'entrée en combat
+     * (défenseur en tête) : un seul compte-rendu, une seule trace.
+     */
+    private static FoughtBattle melee(Contest contest, CombatRandom random, Map<Long, Double> pdc) {
+        List<Long> order = contest.order;
+        List<List<Unit>> factions = order.stream().map(contest.armies::get).toList();
+        int[] before = factions.stream().mapToInt(List::size).toArray();
+        double[] playerPdc = order.stream().mapToDouble(pdc::get).toArray();
+
+        CombatTrace trace = new CombatTrace();
+        MultiPartyKernel kernel = new MultiPartyKernel(factions, random, trace);
+        CombatKernel.Outcome outcome = kernel.run(playerPdc);
+        kernel.writeBack();
+        int[] after = factions.stream().mapToInt(List::size).toArray();
+
+        return new FoughtBattle(order.getFirst(), order.subList(1, order.size()), outcome,
+                Arrays.copyOfRange(before, 1, before.length), Arrays.copyOfRange(after, 1, after.length),
+                before[0], after[0], trace);
+    }
+
+    /** Unités du secteur par joueur, dans l'ordre de l'armée (listes de travail modifiables). */
+    private static Map<Long, List<Unit>> armiesByPlayer(Sector sector) {
+        Map<Long, List<Unit>> armies = new LinkedHashMap<>();
+        for (Unit unit : sector.getArmy()) {
+            if (unit.getPlayerId() != null) {
+                armies.computeIfAbsent(unit.getPlayerId(), id -> new ArrayList<>()).add(unit);
+            }
+        }
+        return armies;
+    }
+
+    /**
+     * Défenseur puis attaquants. Défenseur : celui du premier conflit enregistré encore présent,
+     * sinon le propriétaire s'il est présent, sinon le joueur de plus petit id. Attaquants :
+     * ceux des conflits enregistrés, puis les autres joueurs présents par id croissant. L'ordre
+     * de l'armée n'intervient pas : à statistiques égales, son tri départage par identifiant d'unité.
+     */
+    private static List<Long> combatOrder(Sector sector, Map<Long, List<Unit>> armies,
+                                          List<DestinationConflict> recorded) {
+        Long defender = recorded.stream()
+                .map(DestinationConflict::defenderPlayerId)
+                .filter(armies::containsKey)
+                .findFirst()
+                .orElse(armies.containsKey(sector.getOwnerId())
+                        ? sector.getOwnerId()
+                        : Collections.min(armies.keySet()));
+        Set<Long> order = new LinkedHashSet<>();
+        order.add(defender);
+        for (DestinationConflict conflict : recorded) {
+            if (armies.containsKey(conflict.attackerPlayerId())) {
+                order.add(conflict.attackerPlayerId());
+            }
+        }
+        armies.keySet().stream().sorted().forEach(order::add);
+        return new ArrayList<>(order);
+    }
+
+    private static String nameOf(Map<Long, String> names, Long playerId) {
+        return names.getOrDefault(playerId, "Joueur " + playerId);
+    }
+
+    /** Couleur d'un autre secteur du joueur, blanc s'il n'en possède aucun. */
+    private static String colorOf(Board board, Long playerId) {
+        return board.getSectorsByOwner(playerId).stream()
+                .map(Sector::getColor)
+                .findFirst()
+                .orElse(DEFAULT_COLOR);
+    }
+
+    private static void initializeForCombat(List<Unit> units) {
+        for (Unit unit : units) {
+            Hibernate.initialize(unit.getClassesSet());
+            Hibernate.initialize(unit.getUnitEquipments());
+            for (UnitEquipment unitEquipment : unit.getUnitEquipments()) {
+                Hibernate.initialize(unitEquipment.getEquipment());
+            }
+        }
+    }
+
+    /**
+     * Applique {@code task} à chaque partition, en parallèle (pool fork-join commun) si le mode
+     * parallèle est activé. L'ordre des résultats suit toujours celui des partitions.
+     */
+    private <T, R> List<R> mapPartitions(List<T> partitions, Function<T, R> task) {
+        Stream<T> stream = parallelResolution && partitions.size() > 1
+                ? partitions.parallelStream()
+                : partitions.stream();
+        return stream.map(task).toList();
+    }
+
+    /** Secteur disputé : unités par joueur et ordre d'entrée en combat (défenseur en tête). */
+    private record Contest(Sector sector, Map<Long, List<Unit>> armies, List<Long> order) {
+    }
+
+    /**
+     * Une bataille livrée : un attaquant contre le détenteur, ou tous les attaquants d'une mêlée
+     * (effectifs indexés comme {@code attackers}).
+     */
+    private record FoughtBattle(Long defender, List<Long> attackers, CombatKernel.Outcome outcome,
+                                int[] attackersBefore, int[] attackersAfter,
+                                int defendersBefore, int defendersAfter, CombatTrace trace) {
+    }
+}
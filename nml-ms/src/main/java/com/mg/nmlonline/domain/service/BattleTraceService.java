@@ -0,0 +1,78 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.battle.CombatTrace;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Conserve les traces des dernières batailles pour consultation par l'administration.
+ *
+ * <p>Les traces restent sous forme primitive ({@link CombatTrace}) ; le texte n'est produit
+ * qu'à la lecture, par {@link #renderTrace(long)}.
+ *
+ * <p>ponytail: ceiling = mémoire du processus, seules les {@code app.combat.trace-retention}
+ * dernières batailles sont gardées et tout est perdu au redémarrage ; upgrade path = persister
+ * les tableaux de la trace (BLOB) avec la bataille si l'historique doit survivre.
+ */
+@Service
+public class BattleTraceService {
+
+    private final int retention;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, StoredTrace> traces;
+
+    public BattleTraceService(@Value("${app.combat.trace-retention:100}") int retention) {
+        this.retention = Math.max(1, retention);
+        this.traces = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, StoredTrace> eldest) {
+                return size() > BattleTraceService.this.retention;
+            }
+        };
+    }
+
+    /**
+     * Enregistre la trace d'une bataille.
+     *
+     * @return l'identifiant attribué à la bataille
+     */
+    public long record(String attackerName, String defenderName, int turn, int sectorNumber, CombatTrace trace) {
+        long battleId = sequence.incrementAndGet();
+        StoredTrace stored = new StoredTrace(battleId, attackerName, defenderName, turn, sectorNumber, trace);
+        synchronized (traces) {
+            traces.put(battleId, stored);
+        }
+        return battleId;
+    }
+
+    /**
+     * Rendu texte de la trace d'une bataille.
+     *
+     * @throws EntityNotFoundException si la bataille est inconnue ou n'est plus conservée
+     */
+    public String renderTrace(long battleId) {
+        StoredTrace stored;
+        synchronized (traces) {
+            stored = traces.get(battleId);
+        }
+        if (stored == null) {
+            throw new EntityNotFoundException("Trace de bataille introuvable : " + battleId);
+        }
+        return stored.render();
+    }
+
+    private record StoredTrace(long battleId, String attackerName, String defenderName,
+                               int turn, int sectorNumber, CombatTrace trace) {
+
+        String render() {
+            return "Bataille " + battleId + " — " + attackerName + " contre " + defenderName
+                    + " (tour " + turn + ", secteur " + sectorNumber + ")\n"
+                    + trace.render();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,12 +92,14 @@ public class BoardImportService {
                 // Note: On ne peut pas clear() car getArmy() peut retourner une liste non modifiable
                 // On ajoute simplement les unités (le secteur peut déjà avoir des unités)
                 if (sectorDto.army != null) {
+                    List<Unit> imported = new ArrayList<>(sectorDto.army.size());
                     for (UnitDTO unitDto : sectorDto.army) {
                         Unit unit = createUnitFromDTO(unitDto);
                         if (unit != null) { // Only add unit if it was created successfully
-                            sector.addUnit(unit);
+                            imported.add(unit);
                         }
                     }
+                    sector.addUnits(imported);
                 }
 
                 // Ajouter les voisins
@@ -20,9 +20,11 @@ import java.util.Optional;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final SectorDistanceCache distanceCache;
 
-    public BoardService(BoardRepository boardRepository) {
+    public BoardService(BoardRepository boardRepository, SectorDistanceCache distanceCache) {
         this.boardRepository = boardRepository;
+        this.distanceCache = distanceCache;
     }
 
     /**
@@ -104,6 +106,8 @@ public class BoardService {
                     existingBoard.getSectorsList().add(incoming);
                 }
             }
+            existingBoard.invalidateSectorIndex();
+            existingBoard.invalidateTopology();
 
             return boardRepository.save(existingBoard);
         } else {
@@ -125,6 +129,7 @@ public class BoardService {
      */
     public void deleteBoard(Long id) {
         boardRepository.deleteById(id);
+        distanceCache.evict(id);
     }
 
     /**
@@ -163,6 +168,16 @@ public class BoardService {
                 .orElse(false);
     }
 
+    /**
+     * Distance la plus courte en nombre de sauts entre deux secteurs d'une board (oracle gardé
+     * d'une requête à l'autre, voir {@link SectorDistanceCache}).
+     * Vide si la board n'existe pas ; -1 si un secteur n'existe pas ou s'ils ne sont pas reliés.
+     */
+    public Optional<Integer> getHopDistance(Long boardId, int from, int to) {
+        return getBoardById(boardId)
+                .map(board -> distanceCache.distances(board).distance(from, to));
+    }
+
     /**
      * Vérifie s'il y a un conflit entre deux secteurs
      */
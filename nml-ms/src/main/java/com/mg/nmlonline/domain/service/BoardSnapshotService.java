@@ -0,0 +1,264 @@
+package com.mg.nmlonline.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mg.nmlonline.api.dto.BoardDto;
+import com.mg.nmlonline.api.dto.SectorDto;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.BoardChangedEvent;
+import com.mg.nmlonline.domain.model.board.TurnResolvedEvent;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.mapper.BoardMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Instantanés en lecture seule des plateaux (secteurs, propriétaires, couleurs, statistiques,
+ * armées), servis depuis la mémoire aux lectures des joueurs.
+ *
+ * <p>Tous les plateaux sont publiés ensemble, d'un seul remplacement atomique, sous un numéro
+ * de version croissant. Une lecture ne prend aucun verrou et ne touche pas la base tant que
+ * l'instantané est à jour : pendant une fin de tour, rien n'est commité, les joueurs voient
+ * donc le tour précédent sans attendre le verrou du plateau.
+ *
+ * <p>Chaque plateau est sérialisé en JSON une seule fois par version (et compressé en gzip si
+ * {@code app.board.snapshot.gzip}) : {@code GET /api/boards/{id}} renvoie ces octets tels quels,
+ * avec un ETag fort dérivé d'une empreinte SHA-256 de ce JSON. Le numéro de version repart de 1 à
+ * chaque démarrage : seul, il redonnerait après un redéploiement l'ETag d'un contenu différent.
+ *
+ * <p>Un instantané est périmé après chaque commit qui écrit le contenu d'un plateau
+ * ({@link BoardChangedEvent}) : la lecture suivante le reconstruit. Une fin de tour
+ * ({@link TurnResolvedEvent}) le republie dès son commit, avant toute lecture. Pendant une reconstruction, les
+ * autres lecteurs reçoivent l'instantané précédent au lieu d'attendre.
+ *
+ * <p>ponytail: ceiling = une instance, instantané en mémoire de la JVM, reconstruit en entier
+ * (tous les plateaux) à chaque changement ; upgrade path = reconstruction par secteur modifié,
+ * ou instantané partagé (cache distribué) si multi-instance.
+ */
+@Service
+public class BoardSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardSnapshotService.class);
+
+    /** Octets du SHA-256 gardés dans l'ETag. */
+    private static final int DIGEST_BYTES = 16;
+
+    /**
+     * Plateau tel que publié. Les DTO sont partagés entre toutes les réponses : ils ne doivent
+     * plus être modifiés après publication.
+     *
+     * @param version        version de la publication (commune à tous les plateaux publiés ensemble)
+     * @param board          plateau complet, {@link BoardDto#getVersion()} renseigné
+     * @param sectorsByOwner secteurs du plateau par propriétaire
+     * @param json           {@code board} sérialisé
+     * @param gzipJson       {@code json} compressé en gzip, {@code null} si la compression est désactivée
+     * @param jsonDigest     empreinte hexadécimale de {@code json} (128 premiers bits du SHA-256)
+     */
+    public record BoardSnapshot(long version, Long boardId, String name, int currentTurn, Instant publishedAt,
+                                BoardDto board, Map<Long, List<SectorDto>> sectorsByOwner,
+                                byte[] json, byte[] gzipJson, String jsonDigest) {
+
+        /**
+         * ETag fort de la représentation JSON, distinct pour la variante gzip. Dérivé du contenu,
+         * il reste valable d'un démarrage à l'autre.
+         */
+        public String etag(boolean gzip) {
+            return "\"" + boardId + "-" + jsonDigest + (gzip ? "-gzip" : "") + "\"";
+        }
+
+        /** Secteurs possédés par {@code playerId} (liste vide si aucun). */
+        public List<SectorDto> sectorsOf(Long playerId) {
+            return playerId != null ? sectorsByOwner.getOrDefault(playerId, List.of()) : List.of();
+        }
+    }
+
+    /** Publication : instantanés par plateau (ordre des identifiants) et changements déjà pris en compte. */
+    private record Publication(long changes, Map<Long, BoardSnapshot> boards) {
+    }
+
+    private final BoardRepository boardRepository;
+    private final BoardMapper boardMapper;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final TransactionTemplate readTransaction;
+
+    private final AtomicReference<Publication> published = new AtomicReference<>();
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    public BoardSnapshotService(BoardRepository boardRepository, BoardMapper boardMapper, ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.board.snapshot.gzip:true}") boolean gzip) {
+        this.boardRepository = boardRepository;
+        this.boardMapper = boardMapper;
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Appelable depuis afterCommit d'une fin de tour : transaction neuve obligatoire
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** Tous les plateaux publiés, par identifiant croissant. */
+    public List<BoardSnapshot> getAll() {
+        return List.copyOf(current().boards().values());
+    }
+
+    /** Premier plateau publié (un seul Board attendu en production). */
+    public Optional<BoardSnapshot> getFirst() {
+        return current().boards().values().stream().findFirst();
+    }
+
+    public Optional<BoardSnapshot> getById(Long id) {
+        return Optional.ofNullable(current().boards().get(id));
+    }
+
+    public Optional<BoardSnapshot> getByName(String name) {
+        return current().boards().values().stream()
+                .filter(snapshot -> snapshot.name().equals(name))
+                .findFirst();
+    }
+
+    /** Reconstruit et publie les instantanés de tous les plateaux depuis la base. */
+    public void refresh() {
+        rebuilding.lock();
+        try {
+            rebuild();
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    // === ÉVÉNEMENTS (après commit) ===
+
+    /**
+     * Contenu d'un plateau commité : l'instantané est périmé. Appliqué avant
+     * {@link #onTurnResolved} pour que la republication de fin de tour en tienne compte.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Fin de tour commitée : republication immédiate. Un échec n'annule pas le tour ;
+     * l'instantané reste périmé et la lecture suivante le reconstruit.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onTurnResolved(TurnResolvedEvent event) {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Republication de l'instantané après le tour {} impossible", event.currentTurn(), e);
+        }
+    }
+
+    private Publication current() {
+        Publication publication = published.get();
+        if (publication != null && publication.changes() == changes.get()) {
+            return publication;
+        }
+        if (publication == null) {
+            rebuilding.lock(); // rien à servir : on attend la première publication
+        } else if (!rebuilding.tryLock()) {
+            return publication; // reconstruction en cours ailleurs : on sert la précédente
+        }
+        try {
+            Publication latest = published.get();
+            return latest != null && latest.changes() == changes.get() ? latest : rebuild();
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    private Publication rebuild() {
+        long seen = changes.get();
+        long version = versions.incrementAndGet();
+        Instant publishedAt = Instant.now();
+        Map<Long, BoardSnapshot> boards = readTransaction.execute(status -> {
+            Map<Long, BoardSnapshot> snapshots = new LinkedHashMap<>();
+            for (Board board : boardRepository.findAll(Sort.by("id"))) {
+                snapshots.put(board.getId(), snapshot(board, version, publishedAt));
+            }
+            return snapshots;
+        });
+        Publication publication = new Publication(seen, Collections.unmodifiableMap(boards));
+        published.set(publication);
+        return publication;
+    }
+
+    private BoardSnapshot snapshot(Board board, long version, Instant publishedAt) {
+        BoardDto dto = boardMapper.toDto(board);
+        dto.setVersion(version);
+        Map<Long, List<SectorDto>> sectorsByOwner = new HashMap<>();
+        if (dto.getSectors() != null) {
+            for (SectorDto sector : dto.getSectors().values()) {
+                if (sector.getOwnerId() != null) {
+                    sectorsByOwner.computeIfAbsent(sector.getOwnerId(), owner -> new ArrayList<>()).add(sector);
+                }
+            }
+        }
+        sectorsByOwner.replaceAll((owner, sectors) -> List.copyOf(sectors));
+        byte[] json = serialize(dto);
+        return new BoardSnapshot(version, board.getId(), board.getName(), board.getCurrentTurn(), publishedAt,
+                dto, Map.copyOf(sectorsByOwner), json, gzip ? gzip(json) : null, digest(json));
+    }
+
+    private byte[] serialize(BoardDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sérialisation du plateau " + dto.getId() + " impossible", e);
+        }
+    }
+
+    private static String digest(byte[] json) {
+        try {
+            byte[] sha256 = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(sha256, 0, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
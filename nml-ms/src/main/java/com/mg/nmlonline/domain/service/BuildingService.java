@@ -1,5 +1,6 @@
 package com.mg.nmlonline.domain.service;
 
+import com.mg.nmlonline.domain.model.board.Board;
 import com.mg.nmlonline.domain.model.building.*;
 import com.mg.nmlonline.domain.model.equipment.EquipmentStack;
 import com.mg.nmlonline.domain.model.player.Player;
@@ -238,7 +239,8 @@ public class BuildingService {
      * @param currentTurn     tour courant
      * @return true si le déplacement a réussi
      * @throws IllegalArgumentException si le secteur cible n'existe pas ou n'appartient pas au propriétaire
-     * @throws IllegalStateException    si le bâtiment ne peut pas se déplacer ce tour
+     * @throws IllegalStateException    si le bâtiment ne peut pas se déplacer ce tour, ou si aucun
+     *                                  chemin en territoire allié ne relie son secteur actuel à la cible
      */
     public boolean moveBuilding(Long buildingId, Long boardId, int newSectorNumber, int currentTurn) {
         Building building = buildingRepository.findById(buildingId).orElse(null);
@@ -257,6 +259,16 @@ public class BuildingService {
             throw new IllegalStateException("Le secteur cible n'appartient pas au propriétaire du bâtiment");
         }
 
+        // Le bâtiment doit rejoindre la cible sans quitter le territoire de son propriétaire
+        Sector currentSector = building.getSector();
+        Board board = targetSector.getBoard();
+        if (currentSector != null && board != null
+                && board.findAlliedRoute(currentSector.getNumber(), newSectorNumber,
+                        building.getPlayerId(), Integer.MAX_VALUE).isEmpty()) {
+            throw new IllegalStateException("Aucun chemin en territoire allié entre le secteur "
+                    + currentSector.getNumber() + " et le secteur " + newSectorNumber);
+        }
+
         building.setSector(targetSector);
         building.recordMove(currentTurn);
         buildingRepository.save(building);
@@ -0,0 +1,62 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.building.Bank;
+import com.mg.nmlonline.domain.model.building.Building;
+import com.mg.nmlonline.domain.model.building.BuildingType;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.infrastructure.repository.BuildingRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Étape de fin de tour : met à jour l'argent stocké dans les banques non capturées à partir
+ * des soldes définitifs du tour ({@link Bank#updateStoredMoney}).
+ *
+ * <p>ponytail: ceiling = seules les banques ont un état qui dépend du tour ; les délais de
+ * déplacement se déduisent de {@code lastMovedTurn} et aucune règle de soin des blessés
+ * n'existe encore. Upgrade path = ajouter ici ces effets quand leurs règles existeront.
+ */
+@Service
+public class BuildingStateStage implements TurnStage {
+
+    private final BuildingRepository buildingRepository;
+
+    public BuildingStateStage(BuildingRepository buildingRepository) {
+        this.buildingRepository = buildingRepository;
+    }
+
+    @Override
+    public String name() {
+        return "building-state";
+    }
+
+    @Override
+    public int order() {
+        return 500;
+    }
+
+    @Override
+    public Set<TurnArtifact> requires() {
+        return Set.of(TurnArtifact.PLAYERS, TurnArtifact.BALANCES);
+    }
+
+    @Override
+    public Set<TurnArtifact> produces() {
+        return Set.of(TurnArtifact.BUILDINGS);
+    }
+
+    /** @return le nombre de banques mises à jour */
+    @Override
+    public int run(TurnContext context) {
+        int updated = 0;
+        for (Building building : buildingRepository.findByBuildingTypeAndIsDestroyedFalse(BuildingType.BANK)) {
+            if (!(building instanceof Bank bank) || bank.isCaptured()) continue;
+            Player owner = context.getPlayer(bank.getPlayerId());
+            if (owner == null) continue;
+            bank.updateStoredMoney(owner.getStats().getMoney());
+            updated++;
+        }
+        return updated;
+    }
+}
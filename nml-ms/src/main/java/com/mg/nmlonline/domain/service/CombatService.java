@@ -5,6 +5,7 @@ import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.domain.model.sector.Sector;
 import com.mg.nmlonline.domain.model.unit.Unit;
 import com.mg.nmlonline.domain.model.battle.Battle;
+import com.mg.nmlonline.domain.model.battle.CombatRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +26,9 @@ public class CombatService {
     @Autowired
     private PlayerStatsService playerStatsService;
 
+    @Autowired
+    private BattleTraceService battleTraceService;
+
     /**
      * Trouve un secteur avec une armée pour un joueur donné.
      *
@@ -88,14 +92,17 @@ public class CombatService {
         List<Unit> defenderUnits = defenderSector.getUnits();
         List<Unit> attackerUnits = attackerSector.getUnits();
 
-        // Lancer la bataille
-        Battle battle = new Battle();
+        // Lancer la bataille (aléa reproductible : même plateau, tour et secteur => mêmes jets)
+        long boardId = board.getId() != null ? board.getId() : 0L;
+        Battle battle = new Battle(CombatRandom.forBattle(boardId, board.getCurrentTurn(), defenderSector.getNumber()));
         battle.classicCombatConfiguration(attacker, defender, attackerUnits, defenderUnits);
+        long battleId = battleTraceService.record(attacker.getName(), defender.getName(),
+                board.getCurrentTurn(), defenderSector.getNumber(), battle.getTrace());
 
         logger.info("\n{}", "=".repeat(60));
-        logger.info("⚔️  FIN DE LA BATAILLE");
+        logger.info("⚔️  FIN DE LA BATAILLE (trace n°{})", battleId);
 
-        return new BattleResult(true, "Bataille terminée", battle.getWinner());
+        return new BattleResult(true, "Bataille terminée", battle.getWinner(), battleId);
     }
 
     /**
@@ -105,15 +112,18 @@ public class CombatService {
         private final boolean success;
         private final String message;
         private final Player winner;
+        /** Identifiant de la trace de la bataille (voir {@link BattleTraceService}), null si non livrée. */
+        private final Long battleId;
 
         public BattleResult(boolean success, String message) {
-            this(success, message, null);
+            this(success, message, null, null);
         }
 
-        public BattleResult(boolean success, String message, Player winner) {
+        public BattleResult(boolean success, String message, Player winner, Long battleId) {
             this.success = success;
             this.message = message;
             this.winner = winner;
+            this.battleId = battleId;
         }
 
         public boolean isSuccess() {
@@ -127,6 +137,10 @@ public class CombatService {
         public Player getWinner() {
             return winner;
         }
+
+        public Long getBattleId() {
+            return battleId;
+        }
     }
 }
 
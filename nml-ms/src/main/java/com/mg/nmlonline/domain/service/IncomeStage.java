@@ -0,0 +1,67 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.building.Bank;
+import com.mg.nmlonline.domain.model.building.Building;
+import com.mg.nmlonline.domain.model.building.BuildingType;
+import com.mg.nmlonline.domain.model.player.IncomeLedger;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.infrastructure.repository.BuildingRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Étape de fin de tour : revenus et vampirisation de tous les joueurs en un seul passage
+ * ({@link IncomeLedger}) : revenus des secteurs possédés à l'issue des batailles
+ * ({@link Board#playerStats()}, un seul balayage du plateau), parts vampirisées des banques
+ * capturées (une seule requête), puis un seul crédit net par joueur.
+ *
+ * <p>Lit les banques directement (et non via {@link BuildingService}, qui dépend de
+ * {@link TurnService}).
+ */
+@Service
+public class IncomeStage implements TurnStage {
+
+    private final BuildingRepository buildingRepository;
+
+    public IncomeStage(BuildingRepository buildingRepository) {
+        this.buildingRepository = buildingRepository;
+    }
+
+    @Override
+    public String name() {
+        return "income";
+    }
+
+    @Override
+    public int order() {
+        return 300;
+    }
+
+    @Override
+    public Set<TurnArtifact> requires() {
+        return Set.of(TurnArtifact.BOARD, TurnArtifact.PLAYERS, TurnArtifact.BATTLES);
+    }
+
+    @Override
+    public Set<TurnArtifact> produces() {
+        return Set.of(TurnArtifact.INCOME, TurnArtifact.BALANCES);
+    }
+
+    /** @return le nombre de joueurs crédités */
+    @Override
+    public int run(TurnContext context) {
+        List<Player> players = context.getPlayers();
+        List<Bank> capturedBanks = buildingRepository
+                .findByBuildingTypeAndCapturedByPlayerIdIsNotNull(BuildingType.BANK).stream()
+                .filter(Bank.class::isInstance)
+                .map(Bank.class::cast)
+                .toList();
+        IncomeLedger ledger = IncomeLedger.compute(players.stream().map(Player::getId).toList(),
+                context.getBoard().playerStats(), capturedBanks, context.getTurn());
+        context.setIncome(ledger);
+        return ledger.applyTo(players);
+    }
+}
@@ -0,0 +1,144 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.api.dto.LeaderboardDto;
+import com.mg.nmlonline.api.dto.LeaderboardEntryDto;
+import com.mg.nmlonline.domain.model.leaderboard.Leaderboard;
+import com.mg.nmlonline.domain.model.leaderboard.PlayerRemovedEvent;
+import com.mg.nmlonline.domain.model.leaderboard.PlayerStatsChangedEvent;
+import com.mg.nmlonline.domain.model.leaderboard.RankingMetric;
+import com.mg.nmlonline.domain.model.leaderboard.SectorOwnerChangedEvent;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import com.mg.nmlonline.infrastructure.repository.SectorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Classements des joueurs (puissance globale, puissance économique, revenus, territoire),
+ * servis depuis la mémoire.
+ *
+ * <p>Le {@link Leaderboard} est chargé au premier appel à partir des statistiques persistées
+ * des joueurs et d'un comptage des secteurs par propriétaire (deux requêtes), puis tenu à
+ * jour par les événements publiés par {@code LeaderboardEntityListener} à chaque écriture
+ * d'un joueur ou d'un secteur, appliqués après le commit.
+ *
+ * <p>ponytail: ceiling = une instance, classement en mémoire de la JVM ; un événement commité
+ * pendant le chargement initial peut être perdu jusqu'au prochain changement du joueur ; upgrade
+ * path = {@link #reload()} périodique ou classement partagé (Redis sorted sets) si multi-instance.
+ */
+@Service
+public class LeaderboardService {
+
+    private final PlayerRepository playerRepository;
+    private final SectorRepository sectorRepository;
+    private final int maxLimit;
+
+    private final Leaderboard leaderboard = new Leaderboard();
+    private volatile boolean loaded;
+
+    public LeaderboardService(PlayerRepository playerRepository, SectorRepository sectorRepository,
+                              @Value("${app.leaderboard.max-limit:100}") int maxLimit) {
+        this.playerRepository = playerRepository;
+        this.sectorRepository = sectorRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Classement selon {@code metric} : les {@code limit} premiers, et les {@code radius}
+     * joueurs de part et d'autre du joueur de {@code userId} (s'il en a un).
+     *
+     * @throws IllegalArgumentException critère inconnu, limite ou rayon hors bornes
+     */
+    public LeaderboardDto leaderboard(String metric, int limit, int radius, Long userId) {
+        RankingMetric ranking = parseMetric(metric);
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit doit être compris entre 1 et " + maxLimit);
+        }
+        if (radius < 0 || radius > maxLimit) {
+            throw new IllegalArgumentException("radius doit être compris entre 0 et " + maxLimit);
+        }
+        ensureLoaded();
+
+        LeaderboardDto dto = new LeaderboardDto();
+        dto.setMetric(ranking.name());
+        dto.setTotalPlayers(leaderboard.size());
+        dto.setTop(toDtos(leaderboard.top(ranking, limit)));
+        Player player = userId != null ? playerRepository.findByUserId(userId).orElse(null) : null;
+        if (player != null) {
+            dto.setMyRank(leaderboard.rankOf(ranking, player.getId()));
+            dto.setAround(toDtos(leaderboard.around(ranking, player.getId(), radius)));
+        }
+        return dto;
+    }
+
+    /** Recharge tous les classements depuis la base. */
+    public synchronized void reload() {
+        Map<Long, Integer> territory = new HashMap<>();
+        for (Object[] row : sectorRepository.countSectorsByOwner()) {
+            territory.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        List<Leaderboard.Standing> standings = new ArrayList<>();
+        for (Player player : playerRepository.findAll()) {
+            standings.add(new Leaderboard.Standing(player.getId(), player.getName(),
+                    player.getStats().getGlobalPower(), player.getStats().getTotalEconomyPower(),
+                    player.getStats().getTotalIncome(), territory.getOrDefault(player.getId(), 0)));
+        }
+        leaderboard.replaceAll(standings);
+        loaded = true;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    // === ÉVÉNEMENTS (après commit ; ignorés tant que rien n'est chargé : le chargement lira la base) ===
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerStatsChanged(PlayerStatsChangedEvent event) {
+        if (loaded) {
+            leaderboard.updatePlayer(event.playerId(), event.name(), event.globalPower(),
+                    event.economyPower(), event.income());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerRemoved(PlayerRemovedEvent event) {
+        if (loaded) {
+            leaderboard.removePlayer(event.playerId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectorOwnerChanged(SectorOwnerChangedEvent event) {
+        if (loaded) {
+            leaderboard.moveTerritory(event.previousOwner(), event.newOwner());
+        }
+    }
+
+    private static RankingMetric parseMetric(String metric) {
+        try {
+            return RankingMetric.valueOf(metric.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Critère de classement inconnu : " + metric);
+        }
+    }
+
+    private static List<LeaderboardEntryDto> toDtos(List<Leaderboard.RankedPlayer> players) {
+        return players.stream()
+                .map(p -> new LeaderboardEntryDto(p.rank(), p.playerId(), p.name(), p.score()))
+                .toList();
+    }
+}
@@ -5,20 +5,24 @@ import com.mg.nmlonline.domain.model.movement.DestinationConflict;
 import com.mg.nmlonline.domain.model.movement.MovementOrder;
 import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
 import com.mg.nmlonline.domain.model.movement.MovementStatus;
+import com.mg.nmlonline.domain.model.movement.ResolutionWorkingSet;
+import com.mg.nmlonline.domain.model.movement.ResolutionWorkingSet.Departure;
 import com.mg.nmlonline.domain.model.movement.TransitCombatResult;
 import com.mg.nmlonline.domain.model.sector.Sector;
 import com.mg.nmlonline.domain.model.unit.CombatEntity;
-import com.mg.nmlonline.domain.model.unit.GameCharacter;
 import com.mg.nmlonline.domain.model.unit.Unit;
 import com.mg.nmlonline.domain.model.vehicle.Vehicle;
 import com.mg.nmlonline.infrastructure.repository.MovementOrderRepository;
 import com.mg.nmlonline.infrastructure.repository.VehicleRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service de gestion des déplacements.
@@ -42,12 +46,20 @@ public class MovementService {
     private final MovementOrderRepository orderRepository;
     private final VehicleRepository vehicleRepository;
 
+    /** Traitement parallèle des secteurs d'arrivée d'un step (résultat identique au mode séquentiel). */
+    @Value("${app.movement.parallel-resolution:false}")
+    private boolean parallelResolution;
+
     public MovementService(MovementOrderRepository orderRepository,
                            VehicleRepository vehicleRepository) {
         this.orderRepository = orderRepository;
         this.vehicleRepository = vehicleRepository;
     }
 
+    void setParallelResolution(boolean parallelResolution) {
+        this.parallelResolution = parallelResolution;
+    }
+
     // ==========================================
     // === CRÉATION DES ORDRES DE DÉPLACEMENT ===
     // ==========================================
@@ -200,6 +212,16 @@ public class MovementService {
      * Les entités arrivées à un step précédent restent physiquement dans leur secteur et sont
      * donc « tangibles » pour tout arrivant au step suivant.</p>
      *
+     * <p>Les déplacements sont simulés dans un {@link ResolutionWorkingSet} : les collections
+     * des secteurs ne sont modifiées qu'une fois, en fin de résolution, et la puissance militaire
+     * n'est recalculée qu'une fois par secteur touché.</p>
+     *
+     * <p>Chaque step se déroule en trois temps : planification des départs (par secteur quitté),
+     * évaluation des arrivées (par secteur cible) puis application séquentielle dans l'ordre des
+     * secteurs cibles. Les deux premiers temps ne font que lire l'état de début de step et
+     * peuvent s'exécuter en parallèle ({@code app.movement.parallel-resolution=true}) ; la fusion
+     * ordonnée garantit un résultat identique au mode séquentiel.</p>
+     *
      * <h3>Règles appliquées à chaque step :</h3>
      * <ul>
      *   <li>Croisement (A→B et B→A pour le même step) : pas de combat entre A et B.</li>
@@ -219,10 +241,13 @@ public class MovementService {
             return result;
         }
 
+        // Tous les véhicules du tour chargés en une requête (avec pilote et passagers)
+        Map<Long, Vehicle> vehicles = prefetchVehicles(turn, pendingOrders);
+
         // === PHASE 1 : Validation initiale ===
         List<MovementOrder> validOrders = new ArrayList<>();
         for (MovementOrder order : pendingOrders) {
-            if (validateOrderForResolution(order, board)) {
+            if (validateOrderForResolution(order, board, vehicles)) {
                 validOrders.add(order);
             } else {
                 result.addBlocked(order);
@@ -235,6 +260,9 @@ public class MovementService {
             currentPosition.put(order.getId(), order.getFromSectorNumber());
         }
 
+        // Déplacements simulés en mémoire, reportés une seule fois sur les entités gérées à la fin
+        ResolutionWorkingSet workingSet = new ResolutionWorkingSet(board);
+
         // Ordres stoppés en transit (ex : véhicule détruit en chemin)
         Set<Long> stoppedIds = new HashSet<>();
 
@@ -259,100 +287,91 @@ public class MovementService {
             // Détecter les croisements à ce step (A→B et B→A : ils se croisent sans se combattre)
             Set<Long> crossingIds = detectStepCrossings(validOrders, stoppedIds, currentPosition, step);
 
-            // Traiter chaque secteur vers lequel des entités arrivent
+            // Croiseurs indexés par secteur quitté (position en début de step)
+            Map<Integer, List<MovementOrder>> crossersBySector = new HashMap<>();
+            for (MovementOrder order : validOrders) {
+                if (crossingIds.contains(order.getId())) {
+                    crossersBySector.computeIfAbsent(currentPosition.get(order.getId()), k -> new ArrayList<>())
+                            .add(order);
+                }
+            }
+
+            // Groupes d'arrivée, dans l'ordre de traitement. Chaque ordre reçoit son rang d'avancée :
+            // un ordre de rang inférieur au premier rang d'un groupe a déjà quitté son secteur
+            // quand ce groupe est traité.
+            List<ArrivalGroup> groups = new ArrayList<>();
+            Map<Long, Integer> sequence = new HashMap<>();
+            Map<Integer, List<MovementOrder>> leavingPerSector = new LinkedHashMap<>();
             for (Map.Entry<Integer, List<MovementOrder>> entry : arrivalsPerSector.entrySet()) {
                 int targetNum = entry.getKey();
-                Sector targetSector = board.getSector(targetNum);
-                if (targetSector == null) {
+                if (!board.hasSector(targetNum)) {
                     continue;
                 }
+                groups.add(new ArrivalGroup(targetNum, entry.getValue(), sequence.size()));
+                workingSet.prepare(targetNum);
+                for (MovementOrder order : entry.getValue()) {
+                    int fromNum = currentPosition.get(order.getId());
+                    sequence.put(order.getId(), sequence.size());
+                    workingSet.prepare(fromNum);
+                    leavingPerSector.computeIfAbsent(fromNum, k -> new ArrayList<>()).add(order);
+                }
+            }
 
-                List<MovementOrder> arriving = entry.getValue();
-
-                // Tous les arrivants, croiseurs inclus (ils peuvent combattre des défenseurs présents)
-                Set<Long> arrivingPlayerIds = arriving.stream()
-                        .map(MovementOrder::getPlayerId)
-                        .collect(Collectors.toSet());
-
-                // Arrivants non-croiseurs uniquement (pour les conflits entre arrivants)
-                Set<Long> nonCrossingArrivingPlayerIds = arriving.stream()
-                        .filter(o -> !crossingIds.contains(o.getId()))
-                        .map(MovementOrder::getPlayerId)
-                        .collect(Collectors.toSet());
-
-                // Joueurs dont les unités quittent ce secteur en croisement avec un arrivant :
-                // leur présence dans le secteur est transitoire, ils ne sont pas défenseurs
-                Set<Long> leavingCrosserPlayerIds = validOrders.stream()
-                        .filter(o -> crossingIds.contains(o.getId()) && !stoppedIds.contains(o.getId()))
-                        .filter(o -> currentPosition.get(o.getId()).equals(targetNum))
-                        .map(MovementOrder::getPlayerId)
-                        .collect(Collectors.toSet());
-
-                // Capturer les défenseurs AVANT de déplacer les arrivants
-                // (inclut les unités stationnaires ET celles arrivées lors de steps précédents)
-                Set<Long> defenderPlayerIds = targetSector.getCombatEntities().stream()
-                        .map(CombatEntity::getPlayerId)
-                        .filter(Objects::nonNull)
-                        .filter(pid -> !arrivingPlayerIds.contains(pid) && !leavingCrosserPlayerIds.contains(pid))
-                        .collect(Collectors.toSet());
-
-                // Déplacer physiquement toutes les entités vers ce secteur
-                for (MovementOrder order : arriving) {
-                    advanceOrder(order, currentPosition.get(order.getId()), targetSector, board);
-                    currentPosition.put(order.getId(), targetNum);
+            // Départs planifiés sur l'état de début de step, indépendamment pour chaque secteur quitté
+            List<Map.Entry<Integer, List<MovementOrder>>> leaving = new ArrayList<>(leavingPerSector.entrySet());
+            List<List<Departure>> planned = mapPartitions(leaving,
+                    e -> workingSet.planDepartures(e.getKey(), e.getValue(), vehicles));
+            Map<Long, Departure> departureByOrder = new HashMap<>();
+            Map<Integer, List<Departure>> departuresPerSector = new HashMap<>();
+            for (int i = 0; i < leaving.size(); i++) {
+                departuresPerSector.put(leaving.get(i).getKey(), planned.get(i));
+                for (Departure departure : planned.get(i)) {
+                    departureByOrder.put(departure.getOrder().getId(), departure);
                 }
+            }
 
-                if (arrivingPlayerIds.isEmpty()) continue; // Aucun arrivant, pas de combat
+            // Défenseurs, conflits et transits de chaque secteur d'arrivée (lecture seule)
+            int currentStep = step;
+            List<ArrivalOutcome> outcomes = mapPartitions(groups, group -> evaluateArrivals(
+                    group, currentStep, workingSet, departuresPerSector, sequence,
+                    crossingIds, crossersBySector, stoppedIds, vehicles));
 
-                // Conflit arrivants (y compris croiseurs) vs défenseurs déjà en place
-                for (Long attacker : arrivingPlayerIds) {
-                    for (Long defender : defenderPlayerIds) {
-                        result.addConflict(new DestinationConflict(targetNum, attacker, defender));
-                    }
-                }
+            // Application séquentielle, dans l'ordre des groupes
+            for (int g = 0; g < groups.size(); g++) {
+                ArrivalGroup group = groups.get(g);
+                ArrivalOutcome outcome = outcomes.get(g);
+                int targetNum = group.targetNumber();
 
-                // Conflit entre arrivants non-croiseurs (les croiseurs A⇔B ne se combattent pas entre eux)
-                List<Long> arrivingList = new ArrayList<>(nonCrossingArrivingPlayerIds);
-                for (int i = 0; i < arrivingList.size(); i++) {
-                    for (int j = i + 1; j < arrivingList.size(); j++) {
-                        result.addConflict(new DestinationConflict(
-                                targetNum, arrivingList.get(i), arrivingList.get(j)));
-                    }
+                for (MovementOrder order : group.arriving()) {
+                    workingSet.arrive(targetNum, departureByOrder.get(order.getId()));
+                    currentPosition.put(order.getId(), targetNum);
                 }
+                outcome.conflicts().forEach(result::addConflict);
 
                 // Combat de transit pour les véhicules passant par un secteur ennemi
-                if (!defenderPlayerIds.isEmpty()) {
-                    for (MovementOrder order : arriving) {
-                        if (!order.isVehicleMovement() || crossingIds.contains(order.getId())) continue;
-                        List<Integer> route = order.getRoute();
-                        if (step == route.size() - 1) continue; // Destination finale, pas un transit
-
-                        Vehicle vehicle = vehicleRepository.findById(order.getVehicleId()).orElse(null);
-                        if (vehicle == null) continue;
-
-                        result.addTransitCombat(
-                                new TransitCombatResult(targetNum, vehicle.getId(), vehicle.firesInTransit()));
-                        // TODO : appeler CombatService ici pour résolution réelle du combat de transit
-                        if (vehicle.isDestroyed()) {
-                            for (CombatEntity occupant : vehicle.disembarkAll()) {
-                                occupant.setSector(targetSector);
-                                if (occupant instanceof Unit unit) {
-                                    targetSector.getArmy().add(unit);
-                                } else if (occupant instanceof GameCharacter character) {
-                                    targetSector.getCharacters().add(character);
-                                }
-                            }
-                            order.block("Véhicule détruit en transit au secteur " + targetNum);
-                            orderRepository.save(order);
-                            result.addBlocked(order);
-                            stoppedIds.add(order.getId());
-                        }
+                for (MovementOrder order : outcome.transits()) {
+                    Vehicle vehicle = vehicles.get(order.getVehicleId());
+                    result.addTransitCombat(
+                            new TransitCombatResult(targetNum, vehicle.getId(), vehicle.firesInTransit()));
+                    // ponytail: ceiling = combat de transit signalé, pas livré : le noyau de combat ne
+                    // prend que des unités et aucune règle ne détruit un véhicule, la branche ci-dessous
+                    // ne sert qu'à un véhicule déjà détruit. Upgrade path = faire tirer les défenseurs
+                    // du secteur sur le véhicule (et le véhicule en retour si firesInTransit) quand les
+                    // règles de combat des véhicules existeront, comme pour BattleResolutionStage.
+                    if (vehicle.isDestroyed()) {
+                        workingSet.disembark(targetNum, vehicle.disembarkAll());
+                        order.block("Véhicule détruit en transit au secteur " + targetNum);
+                        orderRepository.save(order);
+                        result.addBlocked(order);
+                        stoppedIds.add(order.getId());
                     }
                 }
             }
         }
 
-        // === PHASE FINALE : Marquer les ordres non stoppés comme résolus ===
+        // === PHASE FINALE : Report du diff net (positions et stats) puis ordres non stoppés résolus ===
+        workingSet.apply();
+
         for (MovementOrder order : validOrders) {
             if (!stoppedIds.contains(order.getId()) && !order.isNotPending()) {
                 order.resolve();
@@ -368,74 +387,176 @@ public class MovementService {
     // === MÉTHODES INTERNES ===
     // ============================
 
+    /**
+     * Charge en une requête tous les véhicules référencés par les ordres PENDING du tour, pilote
+     * et passagers compris. La carte est propre à une résolution : les véhicules restent gérés
+     * par le contexte de persistance courant, les mutations sont donc persistées normalement.
+     */
+    private Map<Long, Vehicle> prefetchVehicles(int turn, List<MovementOrder> orders) {
+        if (orders.stream().noneMatch(MovementOrder::isVehicleMovement)) {
+            return Map.of();
+        }
+        Map<Long, Vehicle> vehicles = new HashMap<>();
+        for (Vehicle vehicle : vehicleRepository.findAllWithCrewByOrderTurnAndStatus(turn, MovementStatus.PENDING)) {
+            vehicles.put(vehicle.getId(), vehicle);
+        }
+        return vehicles;
+    }
+
     /**
      * Détecte les croisements au step N : paires d'ordres ennemis qui échangent
      * exactement leurs positions (A va là où B était, B va là où A était).
      * Ces ordres se croisent sans se combattre entre eux.
+     *
+     * <p>Les ordres actifs sont regroupés par arête orientée (position courante → prochain
+     * secteur) : un ordre croise si l'arête inverse est empruntée par un autre joueur.
+     * Coût O(n) par step au lieu de la comparaison de toutes les paires.
      */
-    private Set<Long> detectStepCrossings(List<MovementOrder> orders, Set<Long> stoppedIds,
-                                          Map<Long, Integer> currentPositions, int step) {
+    static Set<Long> detectStepCrossings(List<MovementOrder> orders, Set<Long> stoppedIds,
+                                         Map<Long, Integer> currentPositions, int step) {
+        List<MovementOrder> active = new ArrayList<>();
+        Map<Long, EdgeTraffic> trafficByEdge = new HashMap<>();
+        for (MovementOrder order : orders) {
+            if (stoppedIds.contains(order.getId()) || order.getRoute().size() <= step) continue;
+            active.add(order);
+            int current = currentPositions.get(order.getId());
+            int next = order.getRoute().get(step);
+            trafficByEdge.computeIfAbsent(edgeKey(current, next), k -> new EdgeTraffic())
+                    .add(order.getPlayerId());
+        }
+
         Set<Long> crossingIds = new HashSet<>();
-        List<MovementOrder> active = orders.stream()
-                .filter(o -> !stoppedIds.contains(o.getId()))
-                .filter(o -> o.getRoute().size() > step)
-                .toList();
-
-        for (int i = 0; i < active.size(); i++) {
-            for (int j = i + 1; j < active.size(); j++) {
-                MovementOrder a = active.get(i);
-                MovementOrder b = active.get(j);
-                if (a.getPlayerId().equals(b.getPlayerId())) continue;
-
-                int aNext = a.getRoute().get(step);
-                int bNext = b.getRoute().get(step);
-                int aCurr = currentPositions.get(a.getId());
-                int bCurr = currentPositions.get(b.getId());
-
-                // Croisement : A va là où B est, et B va là où A est
-                if (aNext == bCurr && bNext == aCurr) {
-                    crossingIds.add(a.getId());
-                    crossingIds.add(b.getId());
-                }
+        for (MovementOrder order : active) {
+            int current = currentPositions.get(order.getId());
+            int next = order.getRoute().get(step);
+            // Croisement : quelqu'un d'un autre joueur fait le trajet inverse au même step
+            EdgeTraffic reverse = trafficByEdge.get(edgeKey(next, current));
+            if (reverse != null && reverse.hasPlayerOtherThan(order.getPlayerId())) {
+                crossingIds.add(order.getId());
             }
         }
         return crossingIds;
     }
 
+    private static long edgeKey(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
     /**
-     * Avance physiquement les entités d'un ordre d'un secteur vers le secteur cible.
-     * {@code fromSectorNum} est la position courante de l'ordre (peut être un secteur
-     * intermédiaire pour un véhicule multi-hop).
+     * Joueurs empruntant une arête orientée pendant un step : on ne retient que le premier
+     * joueur et le fait qu'il y en ait plusieurs, ce qui suffit à détecter un croisement ennemi.
      */
-    private void advanceOrder(MovementOrder order, int fromSectorNum, Sector targetSector, Board board) {
-        Sector fromSector = board.getSector(fromSectorNum);
-
-        if (order.isVehicleMovement()) {
-            Vehicle vehicle = vehicleRepository.findById(order.getVehicleId()).orElse(null);
-            if (vehicle != null && !vehicle.isDestroyed()) {
-                if (fromSector != null) fromSector.getVehicles().remove(vehicle);
-                targetSector.getVehicles().add(vehicle);
-                vehicle.setSector(targetSector);
+    private static final class EdgeTraffic {
+        private Long firstPlayerId;
+        private boolean severalPlayers;
+
+        void add(Long playerId) {
+            if (firstPlayerId == null) {
+                firstPlayerId = playerId;
+            } else if (!firstPlayerId.equals(playerId)) {
+                severalPlayers = true;
             }
-        } else if (fromSector != null) {
-            List<Long> entityIds = order.getEntityIds();
-            List<CombatEntity> toMove = fromSector.getCombatEntities().stream()
-                    .filter(e -> entityIds.contains(e.getId()))
-                    .toList();
-            for (CombatEntity entity : toMove) {
-                entity.setSector(targetSector);
-                if (entity instanceof Unit unit) {
-                    fromSector.getArmy().remove(unit);
-                    targetSector.getArmy().add(unit);
-                } else if (entity instanceof GameCharacter character) {
-                    fromSector.getCharacters().remove(character);
-                    targetSector.getCharacters().add(character);
+        }
+
+        boolean hasPlayerOtherThan(Long playerId) {
+            return severalPlayers || !firstPlayerId.equals(playerId);
+        }
+    }
+
+    /**
+     * Évalue les arrivées d'un secteur cible pour un step, sans rien modifier : défenseurs en
+     * place, conflits et véhicules en transit. Les défenseurs sont lus sur l'état de début de
+     * step, diminué des ordres ayant quitté le secteur plus tôt dans le step.
+     */
+    private static ArrivalOutcome evaluateArrivals(ArrivalGroup group, int step, ResolutionWorkingSet workingSet,
+                                                   Map<Integer, List<Departure>> departuresPerSector,
+                                                   Map<Long, Integer> sequence, Set<Long> crossingIds,
+                                                   Map<Integer, List<MovementOrder>> crossersBySector,
+                                                   Set<Long> stoppedIds, Map<Long, Vehicle> vehicles) {
+        int targetNum = group.targetNumber();
+        List<MovementOrder> arriving = group.arriving();
+
+        // Tous les arrivants, croiseurs inclus (ils peuvent combattre des défenseurs présents)
+        Set<Long> arrivingPlayerIds = arriving.stream()
+                .map(MovementOrder::getPlayerId)
+                .collect(Collectors.toSet());
+
+        // Arrivants non-croiseurs uniquement (pour les conflits entre arrivants)
+        Set<Long> nonCrossingArrivingPlayerIds = arriving.stream()
+                .filter(o -> !crossingIds.contains(o.getId()))
+                .map(MovementOrder::getPlayerId)
+                .collect(Collectors.toSet());
+
+        // Joueurs dont les unités quittent ce secteur en croisement avec un arrivant :
+        // leur présence dans le secteur est transitoire, ils ne sont pas défenseurs.
+        // Un croiseur déjà avancé plus tôt dans ce step n'est plus dans le secteur.
+        Set<Long> leavingCrosserPlayerIds = new HashSet<>();
+        for (MovementOrder o : crossersBySector.getOrDefault(targetNum, List.of())) {
+            boolean alreadyLeft = sequence.getOrDefault(o.getId(), Integer.MAX_VALUE) < group.firstSequence();
+            if (!stoppedIds.contains(o.getId()) && !alreadyLeft) {
+                leavingCrosserPlayerIds.add(o.getPlayerId());
+            }
+        }
+
+        // Défenseurs AVANT l'arrivée des entités du groupe
+        // (inclut les unités stationnaires ET celles arrivées lors de steps précédents)
+        List<Departure> departed = new ArrayList<>();
+        for (Departure departure : departuresPerSector.getOrDefault(targetNum, List.of())) {
+            if (sequence.get(departure.getOrder().getId()) >= group.firstSequence()) break;
+            departed.add(departure);
+        }
+        Set<Long> defenderPlayerIds = workingSet.playersPresent(targetNum, departed);
+        defenderPlayerIds.removeAll(arrivingPlayerIds);
+        defenderPlayerIds.removeAll(leavingCrosserPlayerIds);
+
+        List<DestinationConflict> conflicts = new ArrayList<>();
+
+        // Conflit arrivants (y compris croiseurs) vs défenseurs déjà en place
+        for (Long attacker : arrivingPlayerIds) {
+            for (Long defender : defenderPlayerIds) {
+                conflicts.add(new DestinationConflict(targetNum, attacker, defender));
+            }
+        }
+
+        // Conflit entre arrivants non-croiseurs (les croiseurs A⇔B ne se combattent pas entre eux)
+        List<Long> arrivingList = new ArrayList<>(nonCrossingArrivingPlayerIds);
+        for (int i = 0; i < arrivingList.size(); i++) {
+            for (int j = i + 1; j < arrivingList.size(); j++) {
+                conflicts.add(new DestinationConflict(targetNum, arrivingList.get(i), arrivingList.get(j)));
+            }
+        }
+
+        // Véhicules en transit (hors destination finale) dans un secteur tenu par l'ennemi
+        List<MovementOrder> transits = new ArrayList<>();
+        if (!defenderPlayerIds.isEmpty()) {
+            for (MovementOrder order : arriving) {
+                if (!order.isVehicleMovement() || crossingIds.contains(order.getId())) continue;
+                if (step == order.getRoute().size() - 1) continue;
+                if (vehicles.get(order.getVehicleId()) != null) {
+                    transits.add(order);
                 }
             }
         }
+        return new ArrivalOutcome(conflicts, transits);
+    }
+
+    /**
+     * Applique {@code task} à chaque partition, en parallèle (pool fork-join commun) si le mode
+     * parallèle est activé. L'ordre des résultats suit toujours celui des partitions.
+     */
+    private <T, R> List<R> mapPartitions(List<T> partitions, Function<T, R> task) {
+        Stream<T> stream = parallelResolution && partitions.size() > 1
+                ? partitions.parallelStream()
+                : partitions.stream();
+        return stream.map(task).toList();
+    }
+
+    /** Ordres arrivant sur un même secteur pendant un step ; {@code firstSequence} = rang du premier. */
+    private record ArrivalGroup(int targetNumber, List<MovementOrder> arriving, int firstSequence) {
+    }
 
-        if (fromSector != null) fromSector.recalculateMilitaryPower();
-        targetSector.recalculateMilitaryPower();
+    /** Conflits et véhicules en transit d'un groupe d'arrivée, fusionnés dans l'ordre des groupes. */
+    private record ArrivalOutcome(List<DestinationConflict> conflicts, List<MovementOrder> transits) {
     }
 
     /**
@@ -487,21 +608,22 @@ public class MovementService {
     /**
      * Valide un ordre pour la phase de résolution (vérifications au moment de l'exécution).
      */
-    private boolean validateOrderForResolution(MovementOrder order, Board board) {
+    private boolean validateOrderForResolution(MovementOrder order, Board board, Map<Long, Vehicle> vehicles) {
         try {
             if (!board.hasSector(order.getFromSectorNumber()) || !board.hasSector(order.getToSectorNumber())) {
                 order.block("Secteur inexistant.");
                 return false;
             }
 
+            // Route toujours valide (topologie modifiée depuis l'ordre) ?
+            if (board.isInvalidRoute(order.getRoute())) {
+                order.block("Route invalide (secteurs non adjacents).");
+                return false;
+            }
+
             if (order.isVehicleMovement()) {
-                // Route toujours valide ?
-                if (board.isInvalidRoute(order.getRoute())) {
-                    order.block("Route invalide (secteurs non adjacents).");
-                    return false;
-                }
                 // Véhicule encore opérationnel ?
-                Vehicle vehicle = vehicleRepository.findById(order.getVehicleId()).orElse(null);
+                Vehicle vehicle = vehicles.get(order.getVehicleId());
                 if (vehicle == null || vehicle.cantMove()) {
                     order.block("Véhicule non opérationnel.");
                     return false;
@@ -0,0 +1,48 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Étape de fin de tour : résout les ordres de déplacement PENDING du tour qui se termine
+ * ({@link MovementService#resolveAllMovements}).
+ */
+@Service
+public class MovementStage implements TurnStage {
+
+    private final MovementService movementService;
+
+    public MovementStage(MovementService movementService) {
+        this.movementService = movementService;
+    }
+
+    @Override
+    public String name() {
+        return "movement";
+    }
+
+    @Override
+    public int order() {
+        return 100;
+    }
+
+    @Override
+    public Set<TurnArtifact> requires() {
+        return Set.of(TurnArtifact.BOARD);
+    }
+
+    @Override
+    public Set<TurnArtifact> produces() {
+        return Set.of(TurnArtifact.MOVEMENTS);
+    }
+
+    /** @return le nombre d'ordres traités (résolus ou bloqués) */
+    @Override
+    public int run(TurnContext context) {
+        MovementResolutionResult result = movementService.resolveAllMovements(context.getTurn(), context.getBoard());
+        context.setMovements(result);
+        return result.getResolved().size() + result.getBlocked().size();
+    }
+}
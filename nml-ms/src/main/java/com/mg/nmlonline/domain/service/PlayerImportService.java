@@ -250,12 +250,15 @@ public class PlayerImportService {
 
     private void importUnitsToSector(Player player, Sector sector, List<UnitDTO> units) {
         if (units == null) return;
+        List<Unit> imported = new ArrayList<>(units.size());
         for (UnitDTO unitDto : units) {
             Unit unit = createUnitFromDTO(player, unitDto);
             if (unit != null) { // Only add unit if it was created successfully
-                sector.addUnit(unit);
+                imported.add(unit);
             }
         }
+        // Un seul tri et une seule renumérotation pour toute l'armée importée
+        sector.addUnits(imported);
     }
 
     private Unit createUnitFromDTO(Player player, UnitDTO unitDto) {
@@ -1,11 +1,13 @@
 package com.mg.nmlonline.domain.service;
 
 import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.PlayerStatsAggregator;
+import com.mg.nmlonline.domain.model.board.PlayerStatsAggregator.PlayerTotals;
 import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.domain.model.sector.Sector;
-import com.mg.nmlonline.domain.model.unit.CombatEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,6 +17,9 @@ import java.util.List;
  *
  * Avec la nouvelle architecture, Board est la source unique de vérité pour les secteurs,
  * donc ce service prend Board en paramètre pour accéder aux secteurs du joueur.
+ *
+ * Les totaux viennent de {@link Board#playerStats()} : un seul balayage du plateau pour tous
+ * les joueurs, mis en cache jusqu'au prochain changement de contenu du plateau.
  */
 @Service
 public class PlayerStatsService {
@@ -30,47 +35,7 @@ public class PlayerStatsService {
         if (player == null || board == null) {
             return;
         }
-
-        // Récupérer les secteurs du joueur depuis le board
-        List<Sector> playerSectors = board.getSectorsByOwner(player.getId());
-
-        // Mettre à jour les stats de chaque secteur
-        for (Sector sector : playerSectors) {
-            sector.recalculateMilitaryPower();
-        }
-
-        // Calculer les stats totales de combat (unités + bâtiments + personnages)
-        double totalAtk = playerSectors.stream()
-                .flatMap(sector -> sector.getCombatEntities().stream())
-                .mapToDouble(CombatEntity::getAttack)
-                .sum();
-
-        double totalPdf = playerSectors.stream()
-                .flatMap(sector -> sector.getCombatEntities().stream())
-                .mapToDouble(CombatEntity::getPdf)
-                .sum();
-
-        double totalPdc = playerSectors.stream()
-                .flatMap(sector -> sector.getCombatEntities().stream())
-                .mapToDouble(CombatEntity::getPdc)
-                .sum();
-
-        double totalDef = playerSectors.stream()
-                .flatMap(sector -> sector.getCombatEntities().stream())
-                .mapToDouble(CombatEntity::getDefense)
-                .sum();
-
-        double totalArmor = playerSectors.stream()
-                .flatMap(sector -> sector.getCombatEntities().stream())
-                .mapToDouble(CombatEntity::getArmor)
-                .sum();
-
-        // Mettre à jour les stats du joueur
-        player.getStats().setTotalAtk(totalAtk);
-        player.getStats().setTotalPdf(totalPdf);
-        player.getStats().setTotalPdc(totalPdc);
-        player.getStats().setTotalDef(totalDef);
-        player.getStats().setTotalArmor(totalArmor);
+        applyCombatStats(player, board.playerStats().of(player.getId()));
     }
 
     /**
@@ -83,19 +48,9 @@ public class PlayerStatsService {
         if (player == null || board == null) {
             return;
         }
-
-        List<Sector> playerSectors = board.getSectorsByOwner(player.getId());
-
-        double totalOffensive = playerSectors.stream()
-                .mapToDouble(sector -> sector.getStats().getTotalOffensive())
-                .sum();
-
-        double totalDefensive = playerSectors.stream()
-                .mapToDouble(sector -> sector.getStats().getTotalDefensive())
-                .sum();
-
-        player.getStats().setTotalOffensivePower(totalOffensive);
-        player.getStats().setTotalDefensivePower(totalDefensive);
+        PlayerTotals totals = board.playerStats().of(player.getId());
+        player.getStats().setTotalOffensivePower(totals.totalOffensive());
+        player.getStats().setTotalDefensivePower(totals.totalDefensive());
     }
 
     /**
@@ -108,11 +63,7 @@ public class PlayerStatsService {
         if (player == null || board == null) {
             return;
         }
-
-        updateTotalStats(player, board);
-        double globalPower = (player.getStats().getTotalOffensivePower()
-                            + player.getStats().getTotalDefensivePower()) / 2;
-        player.getStats().setGlobalPower(globalPower);
+        applyTotalStats(player, board.playerStats().of(player.getId()));
     }
 
     /**
@@ -125,33 +76,59 @@ public class PlayerStatsService {
         if (player == null || board == null) {
             return;
         }
-
-        List<Sector> playerSectors = board.getSectorsByOwner(player.getId());
-
-        double totalIncome = playerSectors.stream()
-                .mapToDouble(Sector::getIncome)
-                .sum();
-
-        player.getStats().setTotalIncome(totalIncome);
+        player.getStats().setTotalIncome(board.playerStats().of(player.getId()).totalIncome());
     }
 
     /**
      * Recalcule toutes les statistiques du joueur.
-     * Cette méthode est un point d'entrée pratique qui met à jour toutes les stats.
+     * Cette méthode est un point d'entrée pratique qui met à jour toutes les stats : les
+     * statistiques des secteurs et les totaux de tous les joueurs sont recalculés en un seul
+     * balayage du plateau ({@link Board#refreshPlayerStats()}).
      *
      * @param player Le joueur dont on veut recalculer les stats
      * @param board Le plateau de jeu contenant les secteurs
      */
     public void recalculateStats(Player player, Board board) {
-        if (player == null || board == null) {
+        if (player == null) {
             return;
         }
+        recalculateAllStats(List.of(player), board);
+    }
+
+    /**
+     * Comme {@link #recalculateStats(Player, Board)} pour plusieurs joueurs : un seul balayage
+     * du plateau pour tous (fin de tour).
+     */
+    public void recalculateAllStats(Collection<Player> players, Board board) {
+        if (players == null || board == null) {
+            return;
+        }
+
+        PlayerStatsAggregator aggregator = board.refreshPlayerStats();
+        for (Player player : players) {
+            PlayerTotals totals = aggregator.of(player.getId());
+            applyCombatStats(player, totals);
+            applyTotalStats(player, totals);
+            player.getStats().setTotalIncome(totals.totalIncome());
+            player.setTotalEquipmentValue();
+            player.calculateTotalEconomyPower();
+        }
+    }
 
-        updateCombatStats(player, board);
-        updateGlobalStats(player, board);
-        calculateTotalIncome(player, board);
-        player.setTotalEquipmentValue();
-        player.calculateTotalEconomyPower();
+    /**
+     * Total PDC du joueur (unités, bâtiments et personnages de ses secteurs), tel que
+     * {@link #updateCombatStats} le calcule, sans rien modifier.
+     */
+    public double calculateTotalPdc(Player player, Board board) {
+        return player != null ? calculateTotalPdc(player.getId(), board) : 0.0;
+    }
+
+    /** Comme {@link #calculateTotalPdc(Player, Board)}, à partir de l'identifiant du joueur. */
+    public double calculateTotalPdc(Long playerId, Board board) {
+        if (playerId == null || board == null) {
+            return 0.0;
+        }
+        return board.playerStats().of(playerId).totalPdc();
     }
 
     /**
@@ -165,11 +142,21 @@ public class PlayerStatsService {
         if (player == null || board == null) {
             return List.of();
         }
+        return board.playerStats().of(player.getId()).sectorsWithEntities();
+    }
 
-        List<Sector> playerSectors = board.getSectorsByOwner(player.getId());
-        return playerSectors.stream()
-                .filter(sector -> !sector.getCombatEntities().isEmpty())
-                .toList();
+    private static void applyCombatStats(Player player, PlayerTotals totals) {
+        player.getStats().setTotalAtk(totals.totalAtk());
+        player.getStats().setTotalPdf(totals.totalPdf());
+        player.getStats().setTotalPdc(totals.totalPdc());
+        player.getStats().setTotalDef(totals.totalDef());
+        player.getStats().setTotalArmor(totals.totalArmor());
     }
-}
 
+    /** Puissances offensive, défensive et globale ({@code (offensive + défensive) / 2}). */
+    private static void applyTotalStats(Player player, PlayerTotals totals) {
+        player.getStats().setTotalOffensivePower(totals.totalOffensive());
+        player.getStats().setTotalDefensivePower(totals.totalDefensive());
+        player.getStats().setGlobalPower((totals.totalOffensive() + totals.totalDefensive()) / 2);
+    }
+}
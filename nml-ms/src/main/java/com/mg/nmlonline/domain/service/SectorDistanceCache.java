@@ -0,0 +1,49 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.SectorDistanceOracle;
+import com.mg.nmlonline.domain.model.board.SectorGraph;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Oracles de distances des plateaux persistés, gardés d'une requête à l'autre.
+ *
+ * <p>Chaque contexte de persistance recharge le plateau et reconstruit son {@link SectorGraph} ;
+ * l'oracle en cache sert tant que la version de topologie du graphe neuf est la sienne. Un plateau
+ * n'a qu'une entrée : une topologie modifiée remplace l'oracle par un oracle vide, une
+ * suppression du plateau l'évince ({@link #evict}). Les oracles en cache portent sur une copie
+ * du graphe, sans les entités secteur.
+ *
+ * <p>ponytail: ceiling = un oracle par plateau dans la JVM (une instance) ; upgrade path = cache
+ * partagé si multi-instance.
+ */
+@Service
+public class SectorDistanceCache {
+
+    private final Map<Long, SectorDistanceOracle> byBoard = new ConcurrentHashMap<>();
+
+    /**
+     * Oracle du plateau pour sa topologie courante. Plateau non persisté : oracle propre à son
+     * graphe, hors cache.
+     */
+    public SectorDistanceOracle distances(Board board) {
+        SectorGraph graph = board.sectorGraph();
+        if (board.getId() == null) {
+            return graph.distances();
+        }
+        return byBoard.compute(board.getId(), (id, cached) ->
+                cached != null && cached.topologyVersion() == graph.topologyVersion()
+                        ? cached
+                        : graph.detachedDistances());
+    }
+
+    /** Oublie l'oracle d'un plateau (plateau supprimé). */
+    public void evict(Long boardId) {
+        if (boardId != null) {
+            byBoard.remove(boardId);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.mg.nmlonline.domain.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Dernière étape de fin de tour : recalcule les statistiques des secteurs et de tous les
+ * joueurs en un seul balayage du plateau ({@link PlayerStatsService}).
+ */
+@Service
+public class StatRefreshStage implements TurnStage {
+
+    private final PlayerStatsService playerStatsService;
+
+    public StatRefreshStage(PlayerStatsService playerStatsService) {
+        this.playerStatsService = playerStatsService;
+    }
+
+    @Override
+    public String name() {
+        return "stat-refresh";
+    }
+
+    @Override
+    public int order() {
+        return 600;
+    }
+
+    @Override
+    public Set<TurnArtifact> requires() {
+        return Set.of(TurnArtifact.BOARD, TurnArtifact.PLAYERS, TurnArtifact.BATTLES, TurnArtifact.BALANCES);
+    }
+
+    @Override
+    public Set<TurnArtifact> produces() {
+        return Set.of(TurnArtifact.PLAYER_STATS);
+    }
+
+    /** @return le nombre de joueurs recalculés */
+    @Override
+    public int run(TurnContext context) {
+        playerStatsService.recalculateAllStats(context.getPlayers(), context.getBoard());
+        return context.getPlayers().size();
+    }
+}
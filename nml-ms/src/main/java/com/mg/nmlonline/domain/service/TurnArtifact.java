@@ -0,0 +1,25 @@
+package com.mg.nmlonline.domain.service;
+
+/**
+ * Données d'un {@link TurnContext} qu'une {@link TurnStage} lit ou produit. {@link #BOARD} et
+ * {@link #PLAYERS} sont chargés avant la première étape ; les autres doivent être produits par
+ * une étape antérieure à celles qui les lisent ({@link TurnPipeline} le vérifie au démarrage).
+ */
+public enum TurnArtifact {
+    /** Plateau et tour qui se termine. */
+    BOARD,
+    /** Joueurs chargés une fois pour tout le tour. */
+    PLAYERS,
+    /** Résultat de la résolution des déplacements. */
+    MOVEMENTS,
+    /** Batailles livrées (propriétaires des secteurs à jour). */
+    BATTLES,
+    /** Revenus du tour de chaque joueur (secteurs et vampirisation). */
+    INCOME,
+    /** Soldes des joueurs définitifs pour le tour (revenus et vampirisation appliqués). */
+    BALANCES,
+    /** État des bâtiments en fin de tour. */
+    BUILDINGS,
+    /** Statistiques des joueurs recalculées. */
+    PLAYER_STATS
+}
@@ -0,0 +1,80 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.battle.SectorBattleReport;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import com.mg.nmlonline.domain.model.player.IncomeLedger;
+import com.mg.nmlonline.domain.model.player.Player;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * État en mémoire d'une fin de tour, partagé par les {@link TurnStage} : plateau et joueurs
+ * chargés une seule fois, puis les résultats de chaque étape. Rien n'est sauvegardé avant la
+ * fin du pipeline.
+ */
+public class TurnContext {
+
+    private final Board board;
+    private final int turn;
+    private final Map<Long, Player> players = new LinkedHashMap<>();
+    private MovementResolutionResult movements = new MovementResolutionResult();
+    private List<SectorBattleReport> battles = List.of();
+    private IncomeLedger income;
+
+    /**
+     * @param turn tour qui se termine
+     */
+    public TurnContext(Board board, int turn, List<Player> players) {
+        this.board = board;
+        this.turn = turn;
+        for (Player player : players) {
+            this.players.put(player.getId(), player);
+        }
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    /** Joueurs du tour, dans l'ordre de chargement. */
+    public List<Player> getPlayers() {
+        return List.copyOf(players.values());
+    }
+
+    /** Joueur chargé pour ce tour, {@code null} s'il est inconnu. */
+    public Player getPlayer(Long playerId) {
+        return playerId != null ? players.get(playerId) : null;
+    }
+
+    public MovementResolutionResult getMovements() {
+        return movements;
+    }
+
+    public void setMovements(MovementResolutionResult movements) {
+        this.movements = movements;
+    }
+
+    public List<SectorBattleReport> getBattles() {
+        return battles;
+    }
+
+    public void setBattles(List<SectorBattleReport> battles) {
+        this.battles = battles;
+    }
+
+    /** Revenus du tour de tous les joueurs, {@code null} avant l'étape des revenus. */
+    public IncomeLedger getIncome() {
+        return income;
+    }
+
+    public void setIncome(IncomeLedger income) {
+        this.income = income;
+    }
+}
@@ -0,0 +1,183 @@
+package com.mg.nmlonline.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fins de tour asynchrones : {@link #submit()} rend tout de suite un identifiant de job, le
+ * tour est résolu sur un exécuteur dédié ({@link TurnService#endTurn(TurnProgressListener)},
+ * même transaction unique que la fin de tour synchrone) et {@link #get(long)} rapporte
+ * l'étape en cours, le pourcentage et les étapes terminées.
+ *
+ * <p>Pendant la résolution, les lectures des joueurs voient le tour précédent : rien n'est
+ * commité avant la fin du pipeline. Un job en échec est entièrement annulé (rollback) ; ses
+ * étapes terminées restent affichées pour le diagnostic.
+ *
+ * <p>ponytail: ceiling = mémoire du processus, seuls les {@code app.turn.jobs.retention}
+ * derniers jobs sont gardés et un job en cours est perdu (rollback) au redémarrage ; upgrade
+ * path = table des jobs si le suivi doit survivre au processus ou être partagé entre instances.
+ */
+@Service
+public class TurnJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TurnJobService.class);
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    /** Étape terminée d'un job. */
+    public record StageProgress(String stage, int entities, long durationMs) {
+    }
+
+    /**
+     * Instantané d'un job.
+     *
+     * @param currentStage étape en cours, {@code null} hors exécution
+     * @param percent      avancement : étapes terminées sur étapes + commit
+     * @param result       résultat de la fin de tour, {@code null} tant que le job n'a pas réussi
+     * @param error        cause de l'échec, {@code null} sinon
+     */
+    public record TurnJob(long id, Status status, String currentStage, int percent,
+                          List<StageProgress> completedStages, TurnService.TurnResult result, String error,
+                          Instant submittedAt, Instant startedAt, Instant finishedAt) {
+    }
+
+    private final TurnService turnService;
+    private final int retention;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Job> jobs;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "turn-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Job active;
+
+    public TurnJobService(TurnService turnService, @Value("${app.turn.jobs.retention:20}") int retention) {
+        this.turnService = turnService;
+        this.retention = Math.max(1, retention);
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Job> eldest) {
+                return size() > TurnJobService.this.retention;
+            }
+        };
+    }
+
+    /**
+     * Soumet une fin de tour.
+     *
+     * @throws IllegalStateException si une fin de tour soumise n'est pas terminée
+     */
+    public synchronized TurnJob submit() {
+        if (active != null && !active.isFinished()) {
+            throw new IllegalStateException("Une fin de tour est déjà en cours (job " + active.id + ")");
+        }
+        Job job = new Job(sequence.incrementAndGet());
+        jobs.put(job.id, job);
+        active = job;
+        executor.execute(() -> run(job));
+        return job.snapshot();
+    }
+
+    /**
+     * @throws EntityNotFoundException si le job est inconnu ou n'est plus conservé
+     */
+    public synchronized TurnJob get(long jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Job de fin de tour introuvable : " + jobId);
+        }
+        return job.snapshot();
+    }
+
+    private void run(Job job) {
+        job.start();
+        try {
+            TurnService.TurnResult result = turnService.endTurn(job);
+            job.succeed(result);
+            logger.info("[ADMIN] Job {} : tour avancé -> {} ({} secteur(s) disputé(s))",
+                    job.id, result.currentTurn(), result.battles().size());
+        } catch (RuntimeException e) {
+            job.fail(e);
+            logger.error("Job {} : échec de la fin de tour", job.id, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /** État mutable d'un job, mis à jour par le thread du tour et lu par les requêtes. */
+    private static final class Job implements TurnProgressListener {
+        private final long id;
+        private final Instant submittedAt = Instant.now();
+        private final List<StageProgress> completedStages = new ArrayList<>();
+        private Status status = Status.QUEUED;
+        private String currentStage;
+        private int percent;
+        private TurnService.TurnResult result;
+        private String error;
+        private Instant startedAt;
+        private Instant finishedAt;
+
+        Job(long id) {
+            this.id = id;
+        }
+
+        synchronized void start() {
+            status = Status.RUNNING;
+            startedAt = Instant.now();
+        }
+
+        @Override
+        public synchronized void stageStarted(String stage, int index, int stageCount) {
+            currentStage = stage;
+        }
+
+        @Override
+        public synchronized void stageCompleted(String stage, int index, int stageCount, int entities, long elapsedNanos) {
+            completedStages.add(new StageProgress(stage, entities, TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+            percent = (index + 1) * 100 / (stageCount + 1);
+        }
+
+        synchronized void succeed(TurnService.TurnResult result) {
+            this.result = result;
+            status = Status.SUCCEEDED;
+            currentStage = null;
+            percent = 100;
+            finishedAt = Instant.now();
+        }
+
+        synchronized void fail(RuntimeException e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            status = Status.FAILED;
+            currentStage = null;
+            finishedAt = Instant.now();
+        }
+
+        synchronized boolean isFinished() {
+            return status == Status.SUCCEEDED || status == Status.FAILED;
+        }
+
+        synchronized TurnJob snapshot() {
+            return new TurnJob(id, status, currentStage, percent, List.copyOf(completedStages), result, error,
+                    submittedAt, startedAt, finishedAt);
+        }
+    }
+}
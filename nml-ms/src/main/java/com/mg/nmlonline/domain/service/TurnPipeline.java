@@ -0,0 +1,95 @@
+package com.mg.nmlonline.domain.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enchaîne les {@link TurnStage} de fin de tour dans l'ordre de {@link TurnStage#order()}.
+ *
+ * <p>Au démarrage, vérifie que chaque donnée lue par une étape est produite par une étape
+ * antérieure (ou chargée d'office : {@link TurnArtifact#BOARD}, {@link TurnArtifact#PLAYERS}).
+ * À chaque fin de tour, mesure chaque étape : durée ({@code nml.turn.stage}) et nombre
+ * d'entités traitées ({@code nml.turn.stage.entities}), avec le tag {@code stage}.
+ */
+@Component
+public class TurnPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(TurnPipeline.class);
+
+    static final String STAGE_TIMER = "nml.turn.stage";
+    static final String STAGE_ENTITIES = "nml.turn.stage.entities";
+
+    private record InstrumentedStage(TurnStage stage, Timer timer, DistributionSummary entities) {
+    }
+
+    private final List<InstrumentedStage> stages = new ArrayList<>();
+
+    public TurnPipeline(List<TurnStage> stages, MeterRegistry meterRegistry) {
+        List<TurnStage> ordered = new ArrayList<>(stages);
+        ordered.sort(Comparator.comparingInt(TurnStage::order));
+        validate(ordered);
+        for (TurnStage stage : ordered) {
+            this.stages.add(new InstrumentedStage(stage,
+                    Timer.builder(STAGE_TIMER)
+                            .description("Durée d'une étape de fin de tour")
+                            .tag("stage", stage.name())
+                            .register(meterRegistry),
+                    DistributionSummary.builder(STAGE_ENTITIES)
+                            .description("Entités traitées par une étape de fin de tour")
+                            .tag("stage", stage.name())
+                            .register(meterRegistry)));
+        }
+    }
+
+    /** Noms des étapes, dans l'ordre d'exécution. */
+    public List<String> stageNames() {
+        return stages.stream().map(s -> s.stage().name()).toList();
+    }
+
+    /** Exécute toutes les étapes sur {@code context}. */
+    public void run(TurnContext context) {
+        run(context, TurnProgressListener.NONE);
+    }
+
+    /** Exécute toutes les étapes sur {@code context} en signalant l'avancement à {@code listener}. */
+    public void run(TurnContext context, TurnProgressListener listener) {
+        for (int i = 0; i < stages.size(); i++) {
+            InstrumentedStage instrumented = stages.get(i);
+            String name = instrumented.stage().name();
+            listener.stageStarted(name, i, stages.size());
+            long start = System.nanoTime();
+            int entities = instrumented.stage().run(context);
+            long elapsed = System.nanoTime() - start;
+            instrumented.timer().record(elapsed, TimeUnit.NANOSECONDS);
+            instrumented.entities().record(entities);
+            logger.debug("Tour {} : étape {} en {} µs ({} entités)", context.getTurn(),
+                    name, elapsed / 1_000, entities);
+            listener.stageCompleted(name, i, stages.size(), entities, elapsed);
+        }
+    }
+
+    private static void validate(List<TurnStage> ordered) {
+        Set<TurnArtifact> available = EnumSet.of(TurnArtifact.BOARD, TurnArtifact.PLAYERS);
+        for (TurnStage stage : ordered) {
+            Set<TurnArtifact> missing = EnumSet.noneOf(TurnArtifact.class);
+            missing.addAll(stage.requires());
+            missing.removeAll(available);
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Étape de fin de tour " + stage.name()
+                        + " : " + missing + " non produit par une étape précédente");
+            }
+            available.addAll(stage.produces());
+        }
+    }
+}
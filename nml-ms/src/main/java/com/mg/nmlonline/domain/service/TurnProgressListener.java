@@ -0,0 +1,26 @@
+package com.mg.nmlonline.domain.service;
+
+/**
+ * Suivi d'une fin de tour, étape par étape ({@link TurnPipeline}). Appelé sur le thread qui
+ * exécute le tour, dans sa transaction.
+ */
+public interface TurnProgressListener {
+
+    /** Aucun suivi. */
+    TurnProgressListener NONE = new TurnProgressListener() {
+    };
+
+    /**
+     * @param index      rang de l'étape (à partir de 0)
+     * @param stageCount nombre d'étapes du pipeline
+     */
+    default void stageStarted(String stage, int index, int stageCount) {
+    }
+
+    /**
+     * @param entities     entités traitées par l'étape
+     * @param elapsedNanos durée de l'étape
+     */
+    default void stageCompleted(String stage, int index, int stageCount, int entities, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.mg.nmlonline.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Fins de tour automatiques : toutes les {@code app.turn.scheduler.poll-interval}, termine
+ * chaque tour dont l'échéance est passée ({@link TurnService#advanceIfDue}), une transaction
+ * et un verrou du plateau par tour.
+ *
+ * <p>Rattrapage : après un arrêt, les échéances manquées sont rattrapées dans le même passage,
+ * jusqu'à {@code app.turn.scheduler.max-catch-up} tours ; au-delà elles sont abandonnées
+ * ({@link TurnService#skipMissedTurns}) pour ne pas enchaîner des dizaines de tours d'un coup.
+ *
+ * <p>Métriques : {@code nml.turn.scheduler.advances} (tours terminés),
+ * {@code nml.turn.scheduler.skipped} (échéances abandonnées) ; la tenue du verrou est mesurée
+ * par {@link TurnService} ({@code nml.turn.lease}).
+ */
+@Component
+@ConditionalOnProperty(name = "app.turn.scheduler.enabled", havingValue = "true")
+public class TurnScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TurnScheduler.class);
+
+    private final TurnService turnService;
+    private final Duration cadence;
+    private final int maxCatchUp;
+    private final Counter advances;
+    private final Counter skipped;
+    private Clock clock = Clock.systemUTC();
+
+    public TurnScheduler(TurnService turnService, MeterRegistry meterRegistry,
+                         @Value("${app.turn.scheduler.cadence:PT24H}") Duration cadence,
+                         @Value("${app.turn.scheduler.max-catch-up:3}") int maxCatchUp) {
+        if (cadence.isZero() || cadence.isNegative()) {
+            throw new IllegalArgumentException("app.turn.scheduler.cadence doit être positive : " + cadence);
+        }
+        if (maxCatchUp < 1) {
+            throw new IllegalArgumentException("app.turn.scheduler.max-catch-up doit être >= 1 : " + maxCatchUp);
+        }
+        this.turnService = turnService;
+        this.cadence = cadence;
+        this.maxCatchUp = maxCatchUp;
+        this.advances = Counter.builder("nml.turn.scheduler.advances")
+                .description("Fins de tour déclenchées par le scheduler")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("nml.turn.scheduler.skipped")
+                .description("Échéances de fin de tour abandonnées au-delà du rattrapage")
+                .register(meterRegistry);
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.turn.scheduler.poll-interval:PT1M}")
+    public void tick() {
+        tick(clock.instant());
+    }
+
+    /**
+     * Termine les tours dus à {@code now}, dans la limite du rattrapage.
+     *
+     * @return le nombre de tours terminés
+     */
+    int tick(Instant now) {
+        int advanced = 0;
+        try {
+            while (advanced < maxCatchUp && turnService.advanceIfDue(now, cadence).isPresent()) {
+                advanced++;
+                advances.increment();
+            }
+            if (advanced == maxCatchUp) {
+                int missed = turnService.skipMissedTurns(now, cadence);
+                if (missed > 0) {
+                    skipped.increment(missed);
+                    logger.warn("{} échéance(s) de fin de tour abandonnée(s) au-delà du rattrapage ({} tours)",
+                            missed, maxCatchUp);
+                }
+            }
+        } catch (IllegalStateException e) {
+            // Fin de tour manuelle en cours, ou aucun plateau : on réessaiera au prochain passage
+            logger.warn("Fin de tour planifiée reportée : {}", e.getMessage());
+        }
+        if (advanced > 0) {
+            logger.info("Scheduler : {} tour(s) terminé(s)", advanced);
+        }
+        return advanced;
+    }
+}
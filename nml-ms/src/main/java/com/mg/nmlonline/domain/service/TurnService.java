@@ -1,44 +1,78 @@
 package com.mg.nmlonline.domain.service;
 
+import com.mg.nmlonline.domain.model.battle.SectorBattleReport;
 import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.TurnResolvedEvent;
+import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * Source unique de vérité du tour courant du plateau.
  *
  * <p>Le tour est stocké sur {@link Board#getCurrentTurn()} et n'est muté que par
- * {@link #advanceTurn()} (bouton admin « Finir le tour »), qui résout d'abord les
- * ordres de déplacement PENDING du tour via {@link MovementService#resolveAllMovements}
- * puis incrémente le compteur.
+ * {@link #advanceTurn()} (bouton admin « Finir le tour ») et {@link #advanceIfDue} (fins de
+ * tour planifiées, {@link TurnScheduler}), qui exécutent les étapes de fin de tour
+ * ({@link TurnPipeline} : déplacements, batailles, revenus, vampirisation, bâtiments,
+ * statistiques) sur le plateau et les joueurs chargés une seule fois, puis incrémentent le
+ * compteur et sauvegardent le tout dans une seule transaction.
  *
- * <p>ponytail: ceiling = déclenchement manuel par l'admin ; upgrade path = scheduler
- * automatique end-of-turn + calcul des revenus/effets de bâtiments à l'advanceTurn.
+ * <p>Chaque fin de tour prend d'abord un verrou pessimiste sur la ligne du plateau (bail),
+ * tenu jusqu'au commit : deux instances derrière un load balancer ne résolvent jamais le même
+ * tour. La durée de tenue du bail est mesurée ({@code nml.turn.lease}, tag {@code trigger}).
+ *
+ * <p>Chaque fin de tour publie un {@link TurnResolvedEvent} : après le commit, l'instantané des
+ * plateaux servi aux joueurs ({@link BoardSnapshotService}) est republié ; jusque-là, ils voient
+ * le tour précédent.
  */
 @Service
 @Transactional
 public class TurnService {
 
     private final BoardRepository boardRepository;
-    private final MovementService movementService;
+    private final PlayerRepository playerRepository;
+    private final TurnPipeline turnPipeline;
+    private final ApplicationEventPublisher events;
+    private final Timer adminLease;
+    private final Timer schedulerLease;
 
     /**
-     * Verrou anti double-clic (bouton admin « Finir le tour ») : un seul
-     * advanceTurn peut tourner à la fois dans cette JVM.
-     *
-     * <p>ponytail: ceiling = JVM unique, guard in-process ; le verrou est relâché
-     * dans {@code finally} avant le commit transactionnel, donc une fenêtre
-     * (infime) reste ouverte entre deux threads en rafale. Upgrade path = lock
-     * pessimiste JPA sur {@link Board} ou DistributedLock si multi-instance.
+     * Garde anti double-clic (bouton admin « Finir le tour ») : un second appel concurrent
+     * dans cette JVM est rejeté tout de suite au lieu d'attendre le verrou du plateau puis de
+     * résoudre un tour de plus. Entre instances, c'est le verrou pessimiste qui sérialise.
      */
     private final AtomicBoolean advancing = new AtomicBoolean(false);
 
-    public TurnService(BoardRepository boardRepository, MovementService movementService) {
+    public TurnService(BoardRepository boardRepository, PlayerRepository playerRepository,
+                       TurnPipeline turnPipeline, ApplicationEventPublisher events,
+                       MeterRegistry meterRegistry) {
         this.boardRepository = boardRepository;
-        this.movementService = movementService;
+        this.playerRepository = playerRepository;
+        this.turnPipeline = turnPipeline;
+        this.events = events;
+        this.adminLease = leaseTimer(meterRegistry, "admin");
+        this.schedulerLease = leaseTimer(meterRegistry, "scheduler");
+    }
+
+    /**
+     * Résultat d'une fin de tour : nouveau tour et batailles livrées, par secteur.
+     */
+    public record TurnResult(int currentTurn, List<SectorBattleReport> battles) {
     }
 
     /**
@@ -55,31 +89,119 @@ public class TurnService {
     }
 
     /**
-     * Termine le tour courant : résout les ordres de déplacement PENDING, puis
-     * incrémente le compteur. Retourne le nouveau numéro de tour.
-     *
-     * <p>Aucun effet de revenus/bâtiments pour l'instant (voir ponytail sur le champ
-     * {@code Board.currentTurn}).
+     * Termine le tour courant (voir {@link #endTurn()}) et retourne le nouveau numéro de tour.
      */
     public int advanceTurn() {
+        return endTurn().currentTurn();
+    }
+
+    /**
+     * Termine le tour courant : exécute les étapes de fin de tour ({@link TurnPipeline}) sur
+     * le tour qui se termine, puis incrémente le compteur. Le plateau et les joueurs ne sont
+     * sauvegardés qu'une fois, après la dernière étape.
+     *
+     * @return le nouveau tour et le compte-rendu des batailles par secteur
+     */
+    public TurnResult endTurn() {
+        return endTurn(TurnProgressListener.NONE);
+    }
+
+    /** Comme {@link #endTurn()}, en signalant l'avancement des étapes à {@code listener}. */
+    public TurnResult endTurn(TurnProgressListener listener) {
+        return guarded(() -> resolveTurn(lockBoard(adminLease), listener));
+    }
+
+    /**
+     * Fin de tour planifiée : termine le tour si son échéance ({@link Board#getNextTurnAt()})
+     * est atteinte à {@code now}, puis repousse l'échéance d'une cadence. Une échéance absente
+     * est fixée à {@code now + cadence} sans terminer de tour.
+     *
+     * <p>L'échéance est lue et avancée sous le verrou du plateau : une instance qui attendait
+     * le verrou voit l'échéance déjà repoussée et ne fait rien.
+     *
+     * @return le résultat de la fin de tour, vide si aucune n'était due
+     */
+    public Optional<TurnResult> advanceIfDue(Instant now, Duration cadence) {
+        Board board = lockBoard(schedulerLease);
+        Instant due = board.getNextTurnAt();
+        if (due == null) {
+            board.setNextTurnAt(now.plus(cadence));
+            return Optional.empty();
+        }
+        if (now.isBefore(due)) {
+            return Optional.empty();
+        }
+        TurnResult result = guarded(() -> resolveTurn(board, TurnProgressListener.NONE));
+        board.setNextTurnAt(due.plus(cadence));
+        return Optional.of(result);
+    }
+
+    /**
+     * Abandonne les échéances déjà passées à {@code now} sans terminer de tour : la prochaine
+     * échéance devient la première à venir, dans la même cadence.
+     *
+     * @return le nombre d'échéances abandonnées
+     */
+    public int skipMissedTurns(Instant now, Duration cadence) {
+        Board board = lockBoard(schedulerLease);
+        Instant due = board.getNextTurnAt();
+        if (due == null || now.isBefore(due)) {
+            return 0;
+        }
+        long missed = Duration.between(due, now).dividedBy(cadence) + 1;
+        board.setNextTurnAt(due.plus(cadence.multipliedBy(missed)));
+        return (int) missed;
+    }
+
+    private <T> T guarded(Supplier<T> turn) {
         if (!advancing.compareAndSet(false, true)) {
             throw new IllegalStateException("Un advanceTurn est déjà en cours");
         }
         try {
-            Board board = boardRepository.findAll().stream()
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("Aucun plateau trouvé pour avancer le tour"));
-
-            int turnEnding = board.getCurrentTurn();
-
-            // Résolution des mouvements du tour qui se termine, AVANT l'incrément.
-            movementService.resolveAllMovements(turnEnding, board);
-
-            board.setCurrentTurn(turnEnding + 1);
-            board = boardRepository.save(board);
-            return board.getCurrentTurn();
+            return turn.get();
         } finally {
             advancing.set(false);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Charge le plateau sous verrou pessimiste ; la tenue du verrou (jusqu'à la fin de la
+     * transaction) est enregistrée dans {@code lease}.
+     */
+    private Board lockBoard(Timer lease) {
+        Board board = boardRepository.findFirstByOrderByIdAsc()
+                .orElseThrow(() -> new IllegalStateException("Aucun plateau trouvé pour avancer le tour"));
+        long acquired = System.nanoTime();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lease.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+        return board;
+    }
+
+    private TurnResult resolveTurn(Board board, TurnProgressListener listener) {
+        int turnEnding = board.getCurrentTurn();
+        List<Player> players = playerRepository.findAll();
+
+        // Toutes les étapes portent sur le tour qui se termine, AVANT l'incrément.
+        TurnContext context = new TurnContext(board, turnEnding, players);
+        turnPipeline.run(context, listener);
+
+        board.setCurrentTurn(turnEnding + 1);
+        board = boardRepository.save(board);
+        playerRepository.saveAll(players);
+        events.publishEvent(new TurnResolvedEvent(board.getId(), board.getCurrentTurn()));
+        return new TurnResult(board.getCurrentTurn(), context.getBattles());
+    }
+
+    private static Timer leaseTimer(MeterRegistry meterRegistry, String trigger) {
+        return Timer.builder("nml.turn.lease")
+                .description("Tenue du verrou du plateau par une fin de tour")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+}
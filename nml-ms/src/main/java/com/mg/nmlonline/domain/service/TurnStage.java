@@ -0,0 +1,29 @@
+package com.mg.nmlonline.domain.service;
+
+import java.util.Set;
+
+/**
+ * Une étape de fin de tour, exécutée par {@link TurnPipeline} dans l'ordre croissant de
+ * {@link #order()} sur un {@link TurnContext} partagé. L'étape déclare ce qu'elle lit et ce
+ * qu'elle produit ; elle ne sauvegarde rien, le commit est unique en fin de tour
+ * ({@link TurnService#endTurn()}).
+ */
+public interface TurnStage {
+
+    /** Nom de l'étape (tag {@code stage} des métriques). */
+    String name();
+
+    /** Rang de l'étape dans le pipeline. */
+    int order();
+
+    Set<TurnArtifact> requires();
+
+    Set<TurnArtifact> produces();
+
+    /**
+     * Exécute l'étape.
+     *
+     * @return le nombre d'entités traitées (ordres, secteurs, joueurs, bâtiments…)
+     */
+    int run(TurnContext context);
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Service de gestion des unités par un joueur authentifié :
@@ -70,7 +71,7 @@ public class UnitService {
                             + "\" (classe incompatible ou catégorie pleine).");
         }
 
-        unit.addEquipment(stack.getEquipment());
+        updateUnitStats(unit, () -> unit.addEquipment(stack.getEquipment()));
         player.decrementEquipmentAvailability(stack.getEquipment());
         playerService.save(player);
         boardService.save(board);
@@ -98,7 +99,7 @@ public class UnitService {
                     "Aucun équipement \"" + equipmentName + "\" dans l'inventaire du joueur.");
         }
 
-        boolean removed = unit.removeEquipment(stack.getEquipment());
+        boolean removed = updateUnitStats(unit, () -> unit.removeEquipment(stack.getEquipment()));
         if (!removed) {
             throw new IllegalArgumentException(
                     "L'unité #" + unit.getId() + " ne porte pas l'équipement \"" + equipmentName + "\".");
@@ -168,4 +169,10 @@ public class UnitService {
             throw new SecurityException("Cette unité n'appartient pas au joueur authentifié.");
         }
     }
+
+    /** Change les statistiques d'une unité en tenant à jour les totaux de son secteur. */
+    private static <T> T updateUnitStats(Unit unit, Supplier<T> change) {
+        Sector sector = unit.getSector();
+        return sector != null ? sector.updateEntityStats(unit, change) : change.get();
+    }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.mg.nmlonline.infrastructure.repository;
 
 import com.mg.nmlonline.domain.model.board.Board;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +11,11 @@ import java.util.Optional;
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
     Optional<Board> findByName(String name);
+
+    /**
+     * Premier plateau, verrouillé en écriture jusqu'à la fin de la transaction
+     * ({@code SELECT … FOR UPDATE}) : bail des fins de tour entre instances.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Board> findFirstByOrderByIdAsc();
 }
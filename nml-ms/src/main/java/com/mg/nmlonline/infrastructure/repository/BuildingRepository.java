@@ -39,5 +39,16 @@ public interface BuildingRepository extends JpaRepository<Building, Long> {
      * Ex: findByPlayerIdAndBuildingTypeAndIsDestroyedFalse(playerId, BuildingType.WEAPON_CACHE)
      */
     List<Building> findByPlayerIdAndBuildingTypeAndIsDestroyedFalse(Long playerId, BuildingType buildingType);
+
+    /**
+     * Trouve tous les bâtiments capturés d'un type donné, tous joueurs confondus.
+     * Ex: findByBuildingTypeAndCapturedByPlayerIdIsNotNull(BuildingType.BANK) pour la vampirisation
+     */
+    List<Building> findByBuildingTypeAndCapturedByPlayerIdIsNotNull(BuildingType buildingType);
+
+    /**
+     * Trouve tous les bâtiments non détruits d'un type donné, tous joueurs confondus.
+     */
+    List<Building> findByBuildingTypeAndIsDestroyedFalse(BuildingType buildingType);
 }
 
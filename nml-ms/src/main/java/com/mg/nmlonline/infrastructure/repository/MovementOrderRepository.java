@@ -3,6 +3,8 @@ package com.mg.nmlonline.infrastructure.repository;
 import com.mg.nmlonline.domain.model.movement.MovementOrder;
 import com.mg.nmlonline.domain.model.movement.MovementStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,12 +26,33 @@ public interface MovementOrderRepository extends JpaRepository<MovementOrder, Lo
     List<MovementOrder> findByTurn(int turn);
 
     /**
-     * Tous les ordres PENDING d'un tour.
+     * Tous les ordres PENDING d'un tour, routes et entités chargées : deux requêtes au total
+     * quel que soit le nombre d'ordres (la résolution lit la route de chaque ordre à chaque step).
+     * Deux requêtes plutôt qu'une pour ne pas multiplier les lignes route × entités.
      */
     default List<MovementOrder> findPendingByTurn(int turn) {
-        return findByTurnAndStatus(turn, MovementStatus.PENDING);
+        List<MovementOrder> orders = findWithRouteByTurnAndStatus(turn, MovementStatus.PENDING);
+        if (!orders.isEmpty()) {
+            fetchEntityIds(turn, MovementStatus.PENDING);
+        }
+        return orders;
     }
 
+    /**
+     * Ordres d'un tour et d'un statut avec leur route (fetch join), triés par id.
+     */
+    @Query("SELECT DISTINCT o FROM MovementOrder o LEFT JOIN FETCH o.route "
+            + "WHERE o.turn = :turn AND o.status = :status ORDER BY o.id")
+    List<MovementOrder> findWithRouteByTurnAndStatus(@Param("turn") int turn, @Param("status") MovementStatus status);
+
+    /**
+     * Initialise les entityIds des ordres d'un tour et d'un statut (déjà gérés, même prédicat que
+     * {@link #findWithRouteByTurnAndStatus}) en une requête, sans un paramètre lié par ordre.
+     */
+    @Query("SELECT DISTINCT o FROM MovementOrder o LEFT JOIN FETCH o.entityIds "
+            + "WHERE o.turn = :turn AND o.status = :status")
+    List<MovementOrder> fetchEntityIds(@Param("turn") int turn, @Param("status") MovementStatus status);
+
     /**
      * Tous les ordres d'un joueur pour un tour donné.
      */
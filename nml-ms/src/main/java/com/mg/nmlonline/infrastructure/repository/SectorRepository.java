@@ -2,6 +2,7 @@ package com.mg.nmlonline.infrastructure.repository;
 
 import com.mg.nmlonline.domain.model.sector.Sector;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +19,10 @@ public interface SectorRepository extends JpaRepository<Sector, Sector.SectorId>
      * Trouve un secteur par son board et son numéro
      */
     Optional<Sector> findByBoard_IdAndNumber(Long boardId, int number);
+
+    /**
+     * Nombre de secteurs possédés par joueur : lignes {@code [ownerId, count]}.
+     */
+    @Query("SELECT s.ownerId, COUNT(s) FROM Sector s WHERE s.ownerId IS NOT NULL GROUP BY s.ownerId")
+    List<Object[]> countSectorsByOwner();
 }
@@ -1,8 +1,11 @@
 package com.mg.nmlonline.infrastructure.repository;
 
+import com.mg.nmlonline.domain.model.movement.MovementStatus;
 import com.mg.nmlonline.domain.model.vehicle.Vehicle;
 import com.mg.nmlonline.domain.model.vehicle.VehicleType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -27,4 +30,14 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
      * Tous les véhicules non détruits d'un joueur.
      */
     List<Vehicle> findByPlayerIdAndIsDestroyedFalse(Long playerId);
+
+    /**
+     * Véhicules des ordres de déplacement d'un tour et d'un statut, pilote et passagers chargés
+     * en une seule requête (préchargement de la résolution des mouvements, évite un findById +
+     * lazy-loads par ordre). Sélection par sous-requête sur les ordres : pas un paramètre lié
+     * par véhicule.
+     */
+    @Query("SELECT DISTINCT v FROM Vehicle v LEFT JOIN FETCH v.pilot LEFT JOIN FETCH v.passengers "
+            + "WHERE v.id IN (SELECT o.vehicleId FROM MovementOrder o WHERE o.turn = :turn AND o.status = :status)")
+    List<Vehicle> findAllWithCrewByOrderTurnAndStatus(@Param("turn") int turn, @Param("status") MovementStatus status);
 }
@@ -0,0 +1,84 @@
+package com.mg.nmlonline.mapper;
+
+import com.mg.nmlonline.api.dto.BattleReportDto;
+import com.mg.nmlonline.api.dto.SectorBattleReportDto;
+import com.mg.nmlonline.api.dto.TurnJobDto;
+import com.mg.nmlonline.api.dto.TurnJobStageDto;
+import com.mg.nmlonline.api.dto.TurnReportDto;
+import com.mg.nmlonline.domain.model.battle.BattleReport;
+import com.mg.nmlonline.domain.model.battle.SectorBattleReport;
+import com.mg.nmlonline.domain.service.TurnJobService;
+import com.mg.nmlonline.domain.service.TurnService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper des comptes-rendus de batailles de fin de tour (et du suivi des fins de tour
+ * asynchrones) vers les DTO admin.
+ */
+@Component
+public class BattleMapper {
+
+    public TurnReportDto toTurnReportDto(TurnService.TurnResult result) {
+        TurnReportDto dto = new TurnReportDto();
+        dto.setCurrentTurn(result.currentTurn());
+        List<SectorBattleReportDto> sectors = new ArrayList<>(result.battles().size());
+        for (SectorBattleReport report : result.battles()) {
+            sectors.add(toDto(report));
+        }
+        dto.setBattles(sectors);
+        return dto;
+    }
+
+    public TurnJobDto toTurnJobDto(TurnJobService.TurnJob job) {
+        TurnJobDto dto = new TurnJobDto();
+        dto.setId(job.id());
+        dto.setStatus(job.status().name());
+        dto.setCurrentStage(job.currentStage());
+        dto.setPercent(job.percent());
+        for (TurnJobService.StageProgress stage : job.completedStages()) {
+            TurnJobStageDto stageDto = new TurnJobStageDto();
+            stageDto.setStage(stage.stage());
+            stageDto.setEntities(stage.entities());
+            stageDto.setDurationMs(stage.durationMs());
+            dto.getCompletedStages().add(stageDto);
+        }
+        if (job.result() != null) {
+            dto.setResult(toTurnReportDto(job.result()));
+        }
+        dto.setError(job.error());
+        dto.setSubmittedAt(job.submittedAt());
+        dto.setStartedAt(job.startedAt());
+        dto.setFinishedAt(job.finishedAt());
+        return dto;
+    }
+
+    public SectorBattleReportDto toDto(SectorBattleReport report) {
+        SectorBattleReportDto dto = new SectorBattleReportDto();
+        dto.setSectorNumber(report.sectorNumber());
+        dto.setPreviousOwnerId(report.previousOwnerId());
+        dto.setOwnerId(report.ownerId());
+        dto.setOwnerChanged(report.isOwnerChanged());
+        List<BattleReportDto> battles = new ArrayList<>(report.battles().size());
+        for (BattleReport battle : report.battles()) {
+            battles.add(toDto(battle));
+        }
+        dto.setBattles(battles);
+        return dto;
+    }
+
+    private BattleReportDto toDto(BattleReport battle) {
+        BattleReportDto dto = new BattleReportDto();
+        dto.setBattleId(battle.battleId());
+        dto.setAttackerPlayerId(battle.attackerPlayerId());
+        dto.setDefenderPlayerId(battle.defenderPlayerId());
+        dto.setOutcome(battle.outcome().name());
+        dto.setAttackersBefore(battle.attackersBefore());
+        dto.setAttackersAfter(battle.attackersAfter());
+        dto.setDefendersBefore(battle.defendersBefore());
+        dto.setDefendersAfter(battle.defendersAfter());
+        return dto;
+    }
+}
@@ -109,6 +109,19 @@ public class PlayerMapper {
         return dto;
     }
 
+    /**
+     * Convertit un joueur avec des secteurs déjà convertis (instantané publié du plateau)
+     */
+    public PlayerDto toDtoWithSectors(Player player, List<SectorDto> sectors) {
+        if (player == null) {
+            return null;
+        }
+
+        PlayerDto dto = toDto(player);
+        dto.setSectors(sectors);
+        return dto;
+    }
+
     private static PlayerStatsDto getPlayerStatsDto(Player player) {
         PlayerStatsDto statsDto = new PlayerStatsDto();
         PlayerStats stats = player.getStats();
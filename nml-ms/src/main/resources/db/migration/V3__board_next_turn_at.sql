@@ -0,0 +1,4 @@
+-- Échéance de la prochaine fin de tour automatique (TurnScheduler).
+-- NULL : pas encore planifiée, le premier passage du scheduler la fixe à maintenant + cadence.
+ALTER TABLE public.boards
+    ADD COLUMN next_turn_at timestamp(6) with time zone;
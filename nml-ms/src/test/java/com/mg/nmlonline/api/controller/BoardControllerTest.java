@@ -0,0 +1,166 @@
+package com.mg.nmlonline.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mg.nmlonline.config.TestDataInitializer;
+import com.mg.nmlonline.domain.service.BoardService;
+import com.mg.nmlonline.domain.service.JwtService;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.infrastructure.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Tests d'intégration de {@code GET /api/boards/{id}} : JSON précalculé de l'instantané, ETag
+ * fort, 304 sur {@code If-None-Match} et variante gzip.
+ *
+ * <p>Données fournies par {@code PlayerStartupImporter} et {@link TestDataInitializer} au
+ * démarrage du profil {@code test}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("BoardController — JSON du plateau en cache, ETag et gzip")
+class BoardControllerTest {
+
+    private static final long TOKEN_TTL_MS = 3_600_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        token = jwtService.generateToken(userRepository.findByUsername(TestDataInitializer.USER_1), TOKEN_TTL_MS);
+        boardId = boardRepository.findAll().getFirst().getId();
+    }
+
+    @Nested
+    @DisplayName("ETag")
+    class EtagTests {
+
+        @Test
+        @DisplayName("Même version : If-None-Match renvoie 304 sans corps")
+        void shouldAnswerNotModifiedForCurrentEtag() throws Exception {
+            MockHttpServletResponse first = getBoard(null, null);
+            assertEquals(200, first.getStatus());
+            String etag = first.getHeader(HttpHeaders.ETAG);
+            assertNotNull(etag);
+            assertFalse(etag.startsWith("W/"), "ETag fort attendu");
+            JsonNode body = objectMapper.readTree(first.getContentAsByteArray());
+            assertEquals(boardId, body.get("id").asLong());
+            assertTrue(etag.matches("\"" + boardId + "-[0-9a-f]{32}\""), "ETag dérivé du contenu : " + etag);
+
+            MockHttpServletResponse second = getBoard(etag, null);
+
+            assertEquals(304, second.getStatus());
+            assertEquals(0, second.getContentAsByteArray().length);
+            assertEquals(etag, second.getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("Plateau modifié : l'ancien ETag obtient le nouveau JSON")
+        void shouldServeNewVersionAfterChange() throws Exception {
+            MockHttpServletResponse first = getBoard(null, null);
+            String etag = first.getHeader(HttpHeaders.ETAG);
+            JsonNode sectorNode = objectMapper.readTree(first.getContentAsByteArray()).get("sectors").elements().next();
+            int sector = sectorNode.get("number").asInt();
+            Long owner = sectorNode.get("ownerId").isNull() ? null : sectorNode.get("ownerId").asLong();
+            String color = sectorNode.get("color").asText();
+
+            try {
+                assertTrue(boardService.assignOwnerToSector(boardId, sector, owner, "#654321"));
+
+                MockHttpServletResponse changed = getBoard(etag, null);
+
+                assertEquals(200, changed.getStatus());
+                assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+                JsonNode body = objectMapper.readTree(changed.getContentAsByteArray());
+                assertEquals("#654321", body.get("sectors").get(String.valueOf(sector)).get("color").asText());
+            } finally {
+                boardService.assignOwnerToSector(boardId, sector, owner, color);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression")
+    class GzipTests {
+
+        @Test
+        @DisplayName("Accept-Encoding gzip : octets précompressés, même JSON, ETag distinct")
+        void shouldServePrecompressedJson() throws Exception {
+            MockHttpServletResponse identity = getBoard(null, null);
+            MockHttpServletResponse gzip = getBoard(null, "gzip, deflate, br");
+
+            assertEquals(200, gzip.getStatus());
+            assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertTrue(gzip.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+            assertNotEquals(identity.getHeader(HttpHeaders.ETAG), gzip.getHeader(HttpHeaders.ETAG));
+            assertArrayEquals(identity.getContentAsByteArray(), gunzip(gzip.getContentAsByteArray()));
+            assertEquals(304, getBoard(gzip.getHeader(HttpHeaders.ETAG), "gzip").getStatus());
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding : gzip nommé, joker, ou refusé par q=0")
+        void shouldParseAcceptEncoding() {
+            assertTrue(BoardController.acceptsGzip("gzip"));
+            assertTrue(BoardController.acceptsGzip("deflate, GZIP;q=0.8"));
+            assertTrue(BoardController.acceptsGzip("br, *"));
+            assertFalse(BoardController.acceptsGzip(null));
+            assertFalse(BoardController.acceptsGzip("br, deflate"));
+            assertFalse(BoardController.acceptsGzip("gzip;q=0, *"));
+            assertFalse(BoardController.acceptsGzip("*;q=0.000"));
+        }
+    }
+
+    private MockHttpServletResponse getBoard(String ifNoneMatch, String acceptEncoding) throws Exception {
+        var request = get("/api/boards/" + boardId).header("Authorization", "Bearer " + token);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mg.nmlonline.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Mini-harnais de micro-benchmark pour les classes {@code *Benchmark} du module.
+ *
+ * <p>Les benchmarks sont des classes JUnit dont le nom ne matche pas les patterns
+ * Surefire par défaut : ils ne tournent pas avec {@code ./mvnw test} et se lancent
+ * explicitement, par exemple {@code ./mvnw test -Dtest=BoardSectorLookupBenchmark}.
+ *
+ * <p>ponytail: ceiling = pas de fork JVM ni de contrôle fin du JIT comme JMH ; on fait
+ * un warmup puis la médiane de plusieurs mesures, suffisant pour comparer deux
+ * implémentations d'un ordre de grandeur. Upgrade path = dépendance JMH en scope test
+ * si on a besoin de chiffres publiables.
+ */
+public final class MicroBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 7;
+
+    /** Puits anti dead-code : le JIT ne peut pas éliminer le résultat des opérations mesurées. */
+    private static volatile long sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Mesure le coût moyen d'une opération (en nanosecondes) et l'affiche.
+     *
+     * @param label      libellé affiché
+     * @param operations nombre d'opérations effectuées par un appel de {@code round}
+     * @param round      exécute {@code operations} opérations et retourne une valeur à consommer
+     * @return la médiane du coût par opération, en nanosecondes
+     */
+    public static double measure(String label, long operations, LongSupplier round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += round.getAsLong();
+        }
+        double[] samples = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += round.getAsLong();
+            samples[i] = (double) (System.nanoTime() - start) / operations;
+        }
+        return report(label, samples);
+    }
+
+    /**
+     * Variante pour les opérations qui consomment leur état (ex : résolution d'un tour) :
+     * {@code setup} reconstruit un état neuf avant chaque round, hors chronométrage.
+     */
+    public static <T> double measureFresh(String label, long operations, Supplier<T> setup, ToLongFunction<T> round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += round.applyAsLong(setup.get());
+        }
+        double[] samples = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            T state = setup.get();
+            long start = System.nanoTime();
+            sink += round.applyAsLong(state);
+            samples[i] = (double) (System.nanoTime() - start) / operations;
+        }
+        return report(label, samples);
+    }
+
+    private static double report(String label, double[] samples) {
+        Arrays.sort(samples);
+        double median = samples[MEASURED_ROUNDS / 2];
+        System.out.println(String.format(Locale.ROOT, "[bench] %-60s %12.1f ns/op", label, median));
+        return median;
+    }
+}
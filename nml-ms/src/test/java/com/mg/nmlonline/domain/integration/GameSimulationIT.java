@@ -5,6 +5,7 @@ import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.domain.model.sector.Sector;
 import com.mg.nmlonline.domain.model.unit.Unit;
 import com.mg.nmlonline.domain.model.unit.UnitClass;
+import com.mg.nmlonline.domain.service.BattleTraceService;
 import com.mg.nmlonline.domain.service.CombatService;
 import com.mg.nmlonline.domain.service.PlayerStatsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +41,7 @@ class GameSimulationIT {
         combatService = new CombatService();
         // CombatService utilise l'injection par champ @Autowired : on la simule ici
         ReflectionTestUtils.setField(combatService, "playerStatsService", playerStatsService);
+        ReflectionTestUtils.setField(combatService, "battleTraceService", new BattleTraceService(10));
 
         player1 = new Player("Général Suprême");
         player1.setId(1L);
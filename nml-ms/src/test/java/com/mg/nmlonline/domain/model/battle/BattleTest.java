@@ -11,8 +11,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,8 +22,8 @@ import static org.junit.jupiter.api.Assertions.*;
  *
  * Le RNG n'intervient que pour l'esquive : les scénarios utilisent soit
  * évasion = 0 (jamais d'esquive), soit évasion = 100 (esquive garantie,
- * rand() ∈ [1,100] est toujours <= 100). Un Random seedé est injecté
- * par sécurité via le setter Lombok.
+ * rand() ∈ [1,100] est toujours <= 100). Un CombatRandom à graine fixe
+ * est injecté par sécurité.
  */
 @DisplayName("Battle — Moteur de combat")
 class BattleTest {
@@ -32,8 +32,7 @@ class BattleTest {
 
     @BeforeEach
     void setUp() {
-        battle = new Battle();
-        battle.setRandom(new Random(42));
+        battle = new Battle(CombatRandom.seeded(42));
     }
 
     private Unit larbin() {
@@ -178,6 +177,17 @@ class BattleTest {
             assertEquals(1, result.casualties().size());
             assertEquals(50.0, result.remainingPoints()); // 100 - 50
         }
+
+        @Test
+        @DisplayName("Type de points inconnu : IllegalArgumentException, défenseurs intacts")
+        void shouldRejectUnknownDamageType() {
+            Unit unit = new Unit(5, UnitClass.MASTODONTE);
+            List<Unit> defenders = new ArrayList<>(List.of(unit));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> battle.classicPhaseConfiguration(defenders, 100, "LASER"));
+            assertEquals(List.of(unit), defenders);
+        }
     }
 
     @Nested
@@ -281,4 +291,119 @@ class BattleTest {
             assertNull(battle.getWinner());
         }
     }
+
+    @Nested
+    @DisplayName("Aléa reproductible (CombatRandom)")
+    class RandomTests {
+
+        private int[] rolls(CombatRandom random, int count) {
+            int[] rolls = new int[count];
+            for (int i = 0; i < count; i++) {
+                rolls[i] = random.roll100();
+            }
+            return rolls;
+        }
+
+        private String phaseOutcome(CombatRandom random) {
+            List<Unit> defenders = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Unit unit = brute();
+                unit.addEquipment(defensive(0, 50));
+                defenders.add(unit);
+            }
+            PhaseResult result = new Battle(random).classicPhaseConfiguration(defenders, 1_000, "ATK");
+            return result.casualties().size() + "/" + result.remainingPoints() + "/"
+                    + defenders.stream().map(u -> String.valueOf(u.getDefense())).toList();
+        }
+
+        @Test
+        @DisplayName("Jets compris entre 1 et 100")
+        void shouldRollWithinBounds() {
+            for (int roll : rolls(CombatRandom.seeded(7), 10_000)) {
+                assertTrue(roll >= 1 && roll <= 100);
+            }
+        }
+
+        @Test
+        @DisplayName("Même plateau, tour et secteur : mêmes jets ; autre secteur : autres jets")
+        void shouldDeriveStreamFromBattleCoordinates() {
+            assertArrayEquals(rolls(CombatRandom.forBattle(1L, 3, 7), 32),
+                    rolls(CombatRandom.forBattle(1L, 3, 7), 32));
+            assertFalse(Arrays.equals(rolls(CombatRandom.forBattle(1L, 3, 7), 32),
+                    rolls(CombatRandom.forBattle(1L, 3, 8), 32)));
+            assertFalse(Arrays.equals(rolls(CombatRandom.forBattle(1L, 3, 7), 32),
+                    rolls(CombatRandom.forBattle(1L, 4, 7), 32)));
+        }
+
+        @Test
+        @DisplayName("Une phase avec esquives se rejoue à l'identique")
+        void shouldReplayPhaseWithEvasion() {
+            assertEquals(phaseOutcome(CombatRandom.forBattle(1L, 3, 7)),
+                    phaseOutcome(CombatRandom.forBattle(1L, 3, 7)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Trace structurée (CombatTrace)")
+    class TraceTests {
+
+        @Test
+        @DisplayName("Une phase enregistre la salve, les destructions et le dernier coup")
+        void shouldRecordVolleyKillsAndHit() {
+            Unit first = larbin();
+            first.setId(1L);
+            Unit last = larbin();
+            last.setId(2L);
+            List<Unit> defenders = new ArrayList<>(List.of(first, last));
+
+            battle.classicPhaseConfiguration(defenders, 15, "ATK");
+
+            CombatTrace trace = battle.getTrace();
+            assertEquals(3, trace.size());
+            assertEquals(CombatTrace.Event.VOLLEY, trace.event(0));
+            assertEquals(15.0, trace.amount(0));
+            assertEquals(CombatTrace.Event.KILL, trace.event(1));
+            assertEquals(2L, trace.targetId(1));
+            assertEquals(10.0, trace.amount(1));
+            assertEquals(CombatTrace.Event.HIT, trace.event(2));
+            assertEquals(1L, trace.targetId(2));
+            assertEquals(5.0, trace.amount(2));
+            assertEquals(CombatTrace.Camp.DEFENDERS, trace.camp(2));
+            assertEquals(DamageType.ATK, trace.phase(2));
+        }
+
+        @Test
+        @DisplayName("Une esquive est enregistrée avec les points perdus")
+        void shouldRecordEvasion() {
+            Unit dodger = brute();
+            dodger.addEquipment(defensive(0, 100));
+            List<Unit> defenders = new ArrayList<>(List.of(dodger));
+
+            battle.classicPhaseConfiguration(defenders, 150, "ATK");
+
+            CombatTrace trace = battle.getTrace();
+            assertEquals(CombatTrace.Event.EVADE, trace.event(1));
+            assertNull(trace.targetId(1));
+            assertEquals(2, trace.count(CombatTrace.Event.EVADE));
+        }
+
+        @Test
+        @DisplayName("Combat complet : bilan de fin et rendu texte à la demande")
+        void shouldRenderFullCombat() {
+            Player attacker = new Player("Attaquant");
+            Player defender = new Player("Défenseur");
+            List<Unit> attackers = new ArrayList<>(List.of(brute()));
+            List<Unit> defenders = new ArrayList<>(List.of(larbin()));
+            defenders.getFirst().setId(9L);
+
+            battle.classicCombatConfiguration(attacker, defender, attackers, defenders);
+
+            CombatTrace trace = battle.getTrace();
+            assertEquals(CombatKernel.Outcome.ATK, trace.getOutcome());
+            String text = trace.render();
+            assertTrue(text.startsWith("Début : 1 attaquant(s), 1 défenseur(s)"), text);
+            assertTrue(text.contains("unité #9 détruite"), text);
+            assertTrue(text.contains("Fin après la phase ATK : 1 attaquant(s), 0 défenseur(s) restants"), text);
+        }
+    }
 }
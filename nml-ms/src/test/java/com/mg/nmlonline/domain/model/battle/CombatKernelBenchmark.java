@@ -0,0 +1,102 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.equipment.Equipment;
+import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark d'un combat classique de 10 000 unités contre 10 000 : {@link CombatKernel}
+ * (tableaux primitifs, copie et report inclus, avec et sans {@link CombatTrace}) vs implémentation historique sur les entités
+ * ({@link LegacyBattle}). Les journaux de {@link Battle} sont hors mesure des deux côtés.
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=CombatKernelBenchmark}
+ */
+@DisplayName("Benchmark — noyau de combat")
+class CombatKernelBenchmark {
+
+    private static final int UNITS = 10_000;
+    private static final UnitClass[] CLASSES = {
+            UnitClass.TIREUR, UnitClass.MASTODONTE, UnitClass.ELEMENTAIRE, UnitClass.LEGER};
+
+    @Test
+    void compareKernelAndLegacyBattle() {
+        MicroBenchmark.measureFresh("combat CombatKernel (10 000 vs 10 000)", 2L * UNITS,
+                () -> new Armies(3),
+                armies -> {
+                    CombatKernel kernel = new CombatKernel(armies.attackers, armies.defenders, CombatRandom.seeded(5));
+                    kernel.run(armies.attacker.getStats().getTotalPdc(), armies.defender.getStats().getTotalPdc());
+                    kernel.writeBack();
+                    return armies.attackers.size() + armies.defenders.size();
+                });
+        MicroBenchmark.measureFresh("combat CombatKernel tracé (10 000 vs 10 000)", 2L * UNITS,
+                () -> new Armies(3),
+                armies -> {
+                    CombatTrace trace = new CombatTrace();
+                    CombatKernel kernel = new CombatKernel(armies.attackers, armies.defenders, CombatRandom.seeded(5), trace);
+                    kernel.run(armies.attacker.getStats().getTotalPdc(), armies.defender.getStats().getTotalPdc());
+                    kernel.writeBack();
+                    return trace.size();
+                });
+        MicroBenchmark.measureFresh("combat historique (10 000 vs 10 000)", 2L * UNITS,
+                () -> new Armies(3),
+                armies -> {
+                    new LegacyBattle(CombatRandom.seeded(5)).classicCombatConfiguration(
+                            armies.attacker, armies.defender, armies.attackers, armies.defenders);
+                    return armies.attackers.size() + armies.defenders.size();
+                });
+    }
+
+    /** Deux armées de {@link #UNITS} unités tirées d'une même graine. */
+    private static final class Armies {
+        final Player attacker = new Player("Attaquant");
+        final Player defender = new Player("Défenseur");
+        final List<Unit> attackers;
+        final List<Unit> defenders;
+
+        Armies(long seed) {
+            attackers = randomSquad(seed, UNITS, 1);
+            defenders = randomSquad(seed + 1, UNITS, 1 + UNITS);
+        }
+    }
+
+    /**
+     * Escouade aléatoire : expérience, classe et équipements (arme à feu, arme de mêlée,
+     * protection avec évasion) tirés au hasard. Les identifiants commencent à {@code firstId} ;
+     * {@code firstId <= 0} laisse des identifiants nuls.
+     */
+    static List<Unit> randomSquad(long seed, int size, long firstId) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Unit> squad = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UnitClass unitClass = CLASSES[random.nextInt(CLASSES.length)];
+            Unit unit = new Unit(random.nextInt(20), unitClass);
+            if (firstId > 0) {
+                unit.setId(firstId + i);
+            }
+            if (random.nextBoolean()) {
+                unit.addEquipment(new Equipment("Fusil", 10, 20 + random.nextInt(60), 0, 0, 0,
+                        Set.of(unitClass), EquipmentCategory.FIREARM));
+            }
+            if (random.nextBoolean()) {
+                unit.addEquipment(new Equipment("Lame", 10, 0, 20 + random.nextInt(60), 0, 0,
+                        Set.of(unitClass), EquipmentCategory.MELEE));
+            }
+            if (random.nextInt(3) == 0) {
+                unit.addEquipment(new Equipment("Protection", 10, 0, 0, random.nextInt(60), random.nextInt(30),
+                        Set.of(unitClass), EquipmentCategory.DEFENSIVE));
+            }
+            squad.add(unit);
+        }
+        return squad;
+    }
+}
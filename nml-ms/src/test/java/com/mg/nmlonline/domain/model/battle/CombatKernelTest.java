@@ -0,0 +1,124 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Équivalence de {@link CombatKernel} avec l'implémentation historique ({@link LegacyBattle}) :
+ * à graine égale, mêmes survivants, mêmes statistiques au bit près.
+ */
+@DisplayName("CombatKernel — équivalence avec le moteur historique")
+class CombatKernelTest {
+
+    @Test
+    @DisplayName("Combats complets aléatoires : résultat identique au moteur historique")
+    void shouldMatchLegacyFullCombat() {
+        for (long seed = 1; seed <= 200; seed++) {
+            int attackers = 1 + (int) (seed % 40);
+            int defenders = 1 + (int) ((seed * 7) % 40);
+            // Une graine sur quatre sans identifiants (particularité des blessés à id nul)
+            long firstId = seed % 4 == 0 ? 0 : 1;
+
+            Fight expected = new Fight(seed, attackers, defenders, firstId);
+            new LegacyBattle(CombatRandom.seeded(seed)).classicCombatConfiguration(
+                    expected.attacker, expected.defender, expected.attackers, expected.defenders);
+
+            Fight actual = new Fight(seed, attackers, defenders, firstId);
+            new Battle(CombatRandom.seeded(seed)).classicCombatConfiguration(
+                    actual.attacker, actual.defender, actual.attackers, actual.defenders);
+
+            assertEquals(snapshot(expected.allAttackers), snapshot(actual.allAttackers), "attaquants, graine " + seed);
+            assertEquals(snapshot(expected.allDefenders), snapshot(actual.allDefenders), "défenseurs, graine " + seed);
+            assertEquals(expected.attackers.size(), actual.attackers.size(), "survivants attaquants, graine " + seed);
+            assertEquals(expected.defenders.size(), actual.defenders.size(), "survivants défenseurs, graine " + seed);
+        }
+    }
+
+    @Test
+    @DisplayName("Phase isolée : mêmes pertes, même reliquat")
+    void shouldMatchLegacyPhase() {
+        for (long seed = 1; seed <= 200; seed++) {
+            DamageType type = DamageType.values()[(int) (seed % 3)];
+            double points = 50 + seed * 37 % 2_000;
+
+            List<Unit> expectedUnits = CombatKernelBenchmark.randomSquad(seed, 30, 1);
+            PhaseResult expected = new LegacyBattle(CombatRandom.seeded(seed))
+                    .classicPhaseConfiguration(expectedUnits, points, type.name());
+
+            List<Unit> actualUnits = CombatKernelBenchmark.randomSquad(seed, 30, 1);
+            PhaseResult actual = new Battle(CombatRandom.seeded(seed))
+                    .classicPhaseConfiguration(actualUnits, points, type.name());
+
+            assertEquals(expected.remainingPoints(), actual.remainingPoints(), "graine " + seed);
+            assertEquals(ids(expected.casualties()), ids(actual.casualties()), "graine " + seed);
+            assertEquals(snapshot(expectedUnits), snapshot(actualUnits), "graine " + seed);
+        }
+    }
+
+    @Test
+    @DisplayName("Noyau de simulation : mêmes survivants que le combat réel, entités intactes")
+    void shouldSimulateWithoutTouchingEntities() {
+        for (long seed = 1; seed <= 100; seed++) {
+            int attackers = 1 + (int) (seed % 40);
+            int defenders = 1 + (int) ((seed * 7) % 40);
+
+            Fight simulated = new Fight(seed, attackers, defenders, 1);
+            List<String> before = snapshot(simulated.allAttackers);
+            CombatKernel.Snapshot frozen = new CombatKernel.Snapshot(simulated.attackers, simulated.defenders);
+            double attackerPdc = simulated.attacker.getStats().getTotalPdc();
+            double defenderPdc = simulated.defender.getStats().getTotalPdc();
+            CombatKernel first = CombatKernel.simulation(frozen, CombatRandom.seeded(seed));
+            first.run(attackerPdc, defenderPdc);
+            CombatKernel second = CombatKernel.simulation(frozen, CombatRandom.seeded(seed));
+            second.run(attackerPdc, defenderPdc);
+
+            Fight real = new Fight(seed, attackers, defenders, 1);
+            CombatKernel kernel = new CombatKernel(real.attackers, real.defenders, CombatRandom.seeded(seed));
+            kernel.run(attackerPdc, defenderPdc);
+
+            assertEquals(kernel.attackerSurvivors(), first.attackerSurvivors(), "graine " + seed);
+            assertEquals(kernel.defenderSurvivors(), first.defenderSurvivors(), "graine " + seed);
+            assertEquals(first.attackerSurvivors(), second.attackerSurvivors(), "graine " + seed);
+            assertEquals(before, snapshot(simulated.allAttackers), "graine " + seed);
+            assertEquals(attackers, simulated.attackers.size(), "graine " + seed);
+            assertThrows(IllegalStateException.class, first::writeBack);
+        }
+    }
+
+    /** Deux camps tirés d'une même graine ; {@code all*} garde toutes les unités, pertes comprises. */
+    private static final class Fight {
+        final Player attacker = new Player("Attaquant");
+        final Player defender = new Player("Défenseur");
+        final List<Unit> attackers;
+        final List<Unit> defenders;
+        final List<Unit> allAttackers;
+        final List<Unit> allDefenders;
+
+        Fight(long seed, int attackerCount, int defenderCount, long firstId) {
+            attacker.getStats().setTotalPdc(seed * 13 % 300);
+            defender.getStats().setTotalPdc(seed * 29 % 300);
+            attackers = CombatKernelBenchmark.randomSquad(seed, attackerCount, firstId);
+            defenders = CombatKernelBenchmark.randomSquad(seed + 10_000, defenderCount, firstId > 0 ? 1_000 : 0);
+            allAttackers = new ArrayList<>(attackers);
+            allDefenders = new ArrayList<>(defenders);
+        }
+    }
+
+    private static List<Long> ids(List<Unit> units) {
+        return units.stream().map(Unit::getId).toList();
+    }
+
+    private static List<String> snapshot(List<Unit> units) {
+        return units.stream()
+                .map(u -> u.getId() + ":" + u.getAttack() + "/" + u.getPdf() + "/" + u.getPdc() + "/"
+                        + u.getDefense() + "/" + u.getArmor() + "/" + u.getEvasion() + "/" + u.isInjured())
+                .toList();
+    }
+}
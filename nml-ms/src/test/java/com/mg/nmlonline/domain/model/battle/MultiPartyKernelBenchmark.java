@@ -0,0 +1,74 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark d'un secteur à 2, 4 et 8 factions (8 000 unités au total) : une seule mêlée
+ * {@link MultiPartyKernel} vs un combat {@link CombatKernel} par paire de factions (un par
+ * {@code DestinationConflict}), les pertes de chaque combat étant reportées sur les suivants.
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=MultiPartyKernelBenchmark}
+ */
+@DisplayName("Benchmark — mêlée à N factions")
+class MultiPartyKernelBenchmark {
+
+    private static final int UNITS = 8_000;
+
+    @Test
+    void compareMeleeAndPairwiseBattles() {
+        // Les deux chemins partagent CombatSide : on les chauffe ensemble avant toute mesure
+        for (int round = 0; round < 5; round++) {
+            for (int factions : new int[]{2, 4, 8}) {
+                melee(squads(factions));
+                pairwise(squads(factions));
+            }
+        }
+        for (int factions : new int[]{2, 4, 8}) {
+            MicroBenchmark.measureFresh("mêlée MultiPartyKernel (" + factions + " factions, 8 000 unités)", UNITS,
+                    () -> squads(factions), MultiPartyKernelBenchmark::melee);
+            MicroBenchmark.measureFresh("combats par paire (" + factions + " factions, "
+                            + factions * (factions - 1) / 2 + " combats)", UNITS,
+                    () -> squads(factions), MultiPartyKernelBenchmark::pairwise);
+        }
+    }
+
+    private static long melee(List<List<Unit>> squads) {
+        MultiPartyKernel melee = new MultiPartyKernel(squads, CombatRandom.seeded(5));
+        melee.run(new double[squads.size()]);
+        melee.writeBack();
+        return survivors(squads);
+    }
+
+    private static long pairwise(List<List<Unit>> squads) {
+        CombatRandom random = CombatRandom.seeded(5);
+        for (int a = 0; a < squads.size(); a++) {
+            for (int d = a + 1; d < squads.size(); d++) {
+                if (squads.get(a).isEmpty() || squads.get(d).isEmpty()) continue;
+                CombatKernel kernel = new CombatKernel(squads.get(a), squads.get(d), random);
+                kernel.run(0, 0);
+                kernel.writeBack();
+            }
+        }
+        return survivors(squads);
+    }
+
+    /** {@code factions} escouades aléatoires se partageant {@link #UNITS} unités. */
+    private static List<List<Unit>> squads(int factions) {
+        List<List<Unit>> squads = new ArrayList<>(factions);
+        int size = UNITS / factions;
+        for (int f = 0; f < factions; f++) {
+            squads.add(CombatKernelBenchmark.randomSquad(3 + f, size, 1 + (long) f * size));
+        }
+        return squads;
+    }
+
+    private static long survivors(List<List<Unit>> squads) {
+        return squads.stream().mapToLong(List::size).sum();
+    }
+}
@@ -0,0 +1,138 @@
+package com.mg.nmlonline.domain.model.battle;
+
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la mêlée à N factions : équivalence avec {@link CombatKernel} à deux
+ * factions, reproductibilité et pertes à plusieurs.
+ */
+@DisplayName("MultiPartyKernel Unit Tests")
+class MultiPartyKernelTest {
+
+    @Test
+    @DisplayName("Deux factions : résultat et trace identiques au noyau à deux camps")
+    void shouldMatchTwoSidedKernel() {
+        for (long seed = 1; seed <= 150; seed++) {
+            int attackers = 1 + (int) (seed % 40);
+            int defenders = 1 + (int) ((seed * 7) % 40);
+            double attackerPdc = seed * 13 % 300;
+            double defenderPdc = seed * 29 % 300;
+
+            List<Unit> expectedAttackers = CombatKernelBenchmark.randomSquad(seed, attackers, 1);
+            List<Unit> expectedDefenders = CombatKernelBenchmark.randomSquad(seed + 10_000, defenders, 1_000);
+            List<Unit> allExpected = all(expectedAttackers, expectedDefenders);
+            CombatTrace expectedTrace = new CombatTrace();
+            CombatKernel kernel = new CombatKernel(expectedAttackers, expectedDefenders,
+                    CombatRandom.seeded(seed), expectedTrace);
+            CombatKernel.Outcome expected = kernel.run(attackerPdc, defenderPdc);
+            kernel.writeBack();
+
+            List<Unit> actualAttackers = CombatKernelBenchmark.randomSquad(seed, attackers, 1);
+            List<Unit> actualDefenders = CombatKernelBenchmark.randomSquad(seed + 10_000, defenders, 1_000);
+            List<Unit> allActual = all(actualAttackers, actualDefenders);
+            CombatTrace actualTrace = new CombatTrace();
+            MultiPartyKernel melee = new MultiPartyKernel(List.of(actualAttackers, actualDefenders),
+                    CombatRandom.seeded(seed), actualTrace);
+            CombatKernel.Outcome actual = melee.run(new double[]{attackerPdc, defenderPdc});
+            melee.writeBack();
+
+            assertEquals(expected, actual, "graine " + seed);
+            assertEquals(snapshot(allExpected), snapshot(allActual), "graine " + seed);
+            assertEquals(expectedAttackers.size(), actualAttackers.size(), "graine " + seed);
+            assertEquals(expectedDefenders.size(), actualDefenders.size(), "graine " + seed);
+            assertEquals(expectedTrace.render(), actualTrace.render(), "graine " + seed);
+        }
+    }
+
+    @Test
+    @DisplayName("Même graine : même mêlée à quatre factions")
+    void shouldBeReproducible() {
+        for (long seed = 1; seed <= 30; seed++) {
+            assertEquals(fourWay(seed), fourWay(seed), "graine " + seed);
+        }
+    }
+
+    @Test
+    @DisplayName("Une faction forte anéantit trois factions faibles en une seule passe")
+    void shouldResolveAllFactionsAtOnce() {
+        List<Unit> brutes = squad(8, 3);     // BRUTE 100/100
+        List<Unit> first = squad(0, 2);      // LARBIN 10/10
+        List<Unit> second = squad(0, 2);
+        List<Unit> third = squad(0, 2);
+        CombatTrace trace = new CombatTrace();
+
+        MultiPartyKernel melee = new MultiPartyKernel(List.of(brutes, first, second, third),
+                CombatRandom.seeded(1), trace);
+        CombatKernel.Outcome outcome = melee.run(new double[4]);
+        melee.writeBack();
+
+        assertEquals(CombatKernel.Outcome.ATK, outcome);
+        assertTrue(melee.isOver());
+        assertEquals(3, brutes.size());
+        assertTrue(first.isEmpty() && second.isEmpty() && third.isEmpty());
+        // Les larbins répartissent leurs 60 points entre les brutes : l'une est entamée
+        assertTrue(brutes.stream().anyMatch(Unit::isInjured));
+        assertTrue(trace.render().startsWith("Début : faction 1 : 3, faction 2 : 2, faction 3 : 2, faction 4 : 2"),
+                trace.render());
+        assertTrue(trace.render().contains("[ATK] tirs sur la faction 4"), trace.render());
+        assertThrows(IllegalStateException.class, () -> trace.camp(trace.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Moins de deux factions ou PDC manquant : IllegalArgumentException")
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiPartyKernel(List.of(squad(0, 1)), CombatRandom.seeded(1)));
+        MultiPartyKernel melee = new MultiPartyKernel(List.of(squad(0, 1), squad(0, 1)), CombatRandom.seeded(1));
+        assertThrows(IllegalArgumentException.class, () -> melee.run(new double[3]));
+    }
+
+    /** Mêlée à quatre escouades aléatoires ; rend survivants et statistiques de chaque faction. */
+    private static List<String> fourWay(long seed) {
+        List<List<Unit>> factions = new ArrayList<>();
+        for (int f = 0; f < 4; f++) {
+            factions.add(CombatKernelBenchmark.randomSquad(seed * 10 + f, 5 + (int) ((seed + f) % 20), 1 + f * 100L));
+        }
+        List<Unit> all = new ArrayList<>();
+        factions.forEach(all::addAll);
+        MultiPartyKernel melee = new MultiPartyKernel(factions, CombatRandom.seeded(seed));
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(melee.run(new double[]{10, 20, 30, 40})));
+        melee.writeBack();
+        for (int f = 0; f < 4; f++) {
+            assertEquals(factions.get(f).size(), melee.survivors(f));
+            result.add("faction " + f + " : " + melee.survivors(f));
+        }
+        result.addAll(snapshot(all));
+        return result;
+    }
+
+    private static List<Unit> squad(double experience, int size) {
+        List<Unit> units = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            units.add(new Unit(experience, UnitClass.TIREUR));
+        }
+        return units;
+    }
+
+    private static List<Unit> all(List<Unit> attackers, List<Unit> defenders) {
+        List<Unit> all = new ArrayList<>(attackers);
+        all.addAll(defenders);
+        return all;
+    }
+
+    private static List<String> snapshot(List<Unit> units) {
+        return units.stream()
+                .map(u -> u.getId() + ":" + u.getAttack() + "/" + u.getPdf() + "/" + u.getPdc() + "/"
+                        + u.getDefense() + "/" + u.getArmor() + "/" + u.isInjured())
+                .toList();
+    }
+}
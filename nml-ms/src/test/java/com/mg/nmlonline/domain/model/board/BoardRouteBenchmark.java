@@ -0,0 +1,146 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de {@link Board#findRoute} : BFS sur le graphe CSR (tableau de parents, files
+ * primitives) vs ancienne BFS qui copiait une {@code ArrayList} de chemin par nœud visité.
+ *
+ * <p>Plateaux synthétiques : grilles 4-connexes et grilles « planaires aléatoires » (arêtes
+ * retirées au hasard + une diagonale par case, ce qui garde le graphe planaire), jusqu'à
+ * 50 000 secteurs.
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=BoardRouteBenchmark}
+ */
+@DisplayName("Benchmark — recherche de chemin")
+class BoardRouteBenchmark {
+
+    private static final int QUERIES = 64;
+
+    @Test
+    void compareParentArrayAndCopyingBfs() {
+        for (int side : new int[]{32, 100, 224}) {
+            run("grille", side, buildGrid(side, false));
+            run("planaire aléatoire", side, buildGrid(side, true));
+        }
+    }
+
+    private static void run(String kind, int side, Board board) {
+        int size = side * side;
+        int[][] pairs = randomPairs(size, QUERIES);
+        int maxHops = size;
+
+        for (int[] pair : pairs) {
+            assertEquals(legacyFindRoute(board, pair[0], pair[1], maxHops).size(),
+                    board.findRoute(pair[0], pair[1], maxHops).size());
+        }
+
+        String label = kind + " " + size + " secteurs";
+        MicroBenchmark.measure("findRoute CSR (" + label + ")", pairs.length, () -> {
+            long acc = 0;
+            for (int[] pair : pairs) {
+                acc += board.findRoute(pair[0], pair[1], maxHops).size();
+            }
+            return acc;
+        });
+        MicroBenchmark.measure("findRoute historique (" + label + ")", pairs.length, () -> {
+            long acc = 0;
+            for (int[] pair : pairs) {
+                acc += legacyFindRoute(board, pair[0], pair[1], maxHops).size();
+            }
+            return acc;
+        });
+    }
+
+    private static Board buildGrid(int side, boolean randomPlanar) {
+        SplittableRandom random = new SplittableRandom(side);
+        Board board = new Board();
+        for (int i = 1; i <= side * side; i++) {
+            board.addSector(new Sector(i));
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int number = row * side + col + 1;
+                if (col < side - 1 && (!randomPlanar || random.nextInt(10) > 0)) {
+                    link(board, number, number + 1);
+                }
+                if (row < side - 1 && (!randomPlanar || random.nextInt(10) > 0)) {
+                    link(board, number, number + side);
+                }
+                if (randomPlanar && row < side - 1 && col < side - 1) {
+                    // Une seule diagonale par case : pas de croisement
+                    if (random.nextBoolean()) {
+                        link(board, number, number + side + 1);
+                    } else {
+                        link(board, number + 1, number + side);
+                    }
+                }
+            }
+        }
+        return board;
+    }
+
+    private static void link(Board board, int a, int b) {
+        board.getSector(a).addNeighbor(b);
+        board.getSector(b).addNeighbor(a);
+    }
+
+    private static int[][] randomPairs(int size, int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        int[][] pairs = new int[count][2];
+        for (int[] pair : pairs) {
+            pair[0] = 1 + random.nextInt(size);
+            pair[1] = 1 + random.nextInt(size);
+        }
+        return pairs;
+    }
+
+    /** Copie de l'implémentation historique de {@code Board.findRoute}. */
+    private static List<Integer> legacyFindRoute(Board board, int from, int to, int maxHops) {
+        if (from == to) return List.of(from);
+        if (!board.hasSector(from) || !board.hasSector(to)) return Collections.emptyList();
+
+        Queue<List<Integer>> queue = new LinkedList<>();
+        Set<Integer> visited = new HashSet<>();
+        queue.add(List.of(from));
+        visited.add(from);
+
+        while (!queue.isEmpty()) {
+            List<Integer> path = queue.poll();
+            if (path.size() > maxHops + 1) break;
+
+            int current = path.getLast();
+            Sector currentSector = board.getSector(current);
+            if (currentSector == null) continue;
+
+            for (int neighbor : currentSector.getNeighbors()) {
+                if (neighbor == to) {
+                    List<Integer> fullPath = new ArrayList<>(path);
+                    fullPath.add(to);
+                    return fullPath;
+                }
+                if (!visited.contains(neighbor) && path.size() < maxHops + 1) {
+                    visited.add(neighbor);
+                    List<Integer> newPath = new ArrayList<>(path);
+                    newPath.add(neighbor);
+                    queue.add(newPath);
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+}
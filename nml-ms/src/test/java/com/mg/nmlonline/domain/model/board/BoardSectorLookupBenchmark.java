@@ -0,0 +1,78 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Benchmark de {@link Board#getSector(int)} : index transient vs ancien parcours linéaire
+ * de {@code sectorsList}, sur des plateaux de 43 (carte réelle), 1 000 et 10 000 secteurs.
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=BoardSectorLookupBenchmark}
+ */
+@DisplayName("Benchmark — recherche de secteur par numéro")
+class BoardSectorLookupBenchmark {
+
+    private static final int LOOKUPS = 200_000;
+
+    @Test
+    void compareIndexedAndLinearLookup() {
+        for (int size : new int[]{43, 1_000, 10_000}) {
+            Board board = buildBoard(size);
+            int[] numbers = randomNumbers(size, LOOKUPS);
+            List<Sector> sectors = board.getSectorsList();
+
+            assertSame(linearLookup(sectors, numbers[0]), board.getSector(numbers[0]));
+
+            MicroBenchmark.measure("getSector indexé (" + size + " secteurs)", LOOKUPS, () -> {
+                long acc = 0;
+                for (int number : numbers) {
+                    acc += board.getSector(number).getNumber();
+                }
+                return acc;
+            });
+            // Le parcours linéaire coûte O(n) : on réduit le nombre d'appels pour les gros plateaux
+            int linearLookups = Math.max(1_000, LOOKUPS / Math.max(1, size / 43));
+            MicroBenchmark.measure("parcours linéaire historique (" + size + " secteurs)", linearLookups, () -> {
+                long acc = 0;
+                for (int i = 0; i < linearLookups; i++) {
+                    acc += linearLookup(sectors, numbers[i]).getNumber();
+                }
+                return acc;
+            });
+        }
+    }
+
+    private static Board buildBoard(int size) {
+        Board board = new Board();
+        for (int i = 1; i <= size; i++) {
+            board.addSector(new Sector(i));
+        }
+        return board;
+    }
+
+    private static int[] randomNumbers(int size, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] numbers = new int[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = 1 + random.nextInt(size);
+        }
+        return numbers;
+    }
+
+    /** Copie de l'implémentation historique de {@code Board.getSector}. */
+    private static Sector linearLookup(List<Sector> sectors, int number) {
+        for (Sector sector : sectors) {
+            if (sector.getNumber() == number) {
+                return sector;
+            }
+        }
+        return null;
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -25,6 +26,19 @@ class BoardTest {
         board = new Board();
     }
 
+    private void setupGridNeighbors(int gridSize) {
+        for (int i = 1; i <= gridSize * gridSize; i++) {
+            Sector sector = board.getSector(i);
+            int row = (i - 1) / gridSize;
+            int col = (i - 1) % gridSize;
+
+            if (col < gridSize - 1) sector.addNeighbor(i + 1);
+            if (row < gridSize - 1) sector.addNeighbor(i + gridSize);
+            if (col > 0) sector.addNeighbor(i - 1);
+            if (row > 0) sector.addNeighbor(i - gridSize);
+        }
+    }
+
     @Nested
     @DisplayName("Gestion des secteurs")
     class SectorManagementTests {
@@ -103,6 +117,68 @@ class BoardTest {
 
             assertEquals(3, allSectors.size());
         }
+
+        @Test
+        @DisplayName("L'index suit les ajouts directs dans sectorsList (fusion saveBoard)")
+        void shouldSeeSectorsAddedDirectlyToList() {
+            board.addSector(new Sector(1, "S1"));
+            assertNotNull(board.getSector(1));
+
+            Sector direct = new Sector(2, "S2");
+            direct.setBoard(board);
+            board.getSectorsList().add(direct);
+
+            assertSame(direct, board.getSector(2));
+        }
+
+        @Test
+        @DisplayName("L'index suit le remplacement de la liste et les numéros creux")
+        void shouldRebuildIndexOnListReplacementAndSparseNumbers() {
+            board.addSector(new Sector(1, "S1"));
+            board.getSector(1);
+
+            Sector far = new Sector(1_000_000, "Lointain");
+            board.setSectorsList(new ArrayList<>(List.of(new Sector(3, "S3"), far)));
+
+            assertNull(board.getSector(1));
+            assertSame(far, board.getSector(1_000_000));
+            board.addSector(new Sector(4, "S4"));
+            assertTrue(board.hasSector(4));
+            assertTrue(board.hasSector(3));
+        }
+
+        @Test
+        @DisplayName("L'index accepte un numéro négatif chargé ou ajouté directement (mode creux)")
+        void shouldIndexNegativeSectorNumbers() {
+            Sector negative = new Sector(-2, "Négatif");
+            board.setSectorsList(new ArrayList<>(List.of(new Sector(1, "S1"), negative)));
+
+            assertSame(negative, board.getSector(-2));
+            assertNotNull(board.getSector(1));
+
+            Sector appended = new Sector(-7, "Ajout direct");
+            appended.setBoard(board);
+            board.getSectorsList().add(appended);
+            board.addSector(new Sector(3, "S3"));
+
+            assertSame(appended, board.getSector(-7));
+            assertSame(negative, board.getSector(-2));
+            assertTrue(board.hasSector(3));
+        }
+
+        @Test
+        @DisplayName("Un secteur supprimé n'est plus trouvé par l'index")
+        void shouldForgetRemovedSector() {
+            board.addSector(new Sector(1, "S1"));
+            board.addSector(new Sector(2, "S2"));
+            board.getSector(2);
+
+            board.removeSector(2);
+            board.getSectorsList().add(new Sector(5, "S5"));
+
+            assertNull(board.getSector(2));
+            assertNotNull(board.getSector(5));
+        }
     }
 
     @Nested
@@ -158,6 +234,30 @@ class BoardTest {
             assertTrue(neutralSectors.stream().allMatch(Sector::isNeutral));
         }
 
+        @Test
+        @DisplayName("L'index de propriété suit setOwnerId, les réassignations et les ajouts")
+        void shouldKeepOwnershipIndexInSync() {
+            for (int i = 1; i <= 4; i++) {
+                board.addSector(new Sector(i, "Secteur " + i));
+            }
+            board.assignOwner(1, 1L, "#FF0000");
+            board.assignOwner(2, 1L, "#FF0000");
+            assertEquals(2, board.getSectorsByOwner(1L).size());
+
+            board.getSector(2).setOwnerId(2L);
+            board.assignOwner(3, 1L, "#FF0000");
+            Sector owned = new Sector(5, "Secteur 5");
+            owned.setOwnerId(1L);
+            board.addSector(owned);
+
+            assertEquals(List.of(1, 3, 5), board.getSectorsByOwner(1L).stream().map(Sector::getNumber).toList());
+            assertEquals(List.of(2), board.getSectorsByOwner(2L).stream().map(Sector::getNumber).toList());
+
+            board.removeSector(3);
+            assertEquals(List.of(1, 5), board.getSectorsByOwner(1L).stream().map(Sector::getNumber).toList());
+            assertTrue(board.getSectorsByOwner(null).isEmpty());
+        }
+
         @Test
         @DisplayName("Lève une exception pour assignation à un secteur inexistant")
         void shouldThrowExceptionWhenAssigningToNonExistentSector() {
@@ -178,19 +278,6 @@ class BoardTest {
             setupGridNeighbors(4);
         }
 
-        private void setupGridNeighbors(int gridSize) {
-            for (int i = 1; i <= gridSize * gridSize; i++) {
-                Sector sector = board.getSector(i);
-                int row = (i - 1) / gridSize;
-                int col = (i - 1) % gridSize;
-
-                if (col < gridSize - 1) sector.addNeighbor(i + 1);
-                if (row < gridSize - 1) sector.addNeighbor(i + gridSize);
-                if (col > 0) sector.addNeighbor(i - 1);
-                if (row > 0) sector.addNeighbor(i - gridSize);
-            }
-        }
-
         @Test
         @DisplayName("Vérification que deux secteurs sont voisins")
         void shouldDetectNeighbors() {
@@ -236,6 +323,112 @@ class BoardTest {
         }
     }
 
+    @Nested
+    @DisplayName("Recherche de chemin")
+    class PathfindingTests {
+
+        @BeforeEach
+        void setUpGrid() {
+            // Grille 4x4 : 1 en haut à gauche, 16 en bas à droite
+            for (int i = 1; i <= 16; i++) {
+                board.addSector(new Sector(i, "Secteur " + i));
+            }
+            setupGridNeighbors(4);
+        }
+
+        @Test
+        @DisplayName("Trouve un plus court chemin contigu")
+        void shouldFindShortestRoute() {
+            List<Integer> route = board.findRoute(1, 16, 10);
+
+            assertEquals(7, route.size());
+            assertEquals(1, route.getFirst());
+            assertEquals(16, route.getLast());
+            assertFalse(board.isInvalidRoute(route));
+        }
+
+        @Test
+        @DisplayName("La borne de hops est respectée, y compris pour le dernier saut")
+        void shouldRespectMaxHops() {
+            assertTrue(board.findRoute(1, 16, 5).isEmpty());
+            assertEquals(7, board.findRoute(1, 16, 6).size());
+            assertEquals(List.of(1, 2), board.findRoute(1, 2, 1));
+            assertTrue(board.findRoute(1, 3, 1).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Variante sans borne de hops")
+        void shouldFindRouteWithoutHopLimit() {
+            assertEquals(7, board.findRoute(1, 16).size());
+        }
+
+        @Test
+        @DisplayName("Départ = arrivée, secteurs inexistants ou non reliés")
+        void shouldHandleDegenerateCases() {
+            assertEquals(List.of(3), board.findRoute(3, 3, 0));
+            assertTrue(board.findRoute(1, 99, 10).isEmpty());
+            assertTrue(board.findRoute(99, 1, 10).isEmpty());
+
+            board.addSector(new Sector(17, "Isolé"));
+            assertTrue(board.findRoute(1, 17).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Un voisin déclaré mais absent du plateau est ignoré")
+        void shouldIgnoreDanglingNeighbors() {
+            board.getSector(1).addNeighbor(99);
+
+            assertEquals(List.of(1, 2), board.findRoute(1, 2, 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Routes alliées")
+    class AlliedRouteTests {
+
+        @BeforeEach
+        void setUpGrid() {
+            // Grille 4x4 : joueur 1 possède la colonne de gauche et la ligne du bas
+            for (int i = 1; i <= 16; i++) {
+                board.addSector(new Sector(i, "Secteur " + i));
+            }
+            setupGridNeighbors(4);
+            for (int number : new int[]{1, 5, 9, 13, 14, 15, 16}) {
+                board.assignOwner(number, 1L, "#FF0000");
+            }
+        }
+
+        @Test
+        @DisplayName("Le chemin allié contourne le territoire ennemi ou neutre")
+        void shouldStayInAlliedTerritory() {
+            List<Integer> route = board.findAlliedRoute(1, 16, 1L, 10);
+
+            assertEquals(List.of(1, 5, 9, 13, 14, 15, 16), route);
+            assertTrue(board.isAlliedRoute(route, 1L));
+        }
+
+        @Test
+        @DisplayName("Pas de chemin allié si la borne de hops ou le territoire ne le permet pas")
+        void shouldReturnEmptyWhenNoAlliedRoute() {
+            assertTrue(board.findAlliedRoute(1, 16, 1L, 5).isEmpty());
+            assertTrue(board.findAlliedRoute(1, 2, 1L, 10).isEmpty());
+            assertTrue(board.findAlliedRoute(1, 16, 2L, 10).isEmpty());
+
+            board.getSector(13).setOwnerId(2L);
+            assertTrue(board.findAlliedRoute(1, 16, 1L, 10).isEmpty());
+            assertFalse(board.isAlliedRoute(List.of(9, 13, 14), 1L));
+        }
+
+        @Test
+        @DisplayName("Départ capturé par l'ennemi : on peut en sortir vers le territoire allié")
+        void shouldLeaveCapturedStartSector() {
+            board.getSector(1).setOwnerId(2L);
+
+            assertEquals(List.of(1, 5, 9), board.findAlliedRoute(1, 9, 1L, 10));
+            assertTrue(board.findAlliedRoute(9, 1, 1L, 10).isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("Gestion des ressources")
     class ResourceTests {
@@ -0,0 +1,83 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.domain.model.sector.Sector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de l'oracle de distances {@link SectorDistanceOracle}.
+ */
+@DisplayName("SectorDistanceOracle Unit Tests")
+class SectorDistanceOracleTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        // Chaîne 1 - 2 - 3 - 4 ; 5 isolé
+        board = new Board();
+        for (int i = 1; i <= 5; i++) {
+            board.addSector(new Sector(i));
+        }
+        for (int i = 1; i < 4; i++) {
+            board.getSector(i).addNeighbor(i + 1);
+            board.getSector(i + 1).addNeighbor(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Distances en sauts, secteur identique et secteurs non reliés")
+    void shouldComputeHopDistances() {
+        assertEquals(0, board.hopDistance(2, 2));
+        assertEquals(1, board.hopDistance(1, 2));
+        assertEquals(3, board.hopDistance(1, 4));
+        assertEquals(3, board.hopDistance(4, 1));
+        assertEquals(-1, board.hopDistance(1, 5));
+        assertEquals(-1, board.hopDistance(1, 99));
+    }
+
+    @Test
+    @DisplayName("isWithinHops respecte la borne")
+    void shouldAnswerWithinHops() {
+        assertTrue(board.isWithinHops(1, 4, 3));
+        assertFalse(board.isWithinHops(1, 4, 2));
+        assertFalse(board.isWithinHops(1, 5, 10));
+    }
+
+    @Test
+    @DisplayName("Une modification de topologie repart d'un oracle vierge")
+    void shouldInvalidateOnTopologyChange() {
+        assertEquals(-1, board.hopDistance(1, 5));
+
+        board.getSector(4).addNeighbor(5);
+        board.getSector(1).addNeighbor(4);
+
+        assertEquals(2, board.hopDistance(1, 5));
+        assertEquals(1, board.hopDistance(1, 4));
+    }
+
+    @Test
+    @DisplayName("Les lignes en cache sont bornées sur un grand plateau (LRU)")
+    void shouldEvictRowsOnLargeBoard() {
+        Board big = new Board();
+        int size = 4_096;
+        for (int i = 1; i <= size; i++) {
+            big.addSector(new Sector(i));
+        }
+        for (int i = 1; i < size; i++) {
+            big.getSector(i).addNeighbor(i + 1);
+            big.getSector(i + 1).addNeighbor(i);
+        }
+
+        for (int from = 1; from <= 1_500; from++) {
+            assertEquals(size - from, big.hopDistance(from, size));
+        }
+
+        int cached = big.sectorGraph().distances().cachedRows();
+        assertTrue(cached < 1_500, "cache non borné : " + cached);
+        assertEquals(size - 1, big.hopDistance(1, size));
+    }
+}
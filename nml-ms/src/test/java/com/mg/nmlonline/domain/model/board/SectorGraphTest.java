@@ -0,0 +1,144 @@
+package com.mg.nmlonline.domain.model.board;
+
+import com.mg.nmlonline.domain.model.sector.Sector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du graphe des voisinages {@link SectorGraph} et de son invalidation par {@link Board}.
+ */
+@DisplayName("SectorGraph Unit Tests")
+class SectorGraphTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        for (int i = 1; i <= 4; i++) {
+            board.addSector(new Sector(i));
+        }
+        // 1 - 2 - 3 ; 4 isolé
+        board.getSector(1).addNeighbor(2);
+        board.getSector(2).addNeighbor(1);
+        board.getSector(2).addNeighbor(3);
+        board.getSector(3).addNeighbor(2);
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class BuildTests {
+
+        @Test
+        @DisplayName("Les lignes CSR sont triées et reflètent les voisins déclarés")
+        void shouldBuildSortedRows() {
+            board.getSector(2).setNeighbors(new ArrayList<>(List.of(3, 1, 3)));
+
+            SectorGraph graph = board.sectorGraph();
+
+            assertEquals(4, graph.size());
+            int i = graph.indexOf(2);
+            assertEquals(2, graph.rowEnd(i) - graph.rowStart(i));
+            assertEquals(1, graph.targetNumber(graph.rowStart(i)));
+            assertEquals(3, graph.targetNumber(graph.rowStart(i) + 1));
+            assertEquals(graph.indexOf(1), graph.targetIndex(graph.rowStart(i)));
+        }
+
+        @Test
+        @DisplayName("L'adjacence reste orientée, comme Sector.isNeighbor")
+        void shouldKeepDirectedAdjacency() {
+            board.getSector(4).addNeighbor(1);
+
+            assertTrue(board.areNeighbors(4, 1));
+            assertFalse(board.areNeighbors(1, 4));
+        }
+
+        @Test
+        @DisplayName("Un voisin déclaré mais absent du plateau compte comme voisin")
+        void shouldKeepDanglingNeighbor() {
+            board.getSector(4).addNeighbor(99);
+
+            SectorGraph graph = board.sectorGraph();
+
+            assertTrue(graph.areNeighbors(4, 99));
+            assertEquals(-1, graph.targetIndex(graph.rowStart(graph.indexOf(4))));
+            assertFalse(graph.areNeighbors(99, 4));
+        }
+
+        @Test
+        @DisplayName("Numérotation creuse et grand plateau : adjacence par dichotomie")
+        void shouldHandleSparseNumbersWithoutBitset() {
+            Board big = new Board();
+            int size = SectorGraph.MAX_BITSET_NODES + 10;
+            for (int i = 1; i <= size; i++) {
+                big.addSector(new Sector(i * 1_000));
+            }
+            big.getSector(1_000).addNeighbor(size * 1_000);
+
+            assertTrue(big.areNeighbors(1_000, size * 1_000));
+            assertFalse(big.areNeighbors(1_000, 2_000));
+            assertFalse(big.areNeighbors(1, 1_000));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Le graphe est réutilisé tant que la topologie ne change pas")
+        void shouldReuseGraph() {
+            SectorGraph graph = board.sectorGraph();
+            board.assignOwner(1, 1L, "#FF0000");
+
+            assertSame(graph, board.sectorGraph());
+        }
+
+        @Test
+        @DisplayName("addNeighbor / removeNeighbor / setNeighbors invalident le graphe")
+        void shouldInvalidateOnNeighborChanges() {
+            assertFalse(board.areNeighbors(3, 4));
+
+            board.getSector(3).addNeighbor(4);
+            assertTrue(board.areNeighbors(3, 4));
+
+            board.getSector(3).removeNeighbor(4);
+            assertFalse(board.areNeighbors(3, 4));
+
+            board.getSector(3).setNeighbors(new ArrayList<>(List.of(4)));
+            assertTrue(board.areNeighbors(3, 4));
+            assertFalse(board.areNeighbors(3, 2));
+        }
+
+        @Test
+        @DisplayName("removeSector retire le nœud et les arêtes qui y mènent")
+        void shouldInvalidateOnRemoveSector() {
+            assertTrue(board.areNeighbors(1, 2));
+
+            board.removeSector(2);
+
+            assertFalse(board.areNeighbors(1, 2));
+            assertEquals(3, board.sectorGraph().size());
+            assertEquals(0, board.sectorGraph().edgeCount());
+        }
+
+        @Test
+        @DisplayName("Un secteur ajouté apparaît dans le graphe")
+        void shouldSeeAddedSector() {
+            board.sectorGraph();
+            Sector fifth = new Sector(5);
+            board.addSector(fifth);
+            fifth.addNeighbor(1);
+
+            assertTrue(board.isInvalidRoute(List.of(4, 5)));
+            assertFalse(board.isInvalidRoute(List.of(5, 1, 2, 3)));
+        }
+    }
+}
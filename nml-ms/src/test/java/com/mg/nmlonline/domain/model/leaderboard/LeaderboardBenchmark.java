@@ -0,0 +1,58 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark d'un classement de 100 000 joueurs : mise à jour d'un joueur puis lecture de son
+ * rang, incrémental ({@link Leaderboard}) vs tri complet de tous les joueurs à chaque changement.
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=LeaderboardBenchmark}
+ */
+@DisplayName("Benchmark — classements")
+class LeaderboardBenchmark {
+
+    private static final int PLAYERS = 100_000;
+    private static final int UPDATES = 1_000;
+
+    @Test
+    void compareIncrementalAndFullSort() {
+        Leaderboard leaderboard = new Leaderboard();
+        double[] power = new double[PLAYERS];
+        SplittableRandom random = new SplittableRandom(7);
+        List<Leaderboard.Standing> standings = new ArrayList<>(PLAYERS);
+        for (int id = 0; id < PLAYERS; id++) {
+            power[id] = random.nextInt(1_000_000);
+            standings.add(new Leaderboard.Standing(id, "joueur " + id, power[id], 0, 0, 0));
+        }
+        leaderboard.replaceAll(standings);
+
+        MicroBenchmark.measure("mise à jour + rang (Leaderboard)", UPDATES, () -> {
+            long sum = 0;
+            for (int i = 0; i < UPDATES; i++) {
+                int id = random.nextInt(PLAYERS);
+                leaderboard.updatePlayer(id, null, random.nextInt(1_000_000), 0, 0);
+                sum += leaderboard.rankOf(RankingMetric.GLOBAL_POWER, id);
+            }
+            return sum;
+        });
+        MicroBenchmark.measure("mise à jour + tri complet", 10, () -> {
+            long sum = 0;
+            for (int i = 0; i < 10; i++) {
+                int id = random.nextInt(PLAYERS);
+                power[id] = random.nextInt(1_000_000);
+                List<Integer> ids = new ArrayList<>(PLAYERS);
+                for (int p = 0; p < PLAYERS; p++) ids.add(p);
+                ids.sort(Comparator.<Integer>comparingDouble(p -> -power[p]).thenComparing(p -> p));
+                sum += ids.indexOf(id);
+            }
+            return sum;
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.mg.nmlonline.domain.model.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires des classements en mémoire : après une suite aléatoire de mises à jour,
+ * rangs, top K et voisinage doivent correspondre à un tri complet.
+ */
+@DisplayName("Leaderboard Unit Tests")
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("Mises à jour aléatoires : mêmes rangs qu'un tri complet, pour chaque critère")
+    void shouldMatchFullSortAfterRandomUpdates() {
+        Leaderboard leaderboard = new Leaderboard();
+        Map<Long, double[]> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int step = 0; step < 5_000; step++) {
+            long id = 1 + random.nextInt(200);
+            int action = random.nextInt(10);
+            if (action < 6) {
+                // Scores volontairement peu variés : beaucoup d'égalités, départagées par identifiant
+                double global = random.nextInt(50);
+                double economy = random.nextInt(50);
+                double income = random.nextInt(5) * 1000.0;
+                leaderboard.updatePlayer(id, "joueur " + id, global, economy, income);
+                double[] scores = expected.computeIfAbsent(id, k -> new double[4]);
+                scores[0] = global;
+                scores[1] = economy;
+                scores[2] = income;
+            } else if (action < 9) {
+                long other = 1 + random.nextInt(200);
+                Long from = random.nextBoolean() && expected.containsKey(id) && expected.get(id)[3] > 0 ? id : null;
+                leaderboard.moveTerritory(from, other);
+                if (from != null) expected.get(from)[3]--;
+                expected.computeIfAbsent(other, k -> new double[4])[3]++;
+            } else {
+                leaderboard.removePlayer(id);
+                expected.remove(id);
+            }
+        }
+
+        assertEquals(expected.size(), leaderboard.size());
+        for (RankingMetric metric : RankingMetric.values()) {
+            List<Long> sorted = sorted(expected, metric.ordinal());
+            List<Leaderboard.RankedPlayer> top = leaderboard.top(metric, sorted.size() + 10);
+            assertEquals(sorted, top.stream().map(Leaderboard.RankedPlayer::playerId).toList(), metric.name());
+            for (int i = 0; i < sorted.size(); i++) {
+                assertEquals(i + 1, leaderboard.rankOf(metric, sorted.get(i)));
+                assertEquals(expected.get(sorted.get(i))[metric.ordinal()], top.get(i).score());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Joueurs autour d'un rang : fenêtre tronquée aux extrémités")
+    void shouldReturnPlayersAroundRank() {
+        Leaderboard leaderboard = new Leaderboard();
+        for (long id = 1; id <= 10; id++) {
+            leaderboard.updatePlayer(id, "joueur " + id, id * 10, 0, 0);
+        }
+
+        List<Leaderboard.RankedPlayer> middle = leaderboard.around(RankingMetric.GLOBAL_POWER, 5, 2);
+        assertEquals(List.of(7L, 6L, 5L, 4L, 3L), middle.stream().map(Leaderboard.RankedPlayer::playerId).toList());
+        assertEquals(List.of(4, 5, 6, 7, 8), middle.stream().map(Leaderboard.RankedPlayer::rank).toList());
+
+        List<Leaderboard.RankedPlayer> first = leaderboard.around(RankingMetric.GLOBAL_POWER, 10, 2);
+        assertEquals(List.of(10L, 9L, 8L), first.stream().map(Leaderboard.RankedPlayer::playerId).toList());
+        assertTrue(leaderboard.around(RankingMetric.GLOBAL_POWER, 99, 2).isEmpty());
+        assertEquals(0, leaderboard.rankOf(RankingMetric.GLOBAL_POWER, 99));
+    }
+
+    @Test
+    @DisplayName("Territoire : un secteur qui change de main déplace un point entre les joueurs")
+    void shouldMoveTerritoryBetweenPlayers() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.replaceAll(List.of(
+                new Leaderboard.Standing(1, "Alice", 0, 0, 0, 3),
+                new Leaderboard.Standing(2, "Bob", 0, 0, 0, 2)));
+
+        leaderboard.moveTerritory(1L, 2L);
+        leaderboard.moveTerritory(1L, 2L);
+        leaderboard.moveTerritory(null, 1L);
+
+        List<Leaderboard.RankedPlayer> top = leaderboard.top(RankingMetric.TERRITORY, 2);
+        assertEquals("Bob", top.get(0).name());
+        assertEquals(4.0, top.get(0).score());
+        assertEquals(2.0, top.get(1).score());
+    }
+
+    private static List<Long> sorted(Map<Long, double[]> scores, int metric) {
+        List<Long> ids = new ArrayList<>(scores.keySet());
+        ids.sort(Comparator.<Long>comparingDouble(id -> -scores.get(id)[metric]).thenComparing(id -> id));
+        return ids;
+    }
+}
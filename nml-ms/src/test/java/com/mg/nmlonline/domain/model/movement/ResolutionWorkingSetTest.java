@@ -0,0 +1,130 @@
+package com.mg.nmlonline.domain.model.movement;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.movement.ResolutionWorkingSet.Departure;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de l'état de travail {@link ResolutionWorkingSet}.
+ */
+@DisplayName("ResolutionWorkingSet Unit Tests")
+class ResolutionWorkingSetTest {
+
+    private Board board;
+    private Unit unitA;
+    private Unit unitB;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        for (int i = 1; i <= 3; i++) {
+            board.addSector(new Sector(i));
+        }
+        unitA = placeUnit(10L, 1L, 1);
+        unitB = placeUnit(20L, 2L, 2);
+    }
+
+    /** Planifie puis applique le départ d'un ordre à pied, comme le fait un step de résolution. */
+    private void move(ResolutionWorkingSet workingSet, int from, int to, long entityId) {
+        workingSet.prepare(from);
+        workingSet.prepare(to);
+        MovementOrder order = MovementOrder.createFootOrder(0L, 1, List.of(entityId), List.of(from, to));
+        Departure departure = workingSet.planDepartures(from, List.of(order), Map.of()).getFirst();
+        workingSet.arrive(to, departure);
+    }
+
+    private Unit placeUnit(long id, long playerId, int sectorNumber) {
+        Unit unit = new Unit(5.0, UnitClass.ELEMENTAIRE);
+        unit.setId(id);
+        unit.setPlayerId(playerId);
+        Sector sector = board.getSector(sectorNumber);
+        unit.setSector(sector);
+        sector.getArmy().add(unit);
+        return unit;
+    }
+
+    @Test
+    @DisplayName("Les déplacements ne modifient pas les secteurs avant apply()")
+    void shouldNotTouchManagedStateBeforeApply() {
+        ResolutionWorkingSet workingSet = new ResolutionWorkingSet(board);
+
+        move(workingSet, 1, 2, 10L);
+
+        assertEquals(Set.of(1L, 2L), workingSet.playersPresent(2, List.of()));
+        assertTrue(workingSet.playersPresent(1, List.of()).isEmpty());
+        assertSame(board.getSector(1), unitA.getSector());
+        assertTrue(board.getSector(1).getArmy().contains(unitA));
+    }
+
+    @Test
+    @DisplayName("apply() reporte le diff net : un aller-retour ne laisse aucune trace")
+    void shouldApplyNetDiffOnly() {
+        ResolutionWorkingSet workingSet = new ResolutionWorkingSet(board);
+
+        move(workingSet, 1, 2, 10L);
+        move(workingSet, 2, 3, 10L);
+        move(workingSet, 2, 1, 20L);
+        move(workingSet, 1, 2, 20L);
+        workingSet.apply();
+
+        assertTrue(board.getSector(1).getArmy().isEmpty());
+        assertEquals(List.of(unitB), board.getSector(2).getArmy());
+        assertEquals(List.of(unitA), board.getSector(3).getArmy());
+        assertSame(board.getSector(3), unitA.getSector());
+        assertSame(board.getSector(2), unitB.getSector());
+    }
+
+    @Test
+    @DisplayName("apply() recalcule la puissance militaire des secteurs touchés")
+    void shouldRecalculateTouchedSectors() {
+        ResolutionWorkingSet workingSet = new ResolutionWorkingSet(board);
+
+        move(workingSet, 1, 3, 10L);
+        List<Sector> touched = workingSet.apply();
+
+        assertEquals(List.of(board.getSector(1), board.getSector(3)), touched);
+        assertEquals(0.0, board.getSector(1).getStats().getTotalAtk());
+        assertEquals(unitA.getAttack(), board.getSector(3).getStats().getTotalAtk());
+    }
+
+    @Test
+    @DisplayName("Les départs planifiés retirent leurs entités de la présence lue")
+    void shouldSubtractPlannedDepartures() {
+        ResolutionWorkingSet workingSet = new ResolutionWorkingSet(board);
+        workingSet.prepare(2);
+        MovementOrder order = MovementOrder.createFootOrder(2L, 1, List.of(20L), List.of(2, 3));
+
+        List<Departure> departures = workingSet.planDepartures(2, List.of(order), Map.of());
+
+        assertEquals(Set.of(2L), workingSet.playersPresent(2, List.of()));
+        assertTrue(workingSet.playersPresent(2, departures).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Une entité désignée par deux ordres n'est emportée que par le premier")
+    void shouldClaimEntityOnce() {
+        ResolutionWorkingSet workingSet = new ResolutionWorkingSet(board);
+        workingSet.prepare(1);
+        MovementOrder first = MovementOrder.createFootOrder(1L, 1, List.of(10L), List.of(1, 2));
+        MovementOrder second = MovementOrder.createFootOrder(1L, 1, List.of(10L), List.of(1, 3));
+
+        List<Departure> departures = workingSet.planDepartures(1, List.of(first, second), Map.of());
+        workingSet.arrive(2, departures.get(0));
+        workingSet.arrive(3, departures.get(1));
+        workingSet.apply();
+
+        assertSame(board.getSector(2), unitA.getSector());
+        assertTrue(board.getSector(3).getArmy().isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package com.mg.nmlonline.domain.model.player;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.building.Bank;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.service.PlayerStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de {@link IncomeLedger} : le calcul groupé doit créditer les mêmes soldes
+ * que le chemin joueur par joueur (revenus via {@link PlayerStatsService#calculateTotalIncome},
+ * puis vampirisation banque par banque).
+ */
+@DisplayName("IncomeLedger Unit Tests")
+class IncomeLedgerTest {
+
+    private static final int PLAYERS = 10_000;
+    private static final int SECTORS = 20_000;
+    private static final int CAPTURED_BANKS = 1_000;
+    private static final int TURN = 12;
+
+    @Test
+    @DisplayName("10 000 joueurs : mêmes soldes que le calcul joueur par joueur")
+    void shouldMatchPerPlayerPathForTenThousandPlayers() {
+        SplittableRandom random = new SplittableRandom(21);
+        Board board = new Board();
+        for (int n = 1; n <= SECTORS; n++) {
+            Sector sector = new Sector(n);
+            sector.setIncome(random.nextInt(500, 5_000));
+            board.addSector(sector);
+            if (random.nextInt(10) > 0) {
+                board.assignOwner(n, 1L + random.nextInt(PLAYERS), "#ff0000");
+            }
+        }
+        double[] startMoney = new double[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            startMoney[i] = random.nextInt(0, 100_000);
+        }
+        Map<Long, Bank> banks = new HashMap<>();
+        for (int i = 0; i < CAPTURED_BANKS; i++) {
+            long owner = 1L + random.nextInt(PLAYERS);
+            long captor = 1L + random.nextInt(PLAYERS);
+            if (owner == captor || banks.containsKey(owner)) continue;
+            Bank bank = new Bank(owner);
+            bank.onCapture(captor, TURN - random.nextInt(8));
+            banks.put(owner, bank);
+        }
+
+        List<Player> perPlayer = players(startMoney);
+        List<Player> grouped = players(startMoney);
+
+        // Chemin joueur par joueur : revenus, puis vampirisation banque par banque
+        PlayerStatsService statsService = new PlayerStatsService();
+        Map<Long, Player> perPlayerById = new HashMap<>();
+        for (Player player : perPlayer) {
+            perPlayerById.put(player.getId(), player);
+            statsService.calculateTotalIncome(player, board);
+            player.incrementMoney(player.getStats().getTotalIncome());
+        }
+        for (Player player : perPlayer) {
+            Bank bank = banks.get(player.getId());
+            if (bank == null) continue;
+            double amount = bank.calculateVampirizedAmount(player.getStats().getTotalIncome(), TURN);
+            player.decrementMoney(amount);
+            perPlayerById.get(bank.getCapturedByPlayerId()).incrementMoney(amount);
+        }
+
+        // Calcul groupé
+        IncomeLedger ledger = IncomeLedger.compute(grouped.stream().map(Player::getId).toList(),
+                board.playerStats(), banks.values(), TURN);
+        ledger.applyTo(grouped);
+
+        for (int i = 0; i < PLAYERS; i++) {
+            assertEquals(perPlayer.get(i).getStats().getMoney(), grouped.get(i).getStats().getMoney(), 1e-6,
+                    "solde du joueur " + (i + 1));
+        }
+        Bank anyBank = banks.values().iterator().next();
+        IncomeLedger.PlayerIncome victim = ledger.of(anyBank.getPlayerId());
+        assertEquals(anyBank.calculateVampirizedAmount(victim.sectorIncome(), TURN), victim.vampirizedOut(), 1e-9);
+        assertEquals(0, ledger.of(null).net());
+    }
+
+    private static List<Player> players(double[] startMoney) {
+        List<Player> players = new ArrayList<>(startMoney.length);
+        for (int i = 0; i < startMoney.length; i++) {
+            Player player = new Player("Joueur " + (i + 1));
+            player.setId(i + 1L);
+            player.getStats().setMoney(startMoney[i]);
+            players.add(player);
+        }
+        return players;
+    }
+}
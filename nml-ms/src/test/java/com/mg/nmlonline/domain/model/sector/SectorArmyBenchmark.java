@@ -0,0 +1,72 @@
+package com.mg.nmlonline.domain.model.sector;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark de l'arrivée de 1 000 unités, une par une, dans un secteur de 5 000 unités :
+ * insertion dichotomique ({@link Sector#addUnit}) vs tri complet et renumérotation après
+ * chaque ajout, et import groupé ({@link Sector#addUnits}).
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=SectorArmyBenchmark}
+ */
+@DisplayName("Benchmark — armée d'un secteur")
+class SectorArmyBenchmark {
+
+    private static final int UNITS = 5_000;
+    private static final int ARRIVALS = 1_000;
+
+    @Test
+    void compareBinaryInsertionAndFullSort() {
+        boolean verification = Sector.isStatsVerification();
+        Sector.setStatsVerification(false);
+        try {
+            MicroBenchmark.measureFresh("addUnit, insertion dichotomique", ARRIVALS,
+                    SectorArmyBenchmark::fixture, f -> {
+                        f.arrivals.forEach(f.sector::addUnit);
+                        return f.sector.getArmySize();
+                    });
+            MicroBenchmark.measureFresh("ajout + tri complet + renumérotation", ARRIVALS,
+                    SectorArmyBenchmark::fixture, f -> {
+                        for (Unit unit : f.arrivals) {
+                            f.sector.getArmy().add(unit);
+                            f.sector.sortArmy();
+                            f.sector.reassignUnitIds();
+                        }
+                        return f.sector.getArmySize();
+                    });
+            MicroBenchmark.measureFresh("addUnits, un seul tri", ARRIVALS,
+                    SectorArmyBenchmark::fixture, f -> {
+                        f.sector.addUnits(f.arrivals);
+                        return f.sector.getArmySize();
+                    });
+        } finally {
+            Sector.setStatsVerification(verification);
+        }
+    }
+
+    private record Fixture(Sector sector, List<Unit> arrivals) {
+    }
+
+    private static Fixture fixture() {
+        SplittableRandom random = new SplittableRandom(7);
+        Sector sector = new Sector(1);
+        List<Unit> units = new ArrayList<>(UNITS);
+        for (int i = 0; i < UNITS; i++) {
+            units.add(new Unit(random.nextDouble(0, 12), UnitClass.TIREUR));
+        }
+        sector.addUnits(units);
+        List<Unit> arrivals = new ArrayList<>(ARRIVALS);
+        for (int i = 0; i < ARRIVALS; i++) {
+            arrivals.add(new Unit(random.nextDouble(0, 12), UnitClass.TIREUR));
+        }
+        return new Fixture(sector, arrivals);
+    }
+}
@@ -0,0 +1,179 @@
+package com.mg.nmlonline.domain.model.sector;
+
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la tenue de l'armée d'un secteur : insertion dichotomique, retrait et
+ * mutation en masse doivent donner le même ordre et la même numérotation qu'un tri complet.
+ * Les expériences tirées au hasard sont distinctes pour que l'ordre attendu soit unique ; les
+ * égalités de rang ont leur propre test.
+ */
+@DisplayName("Sector — armée ordonnée")
+class SectorArmyTest {
+
+    private static final UnitClass[] CLASSES = {UnitClass.TIREUR, UnitClass.MASTODONTE, UnitClass.LEGER};
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Nested
+    @DisplayName("Ajouts et retraits unitaires")
+    class SingleMutationTests {
+
+        @Test
+        @DisplayName("Insertion dichotomique : même armée qu'un tri complet après chaque ajout")
+        void shouldMatchFullSortAfterEachInsert() {
+            Sector sector = new Sector(1);
+            List<Unit> added = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Unit unit = randomUnit();
+                sector.addUnit(unit);
+                added.add(unit);
+                assertArmyMatchesFullSort(sector, added);
+            }
+        }
+
+        @Test
+        @DisplayName("Unités de même rang : départagées par identifiant, sans identifiant en dernier dans l'ordre d'ajout")
+        void shouldBreakRankTiesByIdLikeFullSort() {
+            Sector sector = new Sector(1);
+            List<Unit> byId = new ArrayList<>();
+            List<Unit> added = new ArrayList<>();
+            for (long id = 1; id <= 40; id++) {
+                Unit unit = new Unit(5, UnitClass.TIREUR);
+                unit.setId(id);
+                byId.add(unit);
+                added.add(random.nextInt(added.size() + 1), unit);
+            }
+            List<Unit> withoutId = List.of(new Unit(5, UnitClass.TIREUR), new Unit(5, UnitClass.TIREUR));
+            added.addAll(withoutId);
+
+            added.forEach(sector::addUnit);
+
+            List<Unit> expected = new ArrayList<>(byId);
+            expected.addAll(withoutId);
+            assertArmyMatchesFullSort(sector, expected);
+            sector.getArmy().sort(Comparator.comparing(Unit::getId, Comparator.nullsLast(Comparator.reverseOrder())));
+            sector.sortArmy();
+            assertEquals(expected, sector.getArmy());
+        }
+
+        @Test
+        @DisplayName("Retrait : les unités suivantes du même type sont renumérotées")
+        void shouldRenumberFollowingUnitsOfSameTypeOnRemove() {
+            Sector sector = new Sector(1);
+            List<Unit> added = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Unit unit = randomUnit();
+                sector.addUnit(unit);
+                added.add(unit);
+            }
+            for (int i = 0; i < 60; i++) {
+                Unit unit = added.remove(random.nextInt(added.size()));
+                assertTrue(sector.removeUnit(unit));
+                assertArmyMatchesFullSort(sector, added);
+            }
+            assertFalse(sector.removeUnit(randomUnit()));
+        }
+
+        @Test
+        @DisplayName("Liste modifiée directement : le prochain ajout refait un tri complet")
+        void shouldFallBackToFullSortAfterDirectListChange() {
+            Sector sector = new Sector(1);
+            List<Unit> added = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Unit unit = randomUnit();
+                sector.addUnit(unit);
+                added.add(unit);
+            }
+            Unit appended = randomUnit();
+            sector.getArmy().addFirst(appended);
+            appended.setSector(sector);
+            added.add(appended);
+            sector.applyStatsDelta(List.of(), List.of(appended));
+            sector.invalidateArmyOrder();
+
+            Unit unit = randomUnit();
+            sector.addUnit(unit);
+            added.add(unit);
+
+            assertArmyMatchesFullSort(sector, added);
+        }
+    }
+
+    @Nested
+    @DisplayName("Mutation en masse")
+    class BulkMutationTests {
+
+        @Test
+        @DisplayName("updateArmy : retraits et ajouts en un passage, même résultat qu'un tri complet")
+        void shouldApplyLeavingAndEnteringInOnePass() {
+            Sector sector = new Sector(1);
+            List<Unit> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                Unit unit = randomUnit();
+                sector.addUnit(unit);
+                expected.add(unit);
+            }
+            List<Unit> leaving = new ArrayList<>(expected.subList(10, 30));
+            List<Unit> entering = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                entering.add(randomUnit());
+            }
+            expected.removeAll(leaving);
+            expected.addAll(entering);
+
+            sector.updateArmy(leaving, entering);
+
+            assertArmyMatchesFullSort(sector, expected);
+            entering.forEach(unit -> assertSame(sector, unit.getSector()));
+            SectorStats recomputed = new SectorStats();
+            recomputed.recompute(sector.getArmy(), sector.getBuildings(), sector.getCharacters(), sector.getVehicles());
+            assertTrue(sector.getStats().matches(recomputed));
+        }
+
+        @Test
+        @DisplayName("addUnits : armée triée et numérotée une seule fois")
+        void shouldSortImportedUnitsOnce() {
+            Sector sector = new Sector(1);
+            List<Unit> units = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                units.add(randomUnit());
+            }
+
+            sector.addUnits(units);
+
+            assertArmyMatchesFullSort(sector, units);
+        }
+    }
+
+    private Unit randomUnit() {
+        return new Unit(random.nextDouble(0, 12), CLASSES[random.nextInt(CLASSES.length)]);
+    }
+
+    /** L'armée du secteur est {@code units} triées comme {@link Sector#sortArmy()}, numérotées par type. */
+    private static void assertArmyMatchesFullSort(Sector sector, List<Unit> units) {
+        List<Unit> expected = new ArrayList<>(units);
+        expected.sort(Comparator.comparingDouble(Unit::getExperience).reversed());
+        List<Unit> army = sector.getArmy();
+        assertEquals(expected.size(), army.size());
+        Map<Object, Integer> counters = new HashMap<>();
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), army.get(i), "unité à l'index " + i);
+            assertEquals(counters.merge(army.get(i).getType(), 1, Integer::sum), army.get(i).getNumber(),
+                    "numéro de l'unité à l'index " + i);
+        }
+    }
+}
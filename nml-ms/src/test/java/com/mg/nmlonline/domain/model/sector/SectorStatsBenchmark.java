@@ -0,0 +1,66 @@
+package com.mg.nmlonline.domain.model.sector;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Benchmark de la tenue des statistiques lors de 1 000 déplacements d'unités entre deux
+ * secteurs de 1 000 unités : deltas ({@link Sector#applyStatsDelta}) vs recalcul complet des
+ * deux secteurs après chaque déplacement.
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=SectorStatsBenchmark}
+ */
+@DisplayName("Benchmark — statistiques de secteur")
+class SectorStatsBenchmark {
+
+    private static final int UNITS = 1_000;
+    private static final int MOVES = 1_000;
+
+    @Test
+    void compareDeltasAndFullRecompute() {
+        boolean verification = Sector.isStatsVerification();
+        Sector.setStatsVerification(false);
+        try {
+            MicroBenchmark.measureFresh("déplacement + deltas", MOVES,
+                    SectorStatsBenchmark::sectors, s -> move(s, true));
+            MicroBenchmark.measureFresh("déplacement + recalcul complet", MOVES,
+                    SectorStatsBenchmark::sectors, s -> move(s, false));
+        } finally {
+            Sector.setStatsVerification(verification);
+        }
+    }
+
+    /** Fait passer {@link #MOVES} unités du premier secteur au second. */
+    private static long move(Sector[] sectors, boolean incremental) {
+        Sector from = sectors[0];
+        Sector to = sectors[1];
+        for (int i = 0; i < MOVES; i++) {
+            Unit unit = from.getArmy().removeLast();
+            to.getArmy().add(unit);
+            if (incremental) {
+                from.applyStatsDelta(List.of(unit), List.of());
+                to.applyStatsDelta(List.of(), List.of(unit));
+            } else {
+                from.recalculateMilitaryPower();
+                to.recalculateMilitaryPower();
+            }
+        }
+        return (long) to.getStats().getGlobalStats();
+    }
+
+    private static Sector[] sectors() {
+        Sector[] sectors = {new Sector(1), new Sector(2)};
+        for (Sector sector : sectors) {
+            for (int i = 0; i < UNITS; i++) {
+                sector.getArmy().add(new Unit(i % 10, UnitClass.TIREUR));
+            }
+            sector.recalculateMilitaryPower();
+        }
+        return sectors;
+    }
+}
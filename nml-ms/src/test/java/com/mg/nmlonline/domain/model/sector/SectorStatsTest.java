@@ -0,0 +1,104 @@
+package com.mg.nmlonline.domain.model.sector;
+
+import com.mg.nmlonline.domain.model.building.Headquarters;
+import com.mg.nmlonline.domain.model.equipment.Equipment;
+import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la tenue incrémentale des statistiques d'un secteur : chaque delta doit
+ * donner le même résultat qu'un recalcul complet.
+ */
+@DisplayName("SectorStats Unit Tests")
+class SectorStatsTest {
+
+    private final boolean verification = Sector.isStatsVerification();
+
+    @AfterEach
+    void restoreVerification() {
+        Sector.setStatsVerification(verification);
+    }
+
+    @Test
+    @DisplayName("Entrées et sorties d'unités : totaux identiques à un recalcul complet")
+    void shouldMatchFullRecomputeAfterMoves() {
+        Sector from = new Sector(1);
+        Sector to = new Sector(2);
+        for (int i = 0; i < 20; i++) {
+            from.addUnit(new Unit(i % 10, UnitClass.TIREUR));
+        }
+        for (int i = 0; i < 15; i++) {
+            Unit unit = from.getArmy().getLast();
+            from.removeUnit(unit);
+            to.addUnit(unit);
+        }
+
+        assertStatsMatchRecompute(from);
+        assertStatsMatchRecompute(to);
+        assertEquals(0, new Sector(3).getStats().getGlobalStats());
+    }
+
+    @Test
+    @DisplayName("Équipement d'une unité : seul son delta est appliqué au secteur")
+    void shouldTrackEntityStatChanges() {
+        Sector sector = new Sector(1);
+        Unit unit = new Unit(5, UnitClass.TIREUR);
+        sector.addUnit(unit);
+        sector.addUnit(new Unit(8, UnitClass.TIREUR));
+        double armorBefore = sector.getStats().getTotalArmor();
+        double unitArmorBefore = unit.getArmor();
+        Equipment protection = new Equipment("Protection", 10, 0, 0, 25, 0,
+                Set.of(UnitClass.TIREUR), EquipmentCategory.DEFENSIVE);
+
+        boolean added = sector.updateEntityStats(unit, () -> unit.addEquipment(protection));
+
+        assertTrue(added);
+        assertTrue(unit.getArmor() > unitArmorBefore);
+        assertEquals(armorBefore + unit.getArmor() - unitArmorBefore, sector.getStats().getTotalArmor(), 1e-9);
+        assertStatsMatchRecompute(sector);
+    }
+
+    @Test
+    @DisplayName("Totaux non synchronisés : le premier delta repart d'un recalcul complet")
+    void shouldRecomputeOnFirstDelta() {
+        Sector sector = new Sector(1);
+        Headquarters headquarters = new Headquarters(1L);
+        sector.getBuildings().add(headquarters);
+
+        sector.addUnit(new Unit(2, UnitClass.TIREUR));
+
+        assertStatsMatchRecompute(sector);
+        assertTrue(sector.getStats().getTotalDef() >= headquarters.getDefense());
+    }
+
+    @Test
+    @DisplayName("Mode vérification : un changement hors delta est détecté")
+    void shouldDetectDivergenceInVerificationMode() {
+        Sector.setStatsVerification(true);
+        Sector sector = new Sector(1);
+        Unit unit = new Unit(5, UnitClass.TIREUR);
+        sector.addUnit(unit);
+        unit.setAttack(unit.getAttack() + 100);
+
+        assertThrows(IllegalStateException.class, () -> sector.addUnit(new Unit(1, UnitClass.TIREUR)));
+    }
+
+    private static void assertStatsMatchRecompute(Sector sector) {
+        SectorStats expected = new SectorStats();
+        expected.recompute(sector.getArmy(), sector.getBuildings(), sector.getCharacters(), sector.getVehicles());
+        SectorStats actual = sector.getStats();
+        assertTrue(actual.matches(expected), actual + " au lieu de " + expected);
+        assertEquals(expected.getGlobalStats(), actual.getGlobalStats(), 1e-6);
+        assertEquals(List.of(expected.getTotalOffensive(), expected.getTotalDefensive()),
+                List.of(actual.getTotalOffensive(), actual.getTotalDefensive()));
+    }
+}
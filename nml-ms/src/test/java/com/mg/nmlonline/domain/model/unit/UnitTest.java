@@ -1,11 +1,14 @@
 package com.mg.nmlonline.domain.model.unit;
 
+import com.mg.nmlonline.domain.model.battle.DamageType;
 import com.mg.nmlonline.domain.model.equipment.Equipment;
 import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -352,6 +355,15 @@ class UnitTest {
             assertEquals(0.0, unit.getDamageReduction("ATK"));
         }
 
+        @Test
+        @DisplayName("Libellé de dégâts inconnu : aucune réduction")
+        void shouldNotReduceUnknownDamageLabel() {
+            Unit unit = new Unit(5, UnitClass.MASTODONTE);
+
+            assertEquals(0.0, unit.getDamageReduction("LASER"));
+            assertEquals(0.0, unit.getDamageReduction((String) null));
+        }
+
         @Test
         @DisplayName("Réduction = max parmi les classes de l'unité")
         void shouldTakeMaxReductionAcrossClasses() {
@@ -362,6 +374,45 @@ class UnitTest {
             assertEquals(0.0, unit.getDamageReduction("ATK"));
         }
 
+        @Test
+        @DisplayName("Table précalculée = max des classes, pour chaque masque et chaque type de dégâts")
+        void shouldPrecomputeReductionForEveryMask() {
+            for (int mask = 0; mask < UnitClass.MASK_COUNT; mask++) {
+                EnumSet<UnitClass> classes = EnumSet.noneOf(UnitClass.class);
+                for (UnitClass unitClass : UnitClass.values()) {
+                    if ((mask & unitClass.bit()) != 0) classes.add(unitClass);
+                }
+                assertEquals(mask, UnitClass.maskOf(classes));
+                for (DamageType type : DamageType.values()) {
+                    double expected = classes.stream()
+                            .mapToDouble(c -> c.getDamageReduction(type.name()))
+                            .max()
+                            .orElse(0.0);
+                    assertEquals(expected, type.reduction(mask), classes + " / " + type);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Masque de classes et compatibilité suivent les changements de classes")
+        void shouldRefreshMasksOnClassChange() {
+            Unit unit = new Unit(5, UnitClass.TIREUR);
+            Equipment boots = new Equipment("Bottes", 10, 0, 0, 0, 10,
+                    Set.of(UnitClass.LEGER), EquipmentCategory.DEFENSIVE);
+            assertFalse(unit.canEquip(boots));
+
+            unit.addSecondClass(UnitClass.LEGER);
+            assertEquals(UnitClass.TIREUR.bit() | UnitClass.LEGER.bit(), unit.getClassMask());
+            assertTrue(unit.canEquip(boots));
+
+            boots.setCompatibleClasses(Set.of(UnitClass.SNIPER));
+            assertFalse(unit.canEquip(boots));
+
+            unit.setClasses(List.of(UnitClass.SNIPER));
+            assertTrue(unit.canEquip(boots));
+            assertEquals(0.0, unit.getDamageReduction(DamageType.PDF));
+        }
+
         @Test
         @DisplayName("Critique TIREUR défini mais jamais utilisé en combat")
         void shouldPinUnusedTireurCrit() {
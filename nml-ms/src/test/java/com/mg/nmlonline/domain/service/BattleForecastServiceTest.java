@@ -0,0 +1,139 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.api.dto.BattleForecastDto;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.equipment.Equipment;
+import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la prévision de bataille : issue exacte sans aléa, reproductibilité,
+ * plafond de simulations et absence d'effet sur les unités.
+ */
+@DisplayName("BattleForecastService Unit Tests")
+class BattleForecastServiceTest {
+
+    private Board board;
+    private Player attacker;
+    private Player defender;
+    private CombatService combatService;
+    private PlayerStatsService playerStatsService;
+
+    @BeforeEach
+    void setUp() {
+        playerStatsService = new PlayerStatsService();
+        combatService = new CombatService();
+        ReflectionTestUtils.setField(combatService, "playerStatsService", playerStatsService);
+
+        attacker = new Player("Attaquant");
+        attacker.setId(1L);
+        defender = new Player("Défenseur");
+        defender.setId(2L);
+
+        board = new Board();
+        board.addSector(new Sector(1, "Secteur 1"));
+        board.addSector(new Sector(2, "Secteur 2"));
+        board.assignOwner(1, 1L, "#FF0000");
+        board.assignOwner(2, 2L, "#0000FF");
+    }
+
+    private BattleForecastService service(int maxIterations) {
+        return new BattleForecastService(null, null, combatService, playerStatsService,
+                1000, maxIterations, 60_000);
+    }
+
+    private Unit evasive(double experience) {
+        Unit unit = new Unit(experience, UnitClass.TIREUR);
+        unit.addEquipment(new Equipment("Protection", 100, 0, 0, 0, 50,
+                Set.of(UnitClass.TIREUR), EquipmentCategory.DEFENSIVE));
+        return unit;
+    }
+
+    @Test
+    @DisplayName("Sans esquive, l'issue est certaine : victoire, pertes et centiles exacts")
+    void shouldForecastCertainOutcome() {
+        board.getSector(1).addUnit(new Unit(8, UnitClass.TIREUR));   // BRUTE 100/100
+        board.getSector(1).addUnit(new Unit(8, UnitClass.TIREUR));   // BRUTE 100/100
+        board.getSector(2).addUnit(new Unit(0, UnitClass.TIREUR));   // LARBIN 10/10
+
+        BattleForecastDto forecast = service(10_000).forecast(attacker, defender, board, 200);
+
+        assertEquals(200, forecast.getIterations());
+        assertFalse(forecast.isTruncated());
+        assertEquals(1.0, forecast.getAttackerWinProbability());
+        assertEquals(0.0, forecast.getDefenderWinProbability());
+        assertEquals(Map.of("LARBIN", 1.0), forecast.getExpectedDefenderCasualties());
+        assertEquals(Map.of("BRUTE", 0.0), forecast.getExpectedAttackerCasualties());
+        assertEquals(2, forecast.getAttackerSurvivors().getP10());
+        assertEquals(0, forecast.getDefenderSurvivors().getP90());
+    }
+
+    @Test
+    @DisplayName("Même plateau, tour et secteur : même prévision ; probabilités sommant à 1")
+    void shouldBeReproducible() {
+        for (int i = 0; i < 6; i++) {
+            board.getSector(1).addUnit(evasive(5));
+            board.getSector(2).addUnit(evasive(5));
+        }
+
+        BattleForecastDto first = service(10_000).forecast(attacker, defender, board, 3_000);
+        BattleForecastDto second = service(10_000).forecast(attacker, defender, board, 3_000);
+
+        assertEquals(first, second);
+        assertEquals(1.0, first.getAttackerWinProbability() + first.getDefenderWinProbability()
+                + first.getMutualDestructionProbability() + first.getStalemateProbability(), 1e-9);
+        assertTrue(first.getAttackerSurvivors().getP10() <= first.getAttackerSurvivors().getP50());
+        assertTrue(first.getAttackerSurvivors().getP50() <= first.getAttackerSurvivors().getP90());
+    }
+
+    @Test
+    @DisplayName("Les simulations ne modifient pas les unités")
+    void shouldNotTouchUnits() {
+        Unit attackerUnit = evasive(8);
+        Unit defenderUnit = evasive(2);
+        board.getSector(1).addUnit(attackerUnit);
+        board.getSector(2).addUnit(defenderUnit);
+        double defense = defenderUnit.getDefense();
+
+        service(10_000).forecast(attacker, defender, board, 500);
+
+        assertEquals(1, board.getSector(2).getArmySize());
+        assertEquals(defense, defenderUnit.getDefense());
+        assertFalse(defenderUnit.isInjured());
+    }
+
+    @Test
+    @DisplayName("Le nombre de simulations est plafonné, et doit être positif")
+    void shouldCapIterations() {
+        board.getSector(1).addUnit(evasive(5));
+        board.getSector(2).addUnit(evasive(5));
+
+        BattleForecastDto forecast = service(50).forecast(attacker, defender, board, 1_000);
+
+        assertEquals(50, forecast.getRequestedIterations());
+        assertEquals(50, forecast.getIterations());
+        assertThrows(IllegalArgumentException.class,
+                () -> service(50).forecast(attacker, defender, board, 0));
+    }
+
+    @Test
+    @DisplayName("Pas d'armée chez le défenseur : IllegalStateException")
+    void shouldRejectMissingArmy() {
+        board.getSector(1).addUnit(evasive(5));
+
+        assertThrows(IllegalStateException.class,
+                () -> service(10_000).forecast(attacker, defender, board, 10));
+    }
+}
@@ -0,0 +1,247 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.battle.BattleReport;
+import com.mg.nmlonline.domain.model.battle.SectorBattleReport;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.equipment.Equipment;
+import com.mg.nmlonline.domain.model.equipment.EquipmentCategory;
+import com.mg.nmlonline.domain.model.movement.DestinationConflict;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires de l'étape de batailles de fin de tour : rôles, pertes, prise de secteur
+ * et équivalence des modes séquentiel et parallèle.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BattleResolutionStage Unit Tests")
+class BattleResolutionStageTest {
+
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+    private static final long CAROL = 3L;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = newBoard(4);
+    }
+
+    private static Board newBoard(int sectors) {
+        Board board = new Board();
+        for (int i = 1; i <= sectors; i++) {
+            board.addSector(new Sector(i, "Secteur " + i));
+        }
+        board.assignOwner(1, ALICE, "#FF0000");
+        board.assignOwner(2, BOB, "#0000FF");
+        return board;
+    }
+
+    private BattleResolutionStage stage() {
+        return new BattleResolutionStage(playerRepository, new PlayerStatsService(), new BattleTraceService(100));
+    }
+
+    private void stubPlayers() {
+        Player alice = new Player("Alice");
+        alice.setId(ALICE);
+        Player bob = new Player("Bob");
+        bob.setId(BOB);
+        Player carol = new Player("Carol");
+        carol.setId(CAROL);
+        when(playerRepository.findAllById(any())).thenReturn(List.of(alice, bob, carol));
+    }
+
+    private static Unit place(Board board, int sectorNumber, long playerId, double experience) {
+        Unit unit = new Unit(experience, UnitClass.TIREUR);
+        unit.setPlayerId(playerId);
+        board.getSector(sectorNumber).addUnit(unit);
+        return unit;
+    }
+
+    @Test
+    @DisplayName("Sans secteur disputé : aucune bataille")
+    void shouldSkipUncontestedSectors() {
+        place(board, 1, ALICE, 8);
+        place(board, 3, BOB, 8);
+
+        assertTrue(stage().resolve(board, 1, List.of()).isEmpty());
+        assertEquals(1, board.getSector(3).getArmySize());
+    }
+
+    @Test
+    @DisplayName("L'attaquant anéantit le propriétaire : pertes retirées, secteur pris à sa couleur")
+    void shouldCaptureSectorFromDefeatedOwner() {
+        stubPlayers();
+        Unit brute1 = place(board, 2, ALICE, 8);
+        Unit brute2 = place(board, 2, ALICE, 8);
+        place(board, 2, BOB, 0);
+
+        List<SectorBattleReport> reports = stage().resolve(board, 1, List.of());
+
+        assertEquals(1, reports.size());
+        SectorBattleReport report = reports.getFirst();
+        assertEquals(2, report.sectorNumber());
+        assertEquals(BOB, report.previousOwnerId());
+        assertEquals(ALICE, report.ownerId());
+        assertTrue(report.isOwnerChanged());
+        BattleReport battle = report.battles().getFirst();
+        assertEquals(ALICE, battle.attackerPlayerId());
+        assertEquals(BOB, battle.defenderPlayerId());
+        assertEquals(1, battle.defendersBefore());
+        assertEquals(0, battle.defendersAfter());
+        assertEquals(2, battle.attackersAfter());
+
+        List<Unit> army = board.getSector(2).getArmy();
+        assertEquals(2, army.size());
+        assertTrue(army.stream().anyMatch(u -> u == brute1) && army.stream().anyMatch(u -> u == brute2));
+        assertEquals("#FF0000", board.getSector(2).getColor());
+        assertEquals(brute1.getAttack() + brute2.getAttack(), board.getSector(2).getStats().getTotalAtk());
+    }
+
+    @Test
+    @DisplayName("Les conflits enregistrés fixent les rôles, même sur un secteur neutre")
+    void shouldUseRecordedRoles() {
+        stubPlayers();
+        place(board, 3, ALICE, 0);
+        place(board, 3, BOB, 8);
+
+        List<SectorBattleReport> reports = stage().resolve(board, 1,
+                List.of(new DestinationConflict(3, BOB, ALICE)));
+
+        BattleReport battle = reports.getFirst().battles().getFirst();
+        assertEquals(BOB, battle.attackerPlayerId());
+        assertEquals(ALICE, battle.defenderPlayerId());
+        assertEquals(BOB, board.getSector(3).getOwnerId());
+        assertEquals("#0000FF", board.getSector(3).getColor());
+    }
+
+    @Test
+    @DisplayName("Destruction mutuelle : le propriétaire garde le secteur")
+    void shouldKeepOwnerOnMutualDestruction() {
+        stubPlayers();
+        place(board, 2, ALICE, 8);
+        place(board, 2, BOB, 8);
+
+        SectorBattleReport report = stage().resolve(board, 1, List.of()).getFirst();
+
+        assertFalse(report.isOwnerChanged());
+        assertEquals(BOB, board.getSector(2).getOwnerId());
+        assertTrue(board.getSector(2).getArmy().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Trois joueurs : une seule mêlée, un compte-rendu par attaquant")
+    void shouldResolveThreePlayersInOneMelee() {
+        stubPlayers();
+        place(board, 2, ALICE, 8);
+        place(board, 2, ALICE, 8);
+        place(board, 2, BOB, 0);
+        place(board, 2, CAROL, 0);
+
+        SectorBattleReport report = stage().resolve(board, 1, List.of()).getFirst();
+
+        assertEquals(2, report.battles().size());
+        BattleReport alice = report.battles().get(0);
+        BattleReport carol = report.battles().get(1);
+        assertEquals(BOB, alice.defenderPlayerId());
+        assertEquals(ALICE, alice.attackerPlayerId());
+        assertEquals(CAROL, carol.attackerPlayerId());
+        assertEquals(alice.battleId(), carol.battleId());
+        assertEquals(0, carol.attackersAfter());
+        assertEquals(0, alice.defendersAfter());
+        assertEquals(ALICE, report.ownerId());
+        assertEquals(2, board.getSector(2).getArmySize());
+    }
+
+    @Test
+    @DisplayName("Mêlée désactivée : combats successifs contre le détenteur")
+    void shouldFightSuccessivelyWithoutMultiParty() {
+        stubPlayers();
+        place(board, 2, ALICE, 8);
+        place(board, 2, ALICE, 8);
+        place(board, 2, BOB, 0);
+        place(board, 2, CAROL, 0);
+        BattleResolutionStage stage = stage();
+        stage.setMultiParty(false);
+
+        SectorBattleReport report = stage.resolve(board, 1, List.of()).getFirst();
+
+        // Bob défend contre Alice, qui devient détentrice et affronte Carol
+        assertEquals(2, report.battles().size());
+        BattleReport second = report.battles().get(1);
+        assertEquals(ALICE, second.defenderPlayerId());
+        assertEquals(CAROL, second.attackerPlayerId());
+        assertNotEquals(report.battles().get(0).battleId(), second.battleId());
+        assertEquals(ALICE, report.ownerId());
+    }
+
+    @Test
+    @DisplayName("Modes séquentiel et parallèle : mêmes batailles, mêmes survivants")
+    void shouldMatchSequentialAndParallelModes() {
+        Board sequential = randomContestedBoard(7);
+        Board parallel = randomContestedBoard(7);
+        stubPlayers();
+
+        BattleResolutionStage sequentialStage = stage();
+        List<SectorBattleReport> expected = sequentialStage.resolve(sequential, 3, List.of());
+        BattleResolutionStage parallelStage = stage();
+        parallelStage.setParallelResolution(true);
+        List<SectorBattleReport> actual = parallelStage.resolve(parallel, 3, List.of());
+
+        assertEquals(30, expected.size());
+        assertEquals(expected, actual);
+        for (Sector sector : sequential.getAllSectors()) {
+            assertEquals(describe(sector), describe(parallel.getSector(sector.getNumber())),
+                    "secteur " + sector.getNumber());
+        }
+    }
+
+    /** 30 secteurs disputés, escouades aléatoires avec esquive (graine fixe). */
+    private static Board randomContestedBoard(long seed) {
+        Board board = newBoard(30);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int number = 1; number <= 30; number++) {
+            for (long player : new long[]{ALICE, BOB}) {
+                int size = 1 + random.nextInt(12);
+                for (int i = 0; i < size; i++) {
+                    Unit unit = place(board, number, player, random.nextInt(10));
+                    if (random.nextBoolean()) {
+                        Equipment protection = new Equipment("Protection", 10, 0, 0, random.nextInt(40),
+                                random.nextInt(40), Set.of(UnitClass.TIREUR), EquipmentCategory.DEFENSIVE);
+                        board.getSector(number).updateEntityStats(unit, () -> unit.addEquipment(protection));
+                    }
+                }
+            }
+        }
+        return board;
+    }
+
+    /** Unités du secteur, triées : à statistiques égales, l'ordre de l'armée départage par identité. */
+    private static List<String> describe(Sector sector) {
+        return sector.getArmy().stream()
+                .map(u -> u.getPlayerId() + ":" + u.getType() + "/" + u.getDefense() + "/" + u.isInjured())
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.battle.Battle;
+import com.mg.nmlonline.domain.model.battle.CombatRandom;
+import com.mg.nmlonline.domain.model.battle.CombatTrace;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la conservation des traces de bataille.
+ */
+@DisplayName("BattleTraceService Unit Tests")
+class BattleTraceServiceTest {
+
+    private CombatTrace phaseTrace() {
+        Battle battle = new Battle(CombatRandom.seeded(1));
+        Unit unit = new Unit(0, UnitClass.TIREUR);
+        unit.setId(4L);
+        battle.classicPhaseConfiguration(new ArrayList<>(List.of(unit)), 50, "ATK");
+        return battle.getTrace();
+    }
+
+    @Test
+    @DisplayName("Rendu d'une trace enregistrée, avec son en-tête")
+    void shouldRenderRecordedTrace() {
+        BattleTraceService service = new BattleTraceService(10);
+
+        long battleId = service.record("Alice", "Bob", 3, 7, phaseTrace());
+
+        String text = service.renderTrace(battleId);
+        assertTrue(text.startsWith("Bataille " + battleId + " — Alice contre Bob (tour 3, secteur 7)"), text);
+        assertTrue(text.contains("unité #4 détruite"), text);
+    }
+
+    @Test
+    @DisplayName("Seules les dernières batailles sont conservées")
+    void shouldEvictOldestTraces() {
+        BattleTraceService service = new BattleTraceService(2);
+
+        long first = service.record("A", "B", 1, 1, phaseTrace());
+        long second = service.record("A", "B", 1, 2, phaseTrace());
+        long third = service.record("A", "B", 1, 3, phaseTrace());
+
+        assertThrows(EntityNotFoundException.class, () -> service.renderTrace(first));
+        assertNotNull(service.renderTrace(second));
+        assertNotNull(service.renderTrace(third));
+    }
+
+    @Test
+    @DisplayName("Bataille inconnue : EntityNotFoundException")
+    void shouldRejectUnknownBattle() {
+        assertThrows(EntityNotFoundException.class, () -> new BattleTraceService(10).renderTrace(42L));
+    }
+}
@@ -0,0 +1,195 @@
+package com.mg.nmlonline.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mg.nmlonline.api.dto.BoardDto;
+import com.mg.nmlonline.api.dto.SectorDto;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.BoardChangedEvent;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import com.mg.nmlonline.mapper.BoardMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests d'intégration de {@link BoardSnapshotService} : instantané stable entre deux commits,
+ * périmé par une écriture commitée, republié après une fin de tour, et servi sans attendre
+ * une transaction qui tient le verrou du plateau.
+ *
+ * <p>Données fournies par {@code PlayerStartupImporter} au démarrage du profil {@code test}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("BoardSnapshotService — instantané des plateaux servi depuis la mémoire")
+class BoardSnapshotServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @Autowired
+    private BoardSnapshotService boardSnapshotService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private TurnService turnService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    @DisplayName("Sans écriture commitée : même instantané, même version")
+    void shouldServeSameSnapshotWithoutChanges() {
+        BoardSnapshotService.BoardSnapshot first = boardSnapshotService.getFirst().orElseThrow();
+        BoardSnapshotService.BoardSnapshot second = boardSnapshotService.getFirst().orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(first.version(), first.board().getVersion());
+        assertSame(first, boardSnapshotService.getById(first.boardId()).orElseThrow());
+        assertSame(first, boardSnapshotService.getByName(first.name()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Propriétaire de secteur changé : nouvelle version, secteur rangé chez son propriétaire")
+    void shouldRepublishAfterCommittedWrite() {
+        BoardSnapshotService.BoardSnapshot before = boardSnapshotService.getFirst().orElseThrow();
+        Player player = playerRepository.findAll().getFirst();
+        SectorDto sector = before.board().getSectors().values().stream()
+                .filter(s -> !player.getId().equals(s.getOwnerId()))
+                .findFirst()
+                .orElseThrow();
+
+        try {
+            assertTrue(boardService.assignOwnerToSector(before.boardId(), sector.getNumber(), player.getId(), "#123456"));
+
+            BoardSnapshotService.BoardSnapshot after = boardSnapshotService.getFirst().orElseThrow();
+            assertTrue(after.version() > before.version());
+            assertEquals(player.getId(), after.board().getSectors().get(sector.getNumber()).getOwnerId());
+            assertTrue(after.sectorsOf(player.getId()).stream().anyMatch(s -> s.getNumber().equals(sector.getNumber())));
+        } finally {
+            boardService.assignOwnerToSector(before.boardId(), sector.getNumber(), sector.getOwnerId(), sector.getColor());
+        }
+    }
+
+    @Test
+    @DisplayName("Plusieurs entités écrites dans une transaction : un seul BoardChangedEvent")
+    void shouldPublishOneChangePerTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Board board = boardRepository.findFirstByOrderByIdAsc().orElseThrow();
+            board.getAllSectors().stream().limit(3).forEach(sector -> sector.setName(sector.getName() + " (modifié)"));
+            boardRepository.saveAndFlush(board);
+            board.getAllSectors().stream().limit(3).forEach(sector -> sector.setName(sector.getName() + " bis"));
+            boardRepository.saveAndFlush(board);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, applicationEvents.stream(BoardChangedEvent.class).count());
+    }
+
+    @Test
+    @DisplayName("Redémarrage sur un autre contenu : même numéro de version, ETag différent")
+    void shouldNotReuseEtagAcrossRestarts() {
+        BoardSnapshotService.BoardSnapshot before = freshService("Avant redéploiement").getFirst().orElseThrow();
+        BoardSnapshotService.BoardSnapshot after = freshService("Après redéploiement").getFirst().orElseThrow();
+
+        assertEquals(before.version(), after.version());
+        assertNotEquals(before.etag(false), after.etag(false));
+        assertNotEquals(before.etag(true), after.etag(true));
+        assertEquals(before.etag(false), freshService("Avant redéploiement").getFirst().orElseThrow().etag(false));
+    }
+
+    @Test
+    @DisplayName("Fin de tour : instantané republié après le commit, sans reconstruction à la lecture suivante")
+    void shouldRepublishAfterTurn() {
+        BoardSnapshotService.BoardSnapshot before = boardSnapshotService.getFirst().orElseThrow();
+
+        int turn = turnService.advanceTurn();
+
+        BoardSnapshotService.BoardSnapshot after = boardSnapshotService.getFirst().orElseThrow();
+        assertEquals(turn, after.currentTurn());
+        assertTrue(after.version() > before.version());
+        assertSame(after, boardSnapshotService.getFirst().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Plateau verrouillé par une transaction en cours : le lecteur reçoit l'instantané commité sans attendre")
+    void shouldNotBlockOnLockedBoard() throws Exception {
+        BoardSnapshotService.BoardSnapshot before = boardSnapshotService.getFirst().orElseThrow();
+        Sector sector = transactionTemplate.execute(status -> boardRepository.findById(before.boardId())
+                .orElseThrow().getAllSectors().iterator().next());
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            Board board = boardRepository.findFirstByOrderByIdAsc().orElseThrow();
+            board.getSector(sector.getNumber()).setName("Pendant le tour");
+            boardRepository.saveAndFlush(board);
+            locked.countDown();
+            try {
+                assertTrue(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            status.setRollbackOnly();
+        }));
+        try {
+            assertTrue(locked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            BoardSnapshotService.BoardSnapshot during = CompletableFuture
+                    .supplyAsync(() -> boardSnapshotService.getFirst().orElseThrow())
+                    .get(5, TimeUnit.SECONDS);
+
+            assertSame(before, during);
+            assertEquals(sector.getName(), during.board().getSectors().get(sector.getNumber()).getName());
+        } finally {
+            release.countDown();
+            writer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Service neuf (compteur de versions à zéro, comme après un démarrage) sur un plateau nommé {@code name}. */
+    private BoardSnapshotService freshService(String name) {
+        Board board = new Board();
+        board.setId(1L);
+        board.setName(name);
+        BoardDto dto = new BoardDto();
+        dto.setId(1L);
+        dto.setName(name);
+        BoardRepository repository = mock(BoardRepository.class);
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(board));
+        BoardMapper mapper = mock(BoardMapper.class);
+        when(mapper.toDto(board)).thenReturn(dto);
+        return new BoardSnapshotService(repository, mapper, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), true);
+    }
+}
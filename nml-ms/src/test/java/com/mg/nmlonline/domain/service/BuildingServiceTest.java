@@ -1,5 +1,6 @@
 package com.mg.nmlonline.domain.service;
 
+import com.mg.nmlonline.domain.model.board.Board;
 import com.mg.nmlonline.domain.model.building.Bank;
 import com.mg.nmlonline.domain.model.building.Building;
 import com.mg.nmlonline.domain.model.building.BuildingType;
@@ -293,6 +294,63 @@ class BuildingServiceTest {
             verify(buildingRepository).save(cache);
         }
 
+        @Test
+        @DisplayName("Déplacement par un chemin allié : accepté")
+        void shouldMoveAlongAlliedRoute() {
+            Board board = alliedChainBoard();
+            WeaponCache cache = new WeaponCache(1L);
+            cache.setSector(board.getSector(1));
+            when(buildingRepository.findById(50L)).thenReturn(Optional.of(cache));
+            when(boardService.getSectorFromBoard(100L, 3)).thenReturn(Optional.of(board.getSector(3)));
+
+            assertTrue(buildingService.moveBuilding(50L, 100L, 3, 10));
+            assertSame(board.getSector(3), cache.getSector());
+        }
+
+        @Test
+        @DisplayName("Cible alliée mais territoire coupé par un secteur ennemi → IllegalStateException")
+        void shouldThrowWhenNoAlliedRoute() {
+            Board board = alliedChainBoard();
+            board.getSector(2).setOwnerId(99L);
+            WeaponCache cache = new WeaponCache(1L);
+            cache.setSector(board.getSector(1));
+            when(buildingRepository.findById(50L)).thenReturn(Optional.of(cache));
+            when(boardService.getSectorFromBoard(100L, 3)).thenReturn(Optional.of(board.getSector(3)));
+
+            assertThrows(IllegalStateException.class,
+                    () -> buildingService.moveBuilding(50L, 100L, 3, 10));
+            assertSame(board.getSector(1), cache.getSector());
+            verify(buildingRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Bâtiment dans un secteur capturé : il peut rejoindre le territoire allié")
+        void shouldMoveOutOfCapturedSector() {
+            Board board = alliedChainBoard();
+            board.getSector(1).setOwnerId(99L);
+            WeaponCache cache = new WeaponCache(1L);
+            cache.setSector(board.getSector(1));
+            when(buildingRepository.findById(50L)).thenReturn(Optional.of(cache));
+            when(boardService.getSectorFromBoard(100L, 3)).thenReturn(Optional.of(board.getSector(3)));
+
+            assertTrue(buildingService.moveBuilding(50L, 100L, 3, 10));
+            assertSame(board.getSector(3), cache.getSector());
+        }
+
+        /** Chaîne 1 - 2 - 3 entièrement possédée par le joueur 1. */
+        private Board alliedChainBoard() {
+            Board board = new Board();
+            for (int i = 1; i <= 3; i++) {
+                board.addSector(new Sector(i, "Secteur " + i));
+                board.assignOwner(i, 1L, "#FF0000");
+            }
+            for (int i = 1; i < 3; i++) {
+                board.getSector(i).addNeighbor(i + 1);
+                board.getSector(i + 1).addNeighbor(i);
+            }
+            return board;
+        }
+
         @Test
         @DisplayName("Déplacement de la banque la marque comme déplacée")
         void shouldMarkBankAsMoved() {
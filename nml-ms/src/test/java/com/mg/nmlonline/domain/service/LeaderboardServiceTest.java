@@ -0,0 +1,114 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.api.dto.LeaderboardDto;
+import com.mg.nmlonline.api.dto.LeaderboardEntryDto;
+import com.mg.nmlonline.domain.model.player.Player;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import com.mg.nmlonline.infrastructure.repository.SectorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration de {@link LeaderboardService} : les écritures de joueurs et de secteurs
+ * commitées par les services habituels mettent les classements à jour sans rechargement.
+ *
+ * <p>Données fournies par {@code PlayerStartupImporter} au démarrage du profil {@code test}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("LeaderboardService — classements tenus à jour par les événements")
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private SectorRepository sectorRepository;
+
+    @Test
+    @DisplayName("Statistiques d'un joueur sauvegardées : nouveau rang sans rechargement")
+    void shouldRankPlayerAfterStatsSaved() {
+        leaderboardService.reload();
+        Player player = playerRepository.findAll().getFirst();
+        double originalPower = player.getStats().getGlobalPower();
+
+        try {
+            player.getStats().setGlobalPower(1e12);
+            playerService.save(player);
+
+            LeaderboardDto dto = leaderboardService.leaderboard("global_power", 3, 1, player.getUserId());
+            LeaderboardEntryDto first = dto.getTop().getFirst();
+            assertEquals(player.getId(), first.getPlayerId());
+            assertEquals(1e12, first.getScore());
+            assertEquals(playerRepository.count(), dto.getTotalPlayers());
+            if (player.getUserId() != null) {
+                assertEquals(1, dto.getMyRank());
+                assertEquals(player.getId(), dto.getAround().getFirst().getPlayerId());
+            }
+        } finally {
+            Player reloaded = playerRepository.findById(player.getId()).orElseThrow();
+            reloaded.getStats().setGlobalPower(originalPower);
+            playerService.save(reloaded);
+        }
+        assertNotEquals(1e12, leaderboardService.leaderboard("global_power", 1, 0, null).getTop().getFirst().getScore());
+    }
+
+    @Test
+    @DisplayName("Secteur qui change de propriétaire : territoire mis à jour")
+    void shouldMoveTerritoryWhenSectorChangesOwner() {
+        leaderboardService.reload();
+        Long boardId = boardRepository.findAll().getFirst().getId();
+        Player player = playerRepository.findAll().getFirst();
+        Sector sector = sectorRepository.findAll().stream()
+                .filter(s -> !player.getId().equals(s.getOwnerId()))
+                .findFirst()
+                .orElseThrow();
+        Long previousOwner = sector.getOwnerId();
+        String previousColor = sector.getColor();
+        int before = territoryOf(player.getId());
+
+        try {
+            assertTrue(boardService.assignOwnerToSector(boardId, sector.getNumber(), player.getId(), "#123456"));
+            assertEquals(before + 1, territoryOf(player.getId()));
+        } finally {
+            boardService.assignOwnerToSector(boardId, sector.getNumber(), previousOwner, previousColor);
+        }
+        assertEquals(before, territoryOf(player.getId()));
+    }
+
+    @Test
+    @DisplayName("Critère inconnu ou limite hors bornes : IllegalArgumentException")
+    void shouldRejectInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> leaderboardService.leaderboard("charisme", 10, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> leaderboardService.leaderboard("income", 0, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> leaderboardService.leaderboard("income", 10, -1, null));
+    }
+
+    private int territoryOf(Long playerId) {
+        LeaderboardDto dto = leaderboardService.leaderboard("territory", 100, 0, null);
+        return dto.getTop().stream()
+                .filter(entry -> entry.getPlayerId().equals(playerId))
+                .mapToInt(entry -> (int) entry.getScore())
+                .findFirst()
+                .orElse(0);
+    }
+}
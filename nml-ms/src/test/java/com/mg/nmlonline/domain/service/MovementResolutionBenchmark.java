@@ -0,0 +1,175 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.benchmark.MicroBenchmark;
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.movement.MovementOrder;
+import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import com.mg.nmlonline.infrastructure.repository.MovementOrderRepository;
+import com.mg.nmlonline.infrastructure.repository.VehicleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de la résolution des mouvements en fin de tour.
+ *
+ * <ul>
+ *   <li>Détection des croisements : regroupement par arête orientée vs ancienne comparaison
+ *       de toutes les paires d'ordres (10 000 ordres).</li>
+ *   <li>Résolution complète de 100 000 ordres à pied sur une grille de 10 000 secteurs,
+ *       dépôts simulés par Mockito, en mode séquentiel puis parallèle.</li>
+ * </ul>
+ *
+ * <p>Lancement : {@code ./mvnw test -Dtest=MovementResolutionBenchmark}
+ */
+@DisplayName("Benchmark — résolution des mouvements")
+class MovementResolutionBenchmark {
+
+    private static final int GRID_SIDE = 100;
+    private static final int PLAYERS = 8;
+
+    @Test
+    void compareCrossingDetection() {
+        Scenario scenario = Scenario.build(GRID_SIDE, 10_000, 1);
+        Map<Long, Integer> positions = new HashMap<>();
+        for (MovementOrder order : scenario.orders) {
+            positions.put(order.getId(), order.getFromSectorNumber());
+        }
+        Set<Long> stopped = Set.of();
+
+        assertEquals(legacyDetectStepCrossings(scenario.orders, stopped, positions, 1),
+                MovementService.detectStepCrossings(scenario.orders, stopped, positions, 1));
+
+        MicroBenchmark.measure("croisements par arête (10 000 ordres)", scenario.orders.size(),
+                () -> MovementService.detectStepCrossings(scenario.orders, stopped, positions, 1).size());
+        MicroBenchmark.measure("croisements par paires historique (10 000 ordres)", scenario.orders.size(),
+                () -> legacyDetectStepCrossings(scenario.orders, stopped, positions, 1).size());
+    }
+
+    @Test
+    void resolveHundredThousandOrders() {
+        int orders = 100_000;
+        MicroBenchmark.measureFresh("resolveAllMovements (100 000 ordres, 10 000 secteurs)", orders,
+                () -> Scenario.build(GRID_SIDE, orders, 2),
+                scenario -> {
+                    MovementResolutionResult result = scenario.service().resolveAllMovements(1, scenario.board);
+                    return result.getResolved().size() + result.getConflicts().size();
+                });
+        MicroBenchmark.measureFresh("resolveAllMovements parallèle (100 000 ordres, 10 000 secteurs)", orders,
+                () -> Scenario.build(GRID_SIDE, orders, 2),
+                scenario -> {
+                    MovementService service = scenario.service();
+                    service.setParallelResolution(true);
+                    MovementResolutionResult result = service.resolveAllMovements(1, scenario.board);
+                    return result.getResolved().size() + result.getConflicts().size();
+                });
+    }
+
+    /**
+     * Plateau en grille, une unité par ordre, routes de 1 à 3 sauts tirées au hasard.
+     */
+    static final class Scenario {
+        final Board board;
+        final List<MovementOrder> orders;
+
+        private Scenario(Board board, List<MovementOrder> orders) {
+            this.board = board;
+            this.orders = orders;
+        }
+
+        static Scenario build(int side, int orderCount, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            Board board = new Board();
+            for (int i = 1; i <= side * side; i++) {
+                board.addSector(new Sector(i));
+            }
+            for (int row = 0; row < side; row++) {
+                for (int col = 0; col < side; col++) {
+                    int number = row * side + col + 1;
+                    if (col < side - 1) link(board, number, number + 1);
+                    if (row < side - 1) link(board, number, number + side);
+                }
+            }
+
+            List<MovementOrder> orders = new ArrayList<>(orderCount);
+            for (int i = 0; i < orderCount; i++) {
+                long playerId = 1 + random.nextInt(PLAYERS);
+                int start = 1 + random.nextInt(side * side);
+                Unit unit = new Unit(5.0, UnitClass.ELEMENTAIRE);
+                unit.setId((long) i + 1);
+                unit.setPlayerId(playerId);
+                Sector sector = board.getSector(start);
+                unit.setSector(sector);
+                sector.getArmy().add(unit);
+
+                List<Integer> route = new ArrayList<>();
+                route.add(start);
+                int hops = 1 + random.nextInt(3);
+                for (int h = 0; h < hops; h++) {
+                    List<Integer> neighbors = board.getSector(route.getLast()).getNeighbors();
+                    route.add(neighbors.get(random.nextInt(neighbors.size())));
+                }
+                MovementOrder order = MovementOrder.createFootOrder(playerId, 1, List.of(unit.getId()), route);
+                order.setId((long) i + 1);
+                orders.add(order);
+            }
+            return new Scenario(board, orders);
+        }
+
+        private static void link(Board board, int a, int b) {
+            board.getSector(a).addNeighbor(b);
+            board.getSector(b).addNeighbor(a);
+        }
+
+        MovementService service() {
+            MovementOrderRepository orderRepository = mock(MovementOrderRepository.class);
+            when(orderRepository.findPendingByTurn(1)).thenReturn(orders);
+            when(orderRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+            return new MovementService(orderRepository, mock(VehicleRepository.class));
+        }
+    }
+
+    /** Copie de l'implémentation historique de {@code MovementService.detectStepCrossings}. */
+    private static Set<Long> legacyDetectStepCrossings(List<MovementOrder> orders, Set<Long> stoppedIds,
+                                                       Map<Long, Integer> currentPositions, int step) {
+        Set<Long> crossingIds = new HashSet<>();
+        List<MovementOrder> active = orders.stream()
+                .filter(o -> !stoppedIds.contains(o.getId()))
+                .filter(o -> o.getRoute().size() > step)
+                .toList();
+
+        for (int i = 0; i < active.size(); i++) {
+            for (int j = i + 1; j < active.size(); j++) {
+                MovementOrder a = active.get(i);
+                MovementOrder b = active.get(j);
+                if (a.getPlayerId().equals(b.getPlayerId())) continue;
+
+                int aNext = a.getRoute().get(step);
+                int bNext = b.getRoute().get(step);
+                int aCurr = currentPositions.get(a.getId());
+                int bCurr = currentPositions.get(b.getId());
+
+                if (aNext == bCurr && bNext == aCurr) {
+                    crossingIds.add(a.getId());
+                    crossingIds.add(b.getId());
+                }
+            }
+        }
+        return crossingIds;
+    }
+}
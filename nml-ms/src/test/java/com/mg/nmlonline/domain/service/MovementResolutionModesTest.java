@@ -0,0 +1,59 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.movement.MovementOrder;
+import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Le mode parallèle de {@link MovementService#resolveAllMovements} doit produire exactement le
+ * même résultat que le mode séquentiel : conflits dans le même ordre, mêmes ordres résolus,
+ * mêmes positions et mêmes listes d'armée.
+ */
+@DisplayName("Résolution des mouvements : modes séquentiel et parallèle")
+class MovementResolutionModesTest {
+
+    @ParameterizedTest(name = "graine {0}")
+    @ValueSource(longs = {1, 2, 3})
+    @DisplayName("Les deux modes produisent un résultat identique")
+    void shouldProduceIdenticalResults(long seed) {
+        MovementResolutionBenchmark.Scenario sequential = MovementResolutionBenchmark.Scenario.build(20, 4_000, seed);
+        MovementResolutionBenchmark.Scenario parallel = MovementResolutionBenchmark.Scenario.build(20, 4_000, seed);
+
+        MovementResolutionResult expected = sequential.service().resolveAllMovements(1, sequential.board);
+        MovementService parallelService = parallel.service();
+        parallelService.setParallelResolution(true);
+        MovementResolutionResult actual = parallelService.resolveAllMovements(1, parallel.board);
+
+        assertEquals(expected.getConflicts(), actual.getConflicts());
+        assertEquals(orderIds(expected.getResolved()), orderIds(actual.getResolved()));
+        assertEquals(orderIds(expected.getBlocked()), orderIds(actual.getBlocked()));
+        assertEquals(armies(sequential), armies(parallel));
+    }
+
+    private static List<Long> orderIds(List<MovementOrder> orders) {
+        return orders.stream().map(MovementOrder::getId).toList();
+    }
+
+    /** Identifiants des unités de chaque secteur, dans l'ordre des listes, et secteur de chaque unité. */
+    private static List<String> armies(MovementResolutionBenchmark.Scenario scenario) {
+        List<String> armies = new ArrayList<>();
+        for (Sector sector : scenario.board.getAllSectors()) {
+            StringBuilder line = new StringBuilder().append(sector.getNumber()).append(':');
+            for (Unit unit : sector.getArmy()) {
+                line.append(unit.getId()).append('@').append(unit.getSector().getNumber()).append(',');
+            }
+            line.append(sector.getStats().getTotalAtk());
+            armies.add(line.toString());
+        }
+        return armies;
+    }
+}
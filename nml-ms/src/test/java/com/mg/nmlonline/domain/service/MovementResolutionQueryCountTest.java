@@ -0,0 +1,107 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.movement.MovementOrder;
+import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.domain.model.unit.Unit;
+import com.mg.nmlonline.domain.model.unit.UnitClass;
+import com.mg.nmlonline.domain.model.vehicle.Vehicle;
+import com.mg.nmlonline.domain.model.vehicle.VehicleType;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Nombre de requêtes SQL d'une résolution de tour, mesuré via les statistiques Hibernate.
+ *
+ * <p>Les véhicules (pilote et passagers compris) sont préchargés en une requête et les routes
+ * des ordres sont chargées avec les ordres : le nombre de requêtes ne dépend que des secteurs
+ * touchés, pas du nombre d'ordres.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MovementService — requêtes bornées pendant la résolution")
+class MovementResolutionQueryCountTest {
+
+    @Autowired
+    private MovementService movementService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Le nombre de requêtes ne croît pas avec le nombre d'ordres véhicule")
+    void queryCountIsIndependentOfOrderCount() {
+        long fewOrders = countResolutionQueries(9_001, 2);
+        long manyOrders = countResolutionQueries(9_002, 12);
+
+        assertEquals(fewOrders, manyOrders,
+                "2 ordres : " + fewOrders + " requêtes, 12 ordres : " + manyOrders + " requêtes");
+    }
+
+    /**
+     * Crée {@code vehicles} véhicules pilotés sur un même secteur, un ordre par véhicule vers
+     * un même voisin, puis compte les requêtes émises par {@code resolveAllMovements}.
+     */
+    private long countResolutionQueries(int turn, int vehicles) {
+        Board board = boardRepository.findAll().getFirst();
+        Long playerId = playerRepository.findAll().getFirst().getId();
+        Sector from = board.getSectorsList().stream()
+                .filter(s -> !s.getNeighbors().isEmpty())
+                .findFirst()
+                .orElseThrow();
+        int to = from.getNeighbors().getFirst();
+
+        for (int i = 0; i < vehicles; i++) {
+            Unit pilot = new Unit(10.0, UnitClass.PILOTE_DESTRUCTEUR);
+            pilot.setPlayerId(playerId);
+            entityManager.persist(pilot);
+
+            Vehicle vehicle = new Vehicle(VehicleType.VTT_LEGER, playerId);
+            vehicle.assignPilot(pilot);
+            vehicle.setSector(from);
+            entityManager.persist(vehicle);
+
+            entityManager.persist(MovementOrder.createVehicleOrder(
+                    playerId, turn, vehicle.getId(), List.of(from.getNumber(), to)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Board fresh = boardRepository.findById(board.getId()).orElseThrow();
+        statistics.clear();
+
+        MovementResolutionResult result = movementService.resolveAllMovements(turn, fresh);
+        long queries = statistics.getPrepareStatementCount();
+
+        assertEquals(vehicles, result.getResolved().size());
+        entityManager.flush();
+        entityManager.clear();
+        return queries;
+    }
+}
@@ -0,0 +1,100 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.movement.MovementOrder;
+import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import com.mg.nmlonline.infrastructure.repository.MovementOrderRepository;
+import com.mg.nmlonline.infrastructure.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests ciblés du rejet des routes non contiguës (validation saut par saut), à la pose de
+ * l'ordre et à la résolution du tour. Isolation Mockito — aucun contexte Spring.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementService — routes non contiguës")
+class MovementServicePlaceOrderTest {
+
+    @Mock
+    MovementOrderRepository orderRepository;
+
+    @Mock
+    VehicleRepository vehicleRepository;
+
+    @InjectMocks
+    MovementService service;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        // Chaîne 1 - 2 - 3 - 4
+        board = new Board();
+        for (int i = 1; i <= 4; i++) {
+            board.addSector(new Sector(i));
+        }
+        for (int i = 1; i < 4; i++) {
+            board.getSector(i).addNeighbor(i + 1);
+            board.getSector(i + 1).addNeighbor(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Ordre à pied : destination à 3 sauts avec une route de 2 → rejet")
+    void shouldRejectFootOrderOutOfRange() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.placeFootOrder(1L, 1, List.of(1L), List.of(1, 2, 4), board));
+
+        assertTrue(ex.getMessage().contains("non adjacents"));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Ordre véhicule : destination non reliée → rejet sans charger le véhicule")
+    void shouldRejectVehicleOrderToUnreachableSector() {
+        board.addSector(new Sector(5));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.placeVehicleOrder(1L, 1, 3L, List.of(4, 5), board));
+
+        assertTrue(ex.getMessage().contains("non adjacents"));
+        verifyNoInteractions(vehicleRepository);
+    }
+
+    @Test
+    @DisplayName("Destination atteignable mais route non contiguë → rejet")
+    void shouldStillRejectNonContiguousRoute() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.placeFootOrder(1L, 1, List.of(1L), List.of(1, 3, 2), board));
+
+        assertTrue(ex.getMessage().contains("non adjacents"));
+    }
+
+    @Test
+    @DisplayName("Résolution : ordre à pied dont la route n'est plus contiguë → bloqué")
+    void shouldBlockFootOrderWithBrokenRouteAtResolution() {
+        MovementOrder order = MovementOrder.createFootOrder(1L, 1, List.of(1L), List.of(1, 2, 3));
+        order.setId(1L);
+        when(orderRepository.findPendingByTurn(1)).thenReturn(List.of(order));
+        board.getSector(2).removeNeighbor(3);
+
+        MovementResolutionResult result = service.resolveAllMovements(1, board);
+
+        assertEquals(List.of(order), result.getBlocked());
+        assertTrue(result.getResolved().isEmpty());
+        assertTrue(order.getStatusMessage().contains("non adjacents"));
+    }
+}
@@ -3,6 +3,7 @@ package com.mg.nmlonline.domain.service;
 import com.mg.nmlonline.domain.model.board.Board;
 import com.mg.nmlonline.domain.model.movement.MovementOrder;
 import com.mg.nmlonline.domain.model.movement.MovementResolutionResult;
+import com.mg.nmlonline.domain.model.movement.MovementStatus;
 import com.mg.nmlonline.domain.model.sector.Sector;
 import com.mg.nmlonline.domain.model.unit.Unit;
 import com.mg.nmlonline.domain.model.unit.UnitClass;
@@ -19,7 +20,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -154,7 +154,7 @@ class MovementSimulationTest {
         ordreC.setId(2L);
 
         when(orderRepository.findPendingByTurn(1)).thenReturn(List.of(ordreA, ordreC));
-        when(vehicleRepository.findById(VEHICULE_C_ID)).thenReturn(Optional.of(vehiculeC));
+        when(vehicleRepository.findAllWithCrewByOrderTurnAndStatus(1, MovementStatus.PENDING)).thenReturn(List.of(vehiculeC));
 
         /*
          * === DÉROULEMENT STEP 1 ===
@@ -289,7 +289,7 @@ class MovementSimulationTest {
         ordreC.setId(1L);
 
         when(orderRepository.findPendingByTurn(1)).thenReturn(List.of(ordreC));
-        when(vehicleRepository.findById(VEHICULE_C_ID)).thenReturn(Optional.of(vehiculeC));
+        when(vehicleRepository.findAllWithCrewByOrderTurnAndStatus(1, MovementStatus.PENDING)).thenReturn(List.of(vehiculeC));
 
         MovementResolutionResult resultat = service.resolveAllMovements(1, board);
 
@@ -312,4 +312,83 @@ class MovementSimulationTest {
         assertTrue(resultat.getTransitCombats().isEmpty(),
                 "Pas de combat de transit attendu (secteur intermédiaire vide)");
     }
+
+    @Test
+    @DisplayName("Croisement A⇄B : pas de combat entre les croiseurs, positions échangées")
+    void shouldLetEnemiesCrossWithoutConflict() {
+        /*
+         *   [1:A] ── [2:B]
+         *   Joueur A : 1 → 2, Joueur B : 2 → 1 au même step.
+         *   Les deux ordres empruntent la même arête en sens inverse : croisement, aucun conflit.
+         */
+        MovementOrder ordreA = MovementOrder.createFootOrder(JOUEUR_A, 1, List.of(UNITE_A_ID), List.of(1, 2));
+        ordreA.setId(1L);
+        MovementOrder ordreB = MovementOrder.createFootOrder(JOUEUR_B, 1, List.of(UNITE_B_ID), List.of(2, 1));
+        ordreB.setId(2L);
+
+        when(orderRepository.findPendingByTurn(1)).thenReturn(List.of(ordreA, ordreB));
+
+        MovementResolutionResult resultat = service.resolveAllMovements(1, board);
+
+        assertTrue(resultat.getConflicts().isEmpty(), "Les croiseurs ne se combattent pas");
+        assertEquals(2, resultat.getResolved().size());
+        assertEquals(secteur2, uniteA.getSector());
+        assertEquals(secteur1, uniteB.getSector());
+    }
+
+    @Test
+    @DisplayName("Croisement avec un allié du même joueur : ce n'est pas un croisement ennemi")
+    void shouldNotTreatSamePlayerSwapAsCrossing() {
+        /*
+         *   Deux unités du joueur B échangent 2 ⇄ 3 pendant que A entre en 2.
+         *   L'échange interne à B n'est pas un croisement : l'unité de B qui arrive en 2
+         *   reste un arrivant non-croiseur et affronte A.
+         */
+        Unit uniteB2 = new Unit(5.0, UnitClass.ELEMENTAIRE);
+        uniteB2.setId(103L);
+        uniteB2.setPlayerId(JOUEUR_B);
+        uniteB2.setSector(secteur3);
+        secteur3.getArmy().add(uniteB2);
+
+        MovementOrder ordreA = MovementOrder.createFootOrder(JOUEUR_A, 1, List.of(UNITE_A_ID), List.of(1, 2));
+        ordreA.setId(1L);
+        MovementOrder ordreB = MovementOrder.createFootOrder(JOUEUR_B, 1, List.of(UNITE_B_ID), List.of(2, 3));
+        ordreB.setId(2L);
+        MovementOrder ordreB2 = MovementOrder.createFootOrder(JOUEUR_B, 1, List.of(103L), List.of(3, 2));
+        ordreB2.setId(3L);
+
+        when(orderRepository.findPendingByTurn(1)).thenReturn(List.of(ordreA, ordreB, ordreB2));
+
+        MovementResolutionResult resultat = service.resolveAllMovements(1, board);
+
+        assertTrue(resultat.getConflicts().stream().anyMatch(c ->
+                c.sectorNumber() == 2
+                        && ((c.attackerPlayerId().equals(JOUEUR_A) && c.defenderPlayerId().equals(JOUEUR_B))
+                        || (c.attackerPlayerId().equals(JOUEUR_B) && c.defenderPlayerId().equals(JOUEUR_A)))),
+                "A et B arrivent tous deux en secteur 2 : conflit attendu");
+    }
+
+    @Test
+    @DisplayName("Route multi-step : seule la position finale est reportée, stats recalculées")
+    void shouldApplyOnlyFinalPositionAfterMultiStepRoute() {
+        /*
+         *   Joueur A : 1 → 2 → 3 (traverse le secteur de B).
+         *   Au terme de la résolution, A est en 3, le secteur 2 ne contient que B.
+         */
+        MovementOrder ordreA = MovementOrder.createFootOrder(JOUEUR_A, 1, List.of(UNITE_A_ID), List.of(1, 2, 3));
+        ordreA.setId(1L);
+
+        when(orderRepository.findPendingByTurn(1)).thenReturn(List.of(ordreA));
+
+        MovementResolutionResult resultat = service.resolveAllMovements(1, board);
+
+        assertEquals(1, resultat.getResolved().size());
+        assertEquals(secteur3, uniteA.getSector());
+        assertTrue(secteur1.getArmy().isEmpty());
+        assertEquals(List.of(uniteB), secteur2.getArmy());
+        assertEquals(List.of(uniteA), secteur3.getArmy());
+        assertEquals(0.0, secteur1.getStats().getTotalAtk());
+        assertEquals(uniteB.getAttack(), secteur2.getStats().getTotalAtk());
+        assertEquals(uniteA.getAttack(), secteur3.getStats().getTotalAtk());
+    }
 }
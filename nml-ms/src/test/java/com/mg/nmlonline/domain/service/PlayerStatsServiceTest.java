@@ -1,6 +1,7 @@
 package com.mg.nmlonline.domain.service;
 
 import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.board.PlayerStatsAggregator;
 import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.domain.model.sector.Sector;
 import com.mg.nmlonline.domain.model.unit.Unit;
@@ -202,4 +203,57 @@ class PlayerStatsServiceTest {
             assertEquals(1, statsService.getSectorsWithCombatEntities(player, board).getFirst().getNumber());
         }
     }
+
+    @Nested
+    @DisplayName("Totaux en cache")
+    class CachedTotalsTests {
+
+        @Test
+        @DisplayName("Un seul balayage pour tous les joueurs, réutilisé tant que rien ne change")
+        void shouldReuseTotalsUntilContentChanges() {
+            own(1);
+            board.assignOwner(2, 2L, "#0000FF");
+            board.getSector(1).addUnit(new Unit(8, UnitClass.TIREUR));
+            board.getSector(2).addUnit(new Unit(5, UnitClass.TIREUR));
+
+            PlayerStatsAggregator totals = board.playerStats();
+
+            assertSame(totals, board.playerStats());
+            assertEquals(100.0, totals.of(1L).totalAtk());
+            assertEquals(50.0, totals.of(2L).totalAtk());
+            assertEquals(0.0, totals.of(3L).totalAtk());
+        }
+
+        @Test
+        @DisplayName("Entrée d'unité, changement de propriétaire ou de revenu : totaux recalculés")
+        void shouldInvalidateOnSectorChanges() {
+            own(1);
+            statsService.recalculateStats(player, board);
+
+            board.getSector(1).addUnit(new Unit(8, UnitClass.TIREUR));
+            statsService.updateCombatStats(player, board);
+            assertEquals(100.0, player.getStats().getTotalAtk());
+
+            own(2);
+            board.getSector(2).setIncome(500.0);
+            statsService.calculateTotalIncome(player, board);
+            assertEquals(2500.0, player.getStats().getTotalIncome());
+
+            board.assignOwner(1, 2L, "#0000FF");
+            statsService.updateCombatStats(player, board);
+            assertEquals(0.0, player.getStats().getTotalAtk());
+        }
+
+        @Test
+        @DisplayName("recalculateStats resynchronise les statistiques des secteurs possédés")
+        void shouldResyncSectorStatsOnRecalculate() {
+            own(1);
+            board.getSector(1).getVehicles().add(new Vehicle(VehicleType.TOURELLE, 1L)); // 25 pdf, 40 def
+
+            statsService.recalculateStats(player, board);
+
+            assertEquals(25.0, board.getSector(1).getStats().getTotalPdf());
+            assertEquals(25.0, player.getStats().getTotalPdf());
+        }
+    }
 }
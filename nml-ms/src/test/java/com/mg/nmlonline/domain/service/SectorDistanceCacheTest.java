@@ -0,0 +1,77 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.domain.model.sector.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de {@link SectorDistanceCache} : oracle partagé entre rechargements d'un même
+ * plateau, remplacé quand la topologie change, évincé à la suppression du plateau.
+ */
+@DisplayName("SectorDistanceCache — oracles de distances par plateau")
+class SectorDistanceCacheTest {
+
+    private final SectorDistanceCache cache = new SectorDistanceCache();
+
+    @Test
+    @DisplayName("Plateau rechargé avec la même topologie : même oracle, lignes déjà calculées")
+    void shouldShareOracleAcrossReloads() {
+        Board board = chain(1L);
+        assertEquals(3, cache.distances(board).distance(1, 4));
+
+        Board reloaded = chain(1L);
+
+        assertSame(cache.distances(board), cache.distances(reloaded));
+        assertEquals(reloaded.sectorGraph().topologyVersion(), board.sectorGraph().topologyVersion());
+    }
+
+    @Test
+    @DisplayName("Topologie modifiée : nouvel oracle, nouvelles distances")
+    void shouldReplaceOracleOnTopologyChange() {
+        Board board = chain(1L);
+        assertEquals(3, cache.distances(board).distance(1, 4));
+
+        Board changed = chain(1L);
+        changed.getSector(1).addNeighbor(4);
+
+        assertNotSame(cache.distances(board), cache.distances(changed));
+        assertEquals(1, cache.distances(changed).distance(1, 4));
+    }
+
+    @Test
+    @DisplayName("Plateau supprimé : l'oracle est oublié")
+    void shouldEvictDeletedBoard() {
+        Board board = chain(1L);
+        var before = cache.distances(board);
+
+        cache.evict(1L);
+
+        assertNotSame(before, cache.distances(chain(1L)));
+    }
+
+    @Test
+    @DisplayName("Plateau non persisté : oracle propre à son graphe, hors cache")
+    void shouldNotCacheTransientBoard() {
+        Board board = chain(null);
+
+        assertSame(board.sectorGraph().distances(), cache.distances(board));
+        assertNotSame(cache.distances(board), cache.distances(chain(null)));
+    }
+
+    /** Chaîne 1 - 2 - 3 - 4. */
+    private static Board chain(Long id) {
+        Board board = new Board();
+        board.setId(id);
+        for (int i = 1; i <= 4; i++) {
+            board.addSector(new Sector(i));
+        }
+        for (int i = 1; i < 4; i++) {
+            board.getSector(i).addNeighbor(i + 1);
+            board.getSector(i + 1).addNeighbor(i);
+        }
+        return board;
+    }
+}
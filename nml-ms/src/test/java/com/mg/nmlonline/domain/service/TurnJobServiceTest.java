@@ -0,0 +1,143 @@
+package com.mg.nmlonline.domain.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires de {@link TurnJobService} : soumission, suivi des étapes pendant la
+ * résolution, résultat final, échec et refus d'une seconde soumission.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TurnJobService")
+class TurnJobServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Mock
+    TurnService turnService;
+
+    private TurnJobService turnJobService;
+
+    @BeforeEach
+    void setUp() {
+        turnJobService = new TurnJobService(turnService, 20);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        turnJobService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Suivi d'un job")
+    class ProgressTests {
+
+        @Test
+        @DisplayName("Étape en cours et pourcentage visibles pendant la résolution, résultat à la fin")
+        void shouldReportProgressThenResult() throws Exception {
+            CountDownLatch midTurn = new CountDownLatch(1);
+            CountDownLatch resume = new CountDownLatch(1);
+            when(turnService.endTurn(any(TurnProgressListener.class))).thenAnswer(invocation -> {
+                TurnProgressListener listener = invocation.getArgument(0);
+                listener.stageStarted("movement", 0, 3);
+                listener.stageCompleted("movement", 0, 3, 12, 5_000_000);
+                listener.stageStarted("battles", 1, 3);
+                midTurn.countDown();
+                assertTrue(resume.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                listener.stageCompleted("battles", 1, 3, 2, 1_000_000);
+                listener.stageStarted("income", 2, 3);
+                listener.stageCompleted("income", 2, 3, 4, 1_000_000);
+                return new TurnService.TurnResult(8, List.of());
+            });
+
+            TurnJobService.TurnJob submitted = turnJobService.submit();
+            assertTrue(midTurn.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            TurnJobService.TurnJob running = turnJobService.get(submitted.id());
+            assertEquals(TurnJobService.Status.RUNNING, running.status());
+            assertEquals("battles", running.currentStage());
+            assertEquals(25, running.percent());
+            assertEquals(List.of(new TurnJobService.StageProgress("movement", 12, 5)), running.completedStages());
+            assertNull(running.result());
+
+            resume.countDown();
+            TurnJobService.TurnJob done = awaitFinished(submitted.id());
+            assertEquals(TurnJobService.Status.SUCCEEDED, done.status());
+            assertEquals(100, done.percent());
+            assertNull(done.currentStage());
+            assertEquals(3, done.completedStages().size());
+            assertEquals(8, done.result().currentTurn());
+            assertNotNull(done.finishedAt());
+        }
+
+        @Test
+        @DisplayName("Échec de la fin de tour : job FAILED avec la cause")
+        void shouldReportFailure() throws Exception {
+            when(turnService.endTurn(any(TurnProgressListener.class)))
+                    .thenThrow(new IllegalStateException("Aucun plateau trouvé pour avancer le tour"));
+
+            TurnJobService.TurnJob done = awaitFinished(turnJobService.submit().id());
+
+            assertEquals(TurnJobService.Status.FAILED, done.status());
+            assertEquals("Aucun plateau trouvé pour avancer le tour", done.error());
+            assertNull(done.result());
+        }
+
+        @Test
+        @DisplayName("Job inconnu : EntityNotFoundException (404)")
+        void shouldRejectUnknownJob() {
+            assertThrows(EntityNotFoundException.class, () -> turnJobService.get(42));
+        }
+    }
+
+    @Nested
+    @DisplayName("Soumissions concurrentes")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Une seconde soumission est refusée tant que la première n'est pas terminée")
+        void shouldRejectSubmissionWhileRunning() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            when(turnService.endTurn(any(TurnProgressListener.class))).thenAnswer(invocation -> {
+                assertTrue(release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                return new TurnService.TurnResult(2, List.of());
+            });
+
+            long first = turnJobService.submit().id();
+            assertThrows(IllegalStateException.class, () -> turnJobService.submit());
+
+            release.countDown();
+            awaitFinished(first);
+            assertNotEquals(first, turnJobService.submit().id());
+            awaitFinished(first + 1);
+        }
+    }
+
+    private TurnJobService.TurnJob awaitFinished(long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            TurnJobService.TurnJob job = turnJobService.get(jobId);
+            if (job.status() == TurnJobService.Status.SUCCEEDED || job.status() == TurnJobService.Status.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Le job " + jobId + " ne s'est pas terminé");
+        return null;
+    }
+}
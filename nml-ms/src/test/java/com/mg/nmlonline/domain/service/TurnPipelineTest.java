@@ -0,0 +1,101 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de {@link TurnPipeline} : ordre des étapes, validation des dépendances
+ * déclarées et métriques par étape.
+ */
+@DisplayName("TurnPipeline Unit Tests")
+class TurnPipelineTest {
+
+    /** Étape factice : journalise son passage et traite {@code entities} entités. */
+    private record FakeStage(String name, int order, Set<TurnArtifact> requires, Set<TurnArtifact> produces,
+                             int entities, List<String> log) implements TurnStage {
+        @Override
+        public int run(TurnContext context) {
+            log.add(name);
+            return entities;
+        }
+    }
+
+    private final List<String> log = new ArrayList<>();
+
+    @Nested
+    @DisplayName("Ordonnancement")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Les étapes s'exécutent dans l'ordre de order(), pas dans l'ordre d'injection")
+        void shouldRunStagesByOrder() {
+            TurnPipeline pipeline = new TurnPipeline(List.of(
+                    stage("income", 300, Set.of(TurnArtifact.BATTLES), Set.of(TurnArtifact.INCOME)),
+                    stage("movement", 100, Set.of(TurnArtifact.BOARD), Set.of(TurnArtifact.MOVEMENTS)),
+                    stage("battles", 200, Set.of(TurnArtifact.MOVEMENTS), Set.of(TurnArtifact.BATTLES))),
+                    new SimpleMeterRegistry());
+
+            pipeline.run(context());
+
+            assertEquals(List.of("movement", "battles", "income"), pipeline.stageNames());
+            assertEquals(List.of("movement", "battles", "income"), log);
+        }
+
+        @Test
+        @DisplayName("Une donnée lue avant d'être produite est refusée au démarrage")
+        void shouldRejectMissingInput() {
+            List<TurnStage> stages = List.of(
+                    stage("income", 100, Set.of(TurnArtifact.BATTLES), Set.of(TurnArtifact.INCOME)),
+                    stage("battles", 200, Set.of(TurnArtifact.BOARD), Set.of(TurnArtifact.BATTLES)));
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> new TurnPipeline(stages, registry));
+            assertTrue(error.getMessage().contains("income"));
+            assertTrue(error.getMessage().contains("BATTLES"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Métriques")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Durée et nombre d'entités enregistrés par étape")
+        void shouldRecordTimerAndEntitiesPerStage() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            TurnPipeline pipeline = new TurnPipeline(List.of(
+                    new FakeStage("movement", 100, Set.of(), Set.of(TurnArtifact.MOVEMENTS), 7, log),
+                    new FakeStage("battles", 200, Set.of(TurnArtifact.MOVEMENTS), Set.of(TurnArtifact.BATTLES), 2, log)),
+                    registry);
+
+            pipeline.run(context());
+            pipeline.run(context());
+
+            Timer timer = registry.get(TurnPipeline.STAGE_TIMER).tag("stage", "movement").timer();
+            assertEquals(2, timer.count());
+            DistributionSummary entities = registry.get(TurnPipeline.STAGE_ENTITIES).tag("stage", "battles").summary();
+            assertEquals(2, entities.count());
+            assertEquals(4, entities.totalAmount());
+        }
+    }
+
+    private FakeStage stage(String name, int order, Set<TurnArtifact> requires, Set<TurnArtifact> produces) {
+        return new FakeStage(name, order, requires, produces, 0, log);
+    }
+
+    private static TurnContext context() {
+        return new TurnContext(new Board(), 1, List.of());
+    }
+}
@@ -0,0 +1,139 @@
+package com.mg.nmlonline.domain.service;
+
+import com.mg.nmlonline.domain.model.board.Board;
+import com.mg.nmlonline.infrastructure.repository.BoardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration de {@link TurnScheduler} : échéances, rattrapage des tours manqués et
+ * exclusion mutuelle par le verrou du plateau. Le scheduler est désactivé dans le profil
+ * {@code test} : il est construit ici et piloté par des instants explicites.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TurnScheduler — fins de tour planifiées")
+class TurnSchedulerTest {
+
+    private static final Duration CADENCE = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Autowired
+    private TurnService turnService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void clearSchedule() {
+        setNextTurnAt(null);
+    }
+
+    @Test
+    @DisplayName("Premier passage : l'échéance est planifiée, aucun tour terminé")
+    void shouldScheduleFirstDeadlineWithoutAdvancing() {
+        setNextTurnAt(null);
+        int turn = turnService.getCurrentTurn();
+
+        assertEquals(0, scheduler(3).tick(NOW));
+
+        assertEquals(turn, turnService.getCurrentTurn());
+        assertEquals(NOW.plus(CADENCE), nextTurnAt());
+    }
+
+    @Test
+    @DisplayName("Échéance à venir : rien ne se passe")
+    void shouldNotAdvanceBeforeDeadline() {
+        setNextTurnAt(NOW.plusSeconds(1));
+        int turn = turnService.getCurrentTurn();
+
+        assertEquals(0, scheduler(3).tick(NOW));
+
+        assertEquals(turn, turnService.getCurrentTurn());
+        assertEquals(NOW.plusSeconds(1), nextTurnAt());
+    }
+
+    @Test
+    @DisplayName("Échéances manquées : rattrapage borné, le reste est abandonné dans la même cadence")
+    void shouldCatchUpMissedTicksWithinLimit() {
+        Instant due = NOW.minus(CADENCE.multipliedBy(2)).minusSeconds(60); // 3 échéances passées
+        setNextTurnAt(due);
+        int turn = turnService.getCurrentTurn();
+        double skippedBefore = meterRegistry.counter("nml.turn.scheduler.skipped").count();
+
+        assertEquals(2, scheduler(2).tick(NOW));
+
+        assertEquals(turn + 2, turnService.getCurrentTurn());
+        assertEquals(due.plus(CADENCE.multipliedBy(3)), nextTurnAt());
+        assertTrue(nextTurnAt().isAfter(NOW));
+        assertEquals(skippedBefore + 1, meterRegistry.counter("nml.turn.scheduler.skipped").count());
+    }
+
+    @Test
+    @DisplayName("Deux passages simultanés sur une échéance : un seul tour terminé, bail mesuré")
+    void shouldAdvanceOnceWhenTickedConcurrently() throws Exception {
+        setNextTurnAt(NOW.minusSeconds(1));
+        int turn = turnService.getCurrentTurn();
+        long leasesBefore = meterRegistry.get("nml.turn.lease").tag("trigger", "scheduler").timer().count();
+        TurnScheduler first = scheduler(3);
+        TurnScheduler second = scheduler(3);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService instances = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> a = instances.submit(() -> {
+                start.await();
+                return first.tick(NOW);
+            });
+            Future<Integer> b = instances.submit(() -> {
+                start.await();
+                return second.tick(NOW);
+            });
+            start.countDown();
+            assertEquals(1, a.get(60, TimeUnit.SECONDS) + b.get(60, TimeUnit.SECONDS));
+        } finally {
+            instances.shutdownNow();
+        }
+
+        assertEquals(turn + 1, turnService.getCurrentTurn());
+        assertEquals(NOW.minusSeconds(1).plus(CADENCE), nextTurnAt());
+        assertTrue(meterRegistry.get("nml.turn.lease").tag("trigger", "scheduler").timer().count() > leasesBefore);
+    }
+
+    private TurnScheduler scheduler(int maxCatchUp) {
+        return new TurnScheduler(turnService, meterRegistry, CADENCE, maxCatchUp);
+    }
+
+    private void setNextTurnAt(Instant nextTurnAt) {
+        transactionTemplate.executeWithoutResult(status -> boardRepository.findFirstByOrderByIdAsc()
+                .ifPresent(board -> board.setNextTurnAt(nextTurnAt)));
+    }
+
+    private Instant nextTurnAt() {
+        return transactionTemplate.execute(status -> boardRepository.findFirstByOrderByIdAsc()
+                .map(Board::getNextTurnAt)
+                .orElseThrow());
+    }
+}
@@ -2,7 +2,9 @@ package com.mg.nmlonline.domain.service;
 
 import com.mg.nmlonline.domain.model.movement.MovementOrder;
 import com.mg.nmlonline.domain.model.movement.MovementStatus;
+import com.mg.nmlonline.domain.model.player.Player;
 import com.mg.nmlonline.infrastructure.repository.MovementOrderRepository;
+import com.mg.nmlonline.infrastructure.repository.PlayerRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,19 +12,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests d'intégration de {@link TurnService} : la source unique de vérité du
  * tour courant. {@code advanceTurn} doit (1) résoudre les ordres de déplacement
- * PENDING du tour qui se termine, puis (2) incrémenter le compteur persisted.
+ * PENDING du tour qui se termine, (2) créditer les revenus des joueurs, puis (3)
+ * incrémenter le compteur persisted.
  *
  * <p>Données fournies par {@code PlayerStartupImporter} (nursek/lurio) au
  * démarrage du profil {@code test}.
@@ -38,6 +44,9 @@ class TurnServiceTest {
     @Autowired
     private MovementOrderRepository movementOrderRepository;
 
+    @Autowired
+    private PlayerRepository playerRepository;
+
     @Test
     @DisplayName("advanceTurn résout les ordres PENDING puis incrémente currentTurn")
     void advanceTurnResolvesPendingAndIncrements() {
@@ -64,6 +73,24 @@ class TurnServiceTest {
         movementOrderRepository.deleteById(order.getId());
     }
 
+    @Test
+    @DisplayName("advanceTurn crédite à chaque joueur les revenus de ses secteurs")
+    void advanceTurnCreditsIncome() {
+        Map<Long, Double> moneyBefore = playerRepository.findAll().stream()
+                .collect(Collectors.toMap(Player::getId, p -> p.getStats().getMoney()));
+
+        turnService.advanceTurn();
+
+        Map<Long, Player> after = playerRepository.findAll().stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        assertFalse(after.isEmpty(), "Des joueurs doivent être importés au démarrage");
+        moneyBefore.forEach((id, money) -> {
+            double income = after.get(id).getStats().getTotalIncome();
+            assertEquals(money + income, after.get(id).getStats().getMoney(), 1e-6,
+                    "Solde du joueur " + id + " après les revenus du tour");
+        });
+    }
+
     @Test
     @DisplayName("advanceTurn rejette un 2e appel concurrent (garde anti double-clic)")
     void advanceTurnRejectsConcurrentCall() throws Exception {